@@ -0,0 +1,35 @@
+package org.folio.entlinks.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.folio.entlinks.config.properties.CacheSpecProperties;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Responsible for caches that require configuration different from the default caffeine spec.
+ * All configured caches record statistics, so they are exposed through cache metrics.
+ */
+@Configuration
+public class CacheConfiguration {
+
+  /**
+   * Registers caches configured in {@link CacheSpecProperties}.
+   * Caches with refresh are skipped, they are registered by their owners together with a loader.
+   *
+   * @return {@link CacheManagerCustomizer} object as Spring bean.
+   */
+  @Bean
+  public CacheManagerCustomizer<CaffeineCacheManager> cacheSpecsCustomizer(CacheSpecProperties properties) {
+    return cacheManager -> properties.getSpecs().forEach((cacheName, spec) -> {
+      if (spec.getRefreshAfter() == null) {
+        cacheManager.registerCustomCache(cacheName, Caffeine.newBuilder()
+          .maximumSize(spec.getMaxSize())
+          .expireAfterWrite(spec.getTtl())
+          .recordStats()
+          .build());
+      }
+    });
+  }
+}
@@ -0,0 +1,111 @@
+package org.folio.entlinks.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.datasource.DataSourcePools;
+import org.folio.entlinks.config.datasource.DataSourceWorkload;
+import org.folio.entlinks.config.datasource.ReadReplicaLagMonitor;
+import org.folio.entlinks.config.datasource.ReadReplicaQueryAspect;
+import org.folio.entlinks.config.datasource.ReadReplicaRoutingDataSource;
+import org.folio.entlinks.config.datasource.WorkloadRoutingDataSource;
+import org.folio.entlinks.config.properties.WorkloadPoolsProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+/**
+ * Responsible for routing of connections to several pools.
+ * When workload pools or the read replica are enabled, the auto-configured datasource is replaced by a routing one.
+ * All pools are configured with {@code spring.datasource} properties unless overridden, report metrics under
+ * their pool names and are closed on shutdown.
+ */
+@Log4j2
+@Configuration
+@ConditionalOnExpression("${folio.workload-pools.enabled:false} or ${folio.read-replica.enabled:false}")
+public class DataSourceConfiguration {
+
+  private static final String HIKARI_PROPERTIES_PREFIX = "spring.datasource.hikari";
+  private static final String PRIMARY_POOL_NAME = "primary";
+
+  /**
+   * Creates connection pools of the routing datasource, closed on shutdown after the datasource users.
+   *
+   * @return {@link DataSourcePools} object as Spring bean.
+   */
+  @Bean(destroyMethod = "close")
+  public DataSourcePools dataSourcePools(DataSourceProperties dataSourceProperties, Environment environment,
+                                         MeterRegistry meterRegistry,
+                                         WorkloadPoolsProperties workloadPoolsProperties) {
+    var pools = new EnumMap<DataSourceWorkload, HikariDataSource>(DataSourceWorkload.class);
+    if (workloadPoolsProperties.isEnabled()) {
+      log.info("Using workload connection pools [kafka: {}, background: {}]",
+        workloadPoolsProperties.getKafka(), workloadPoolsProperties.getBackground());
+      pools.put(DataSourceWorkload.REST, createPool(dataSourceProperties, environment, meterRegistry, "rest"));
+      pools.put(DataSourceWorkload.KAFKA, createWorkloadPool(dataSourceProperties, environment, meterRegistry,
+        "kafka", workloadPoolsProperties.getKafka()));
+      pools.put(DataSourceWorkload.BACKGROUND, createWorkloadPool(dataSourceProperties, environment, meterRegistry,
+        "background", workloadPoolsProperties.getBackground()));
+    } else {
+      pools.put(DataSourceWorkload.REST, createPool(dataSourceProperties, environment, meterRegistry,
+        PRIMARY_POOL_NAME));
+    }
+    return new DataSourcePools(pools);
+  }
+
+  /**
+   * Creates datasource routing connections by workload and read replica queries to the read replica.
+   *
+   * @return {@link DataSource} object as Spring bean.
+   */
+  @Bean
+  @Primary
+  public DataSource dataSource(DataSourcePools dataSourcePools, WorkloadPoolsProperties workloadPoolsProperties,
+                               ObjectProvider<ReadReplicaQueryAspect> queryAspect,
+                               ObjectProvider<ReadReplicaLagMonitor> lagMonitor) {
+    DataSource primary = workloadPoolsProperties.isEnabled()
+                         ? new WorkloadRoutingDataSource(dataSourcePools.getPools())
+                         : dataSourcePools.getDefaultPool();
+
+    var monitor = lagMonitor.getIfAvailable();
+    if (monitor == null) {
+      return primary;
+    }
+    return new ReadReplicaRoutingDataSource(primary, monitor.getReplicaDataSource(),
+      queryAspect.getObject(), monitor);
+  }
+
+  /**
+   * Creates a pool configured with {@code spring.datasource} properties.
+   *
+   * @param poolName pool name, used as the pool tag of the pool metrics
+   * @return {@link HikariDataSource} object
+   */
+  static HikariDataSource createPool(DataSourceProperties dataSourceProperties, Environment environment,
+                                     MeterRegistry meterRegistry, String poolName) {
+    var pool = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    Binder.get(environment).bind(HIKARI_PROPERTIES_PREFIX, Bindable.ofInstance(pool));
+    pool.setPoolName(poolName);
+    pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    return pool;
+  }
+
+  private static HikariDataSource createWorkloadPool(DataSourceProperties dataSourceProperties,
+                                                     Environment environment, MeterRegistry meterRegistry,
+                                                     String poolName, WorkloadPoolsProperties.Pool properties) {
+    var pool = createPool(dataSourceProperties, environment, meterRegistry, poolName);
+    pool.setMaximumPoolSize(properties.getMaximumPoolSize());
+    pool.setMinimumIdle(Math.min(pool.getMinimumIdle(), properties.getMaximumPoolSize()));
+    pool.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+    return pool;
+  }
+}
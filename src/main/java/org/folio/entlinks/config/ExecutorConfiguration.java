@@ -0,0 +1,88 @@
+package org.folio.entlinks.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.folio.entlinks.config.datasource.DataSourceWorkload;
+import org.folio.entlinks.config.properties.ConsortiumPropagationProperties;
+import org.folio.entlinks.config.properties.InstanceStorageProperties;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Responsible for executors configuration.
+ */
+@Configuration
+public class ExecutorConfiguration {
+
+  /**
+   * Creates bounded executor for concurrent requests to inventory-storage.
+   * When all threads are busy and the queue is full, requests are executed by the calling thread.
+   *
+   * @return {@link TaskExecutor} object as Spring bean.
+   */
+  @Bean
+  public TaskExecutor instanceStorageExecutor(InstanceStorageProperties properties) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(properties.getConcurrency());
+    executor.setMaxPoolSize(properties.getConcurrency());
+    executor.setQueueCapacity(properties.getConcurrency() * 10);
+    executor.setThreadNamePrefix("instance-storage-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Creates bounded executor for propagation of entities to consortium member tenants.
+   *
+   * @return {@link TaskExecutor} object as Spring bean.
+   */
+  @Bean
+  public TaskExecutor consortiumPropagationExecutor(ConsortiumPropagationProperties properties) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(properties.getConcurrency());
+    executor.setMaxPoolSize(properties.getConcurrency());
+    executor.setThreadNamePrefix("consortium-propagation-");
+    executor.setTaskDecorator(DataSourceWorkload.BACKGROUND::decorate);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Creates bounded executor for processing changes of shadow authorities in consortium member tenants.
+   * When all threads are busy and the queue is full, member tenants are processed by the calling thread.
+   * Changes come from Kafka consumers, so the executor uses the Kafka workload connections.
+   *
+   * @return {@link TaskExecutor} object as Spring bean.
+   */
+  @Bean
+  public TaskExecutor shadowAuthorityExecutor(ConsortiumPropagationProperties properties) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(properties.getShadowAuthorityConcurrency());
+    executor.setMaxPoolSize(properties.getShadowAuthorityConcurrency());
+    executor.setQueueCapacity(properties.getShadowAuthorityConcurrency() * 10);
+    executor.setThreadNamePrefix("shadow-authority-");
+    executor.setTaskDecorator(DataSourceWorkload.KAFKA::decorate);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Creates bounded executor of {@code @Async} jobs configured with {@code spring.task.execution} properties.
+   * Spring Boot doesn't auto-configure it when other executors are defined, so it is declared explicitly with
+   * the same names and pool settings as the auto-configured one. Other executors are injected by qualifiers only.
+   * The jobs (reindex, archives expiration, scheduling of consortium propagation) use the background workload
+   * connections.
+   *
+   * @return {@link ThreadPoolTaskExecutor} object as Spring bean.
+   */
+  @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+  public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+    return builder.taskDecorator(DataSourceWorkload.BACKGROUND::decorate).build();
+  }
+}
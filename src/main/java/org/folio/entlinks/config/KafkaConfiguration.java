@@ -8,16 +8,20 @@ import java.util.HashMap;
 import java.util.Map;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.folio.entlinks.config.datasource.DataSourceWorkload;
+import org.folio.entlinks.config.properties.InstanceAuthorityStatsProperties;
 import org.folio.entlinks.domain.dto.LinkUpdateReport;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
 import org.folio.entlinks.integration.dto.event.DomainEvent;
 import org.folio.entlinks.integration.kafka.AuthorityChangeFilterStrategy;
 import org.folio.entlinks.integration.kafka.EventProducer;
+import org.folio.entlinks.integration.kafka.InstanceAuthorityStatsEventListener;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
@@ -25,6 +29,7 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.CommonLoggingErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
@@ -67,12 +72,22 @@ public class KafkaConfiguration {
    * Creates and configures {@link org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory} as
    * Spring bean for consuming link update report events from Apache Kafka.
    *
+   * <p>Offsets are committed manually once buffered reports are flushed by {@link InstanceAuthorityStatsEventListener},
+   * idle events are published to flush the buffer when no new reports arrive.</p>
+   *
    * @return {@link org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory} object as Spring bean.
    */
   @Bean
   public ConcurrentKafkaListenerContainerFactory<String, LinkUpdateReport> statsListenerFactory(
-    ConsumerFactory<String, LinkUpdateReport> consumerFactory) {
-    return listenerFactory(consumerFactory);
+    ConsumerFactory<String, LinkUpdateReport> consumerFactory,
+    InstanceAuthorityStatsEventListener statsEventListener,
+    InstanceAuthorityStatsProperties statsProperties) {
+    var factory = listenerFactory(consumerFactory);
+    var containerProperties = factory.getContainerProperties();
+    containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+    containerProperties.setIdleEventInterval(statsProperties.getMaxWait().toMillis());
+    containerProperties.setConsumerRebalanceListener(statsEventListener);
+    return factory;
   }
 
   /**
@@ -172,9 +187,21 @@ public class KafkaConfiguration {
     factory.setBatchListener(true);
     factory.setConsumerFactory(consumerFactory);
     factory.setCommonErrorHandler(new CommonLoggingErrorHandler());
+    factory.setContainerCustomizer(container -> container.getContainerProperties()
+      .setListenerTaskExecutor(consumerExecutor(container.getBeanName())));
     return factory;
   }
 
+  /**
+   * Creates executor of consumer threads named after the container, marking them with the Kafka workload,
+   * so that listeners use the Kafka workload connections.
+   */
+  private SimpleAsyncTaskExecutor consumerExecutor(String containerName) {
+    var executor = new SimpleAsyncTaskExecutor(containerName + "-C-");
+    executor.setTaskDecorator(DataSourceWorkload.KAFKA::decorate);
+    return executor;
+  }
+
   private <T> ConsumerFactory<String, T> consumerFactoryForEvent(KafkaProperties kafkaProperties, Class<T> eventClass) {
     var deserializer = new JsonDeserializer<>(eventClass, objectMapper, false);
     Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
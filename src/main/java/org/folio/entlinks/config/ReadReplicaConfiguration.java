@@ -0,0 +1,61 @@
+package org.folio.entlinks.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.entlinks.config.datasource.ReadReplicaLagMonitor;
+import org.folio.entlinks.config.datasource.ReadReplicaQueryAspect;
+import org.folio.entlinks.config.properties.ReadReplicaProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Responsible for the read replica pool and its lag monitoring.
+ * Reads of {@link org.folio.entlinks.config.datasource.ReadReplicaQuery} methods are routed to the read replica by
+ * the datasource created in {@link DataSourceConfiguration}.
+ */
+@Log4j2
+@Configuration
+@ConditionalOnProperty(name = "folio.read-replica.enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+  private static final String REPLICA_POOL_NAME = "read-replica";
+
+  /**
+   * Creates aspect marking execution of read replica query methods for connection routing.
+   *
+   * @return {@link ReadReplicaQueryAspect} object as Spring bean.
+   */
+  @Bean
+  public ReadReplicaQueryAspect readReplicaQueryAspect() {
+    return new ReadReplicaQueryAspect();
+  }
+
+  /**
+   * Creates monitor of the read replica lag, owning the read replica pool.
+   *
+   * @return {@link ReadReplicaLagMonitor} object as Spring bean.
+   */
+  @Bean(initMethod = "start", destroyMethod = "close")
+  public ReadReplicaLagMonitor readReplicaLagMonitor(DataSourceProperties dataSourceProperties,
+                                                     ReadReplicaProperties properties, Environment environment,
+                                                     MeterRegistry meterRegistry) {
+    log.info("Routing read replica queries to read replica [url: {}, max lag: {}]",
+      properties.getUrl(), properties.getMaxLag());
+    var replica = DataSourceConfiguration.createPool(dataSourceProperties, environment, meterRegistry,
+      REPLICA_POOL_NAME);
+    replica.setJdbcUrl(properties.getUrl());
+    if (StringUtils.isNotBlank(properties.getUsername())) {
+      replica.setUsername(properties.getUsername());
+      replica.setPassword(properties.getPassword());
+    }
+    replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+    replica.setMinimumIdle(Math.min(replica.getMinimumIdle(), properties.getMaximumPoolSize()));
+    replica.setReadOnly(true);
+    return new ReadReplicaLagMonitor(new JdbcTemplate(replica), properties, meterRegistry);
+  }
+}
@@ -0,0 +1,14 @@
+package org.folio.entlinks.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables in-module scheduled jobs.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "folio.authority-archive.expire.scheduler.enabled", havingValue = "true")
+public class SchedulingConfiguration {
+}
@@ -0,0 +1,126 @@
+package org.folio.entlinks.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.folio.entlinks.config.properties.CacheSpecProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates caches of tenant scoped values, configured by {@link CacheSpecProperties} for the cache name.
+ *
+ * <p>Caches are registered in {@link CaffeineCacheManager} to be managed together with other caches
+ * and their statistics are exposed through cache metrics. Entries are refreshed in background after configured
+ * {@code refreshAfter} with the execution context of the thread that triggered the refresh.
+ */
+@Component
+public class TenantCacheFactory {
+
+  private final CacheSpecProperties cacheSpecProperties;
+  private final FolioExecutionContext context;
+  private final CacheManager cacheManager;
+  private final MeterRegistry meterRegistry;
+  private final Ticker ticker;
+  private final Executor executor;
+
+  @Autowired
+  public TenantCacheFactory(CacheSpecProperties cacheSpecProperties, FolioExecutionContext context,
+                            CacheManager cacheManager, MeterRegistry meterRegistry) {
+    this(cacheSpecProperties, context, cacheManager, meterRegistry, Ticker.systemTicker(), null);
+  }
+
+  public TenantCacheFactory(CacheSpecProperties cacheSpecProperties, FolioExecutionContext context,
+                            CacheManager cacheManager, MeterRegistry meterRegistry, Ticker ticker,
+                            Executor executor) {
+    this.cacheSpecProperties = cacheSpecProperties;
+    this.context = context;
+    this.cacheManager = cacheManager;
+    this.meterRegistry = meterRegistry;
+    this.ticker = ticker;
+    this.executor = executor == null ? contextAwareExecutor() : executor;
+  }
+
+  /**
+   * Creates a cache loading values by key.
+   *
+   * @param cacheName cache name
+   * @param loader    function loading a value for a key in the current execution context
+   * @param ttl       function resolving time to live of a loaded value from the value and the configured ttl
+   * @return loading cache
+   */
+  @SuppressWarnings("unchecked")
+  public <V> LoadingCache<String, V> create(String cacheName, Function<String, V> loader,
+                                            BiFunction<V, Duration, Duration> ttl) {
+    var spec = cacheSpecProperties.getSpec(cacheName);
+    var builder = Caffeine.newBuilder()
+      .maximumSize(spec.getMaxSize())
+      .expireAfter(new ValueExpiry<>(spec.getTtl(), ttl))
+      .executor(executor)
+      .ticker(ticker)
+      .recordStats();
+    if (spec.getRefreshAfter() != null) {
+      builder.refreshAfterWrite(spec.getRefreshAfter());
+    }
+    LoadingCache<String, V> cache = builder.build(loader::apply);
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+    if (cacheManager instanceof CaffeineCacheManager caffeineCacheManager) {
+      caffeineCacheManager.registerCustomCache(cacheName, (Cache<Object, Object>) (Cache<?, ?>) cache);
+    }
+    return cache;
+  }
+
+  /**
+   * Runs background refreshes with the execution context of the thread that triggered the refresh.
+   */
+  private Executor contextAwareExecutor() {
+    return task -> {
+      var moduleMetadata = context.getFolioModuleMetadata();
+      var headers = context.getAllHeaders();
+      ForkJoinPool.commonPool().execute(() -> {
+        try (var ignored = new FolioExecutionContextSetter(moduleMetadata, headers)) {
+          task.run();
+        }
+      });
+    };
+  }
+
+  private static final class ValueExpiry<V> implements Expiry<String, V> {
+
+    private final Duration defaultTtl;
+    private final BiFunction<V, Duration, Duration> ttl;
+
+    private ValueExpiry(Duration defaultTtl, BiFunction<V, Duration, Duration> ttl) {
+      this.defaultTtl = defaultTtl;
+      this.ttl = ttl;
+    }
+
+    @Override
+    public long expireAfterCreate(String key, V value, long currentTime) {
+      return ttl.apply(value, defaultTtl).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -10,4 +10,7 @@ public class CacheNames {
   public static final String AUTHORITY_LINKING_RULES_CACHE = "authority-linking-rules-cache";
   public static final String CONSORTIUM_TENANTS_CACHE = "consortium-tenants-cache";
   public static final String CONSORTIUM_CENTRAL_TENANT = "consortium-central-tenant-cache";
+  public static final String CONSORTIUM_ID_CACHE = "consortium-id-cache";
+  public static final String USERS_CACHE = "users-cache";
+  public static final String INSTANCE_TITLES_CACHE = "instance-titles-cache";
 }
@@ -0,0 +1,36 @@
+package org.folio.entlinks.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Collections;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Owns the connection pools of the routing datasource, so that they are closed on shutdown.
+ * The routing datasource itself is wrapped by a post-processor and can't declare a destroy method.
+ */
+@Log4j2
+public class DataSourcePools implements AutoCloseable {
+
+  private final Map<DataSourceWorkload, HikariDataSource> pools;
+
+  public DataSourcePools(Map<DataSourceWorkload, HikariDataSource> pools) {
+    this.pools = Collections.unmodifiableMap(pools);
+  }
+
+  public Map<DataSourceWorkload, HikariDataSource> getPools() {
+    return pools;
+  }
+
+  public HikariDataSource getDefaultPool() {
+    return pools.get(DataSourceWorkload.REST);
+  }
+
+  @Override
+  public void close() {
+    for (var pool : pools.values()) {
+      log.info("Closing connection pool [name: {}]", pool.getPoolName());
+      pool.close();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package org.folio.entlinks.config.datasource;
+
+/**
+ * Workload a thread acquires database connections for. Threads are marked by decorating the tasks they run,
+ * unmarked threads are considered to serve REST requests.
+ */
+public enum DataSourceWorkload {
+
+  REST,
+  KAFKA,
+  BACKGROUND;
+
+  private static final ThreadLocal<DataSourceWorkload> CURRENT = new ThreadLocal<>();
+
+  /**
+   * Returns the workload of the current thread.
+   *
+   * @return workload of the current thread, {@link #REST} if the thread is not marked
+   */
+  public static DataSourceWorkload current() {
+    var workload = CURRENT.get();
+    return workload == null ? REST : workload;
+  }
+
+  /**
+   * Decorates the task to be run as this workload. Can be used as
+   * {@link org.springframework.core.task.TaskDecorator}.
+   *
+   * @param task task to decorate
+   * @return task marking the thread with this workload while it is running
+   */
+  public Runnable decorate(Runnable task) {
+    return () -> {
+      var previous = CURRENT.get();
+      CURRENT.set(this);
+      try {
+        task.run();
+      } finally {
+        if (previous == null) {
+          CURRENT.remove();
+        } else {
+          CURRENT.set(previous);
+        }
+      }
+    };
+  }
+
+  /**
+   * Runs the task as this workload in the current thread.
+   *
+   * @param task task to run
+   */
+  public void run(Runnable task) {
+    decorate(task).run();
+  }
+}
@@ -0,0 +1,101 @@
+package org.folio.entlinks.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.properties.ReadReplicaProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Periodically checks replication lag of the read replica and owns the read replica pool.
+ *
+ * <p>The replica is considered available only while its last checked lag doesn't exceed the configured max lag.
+ * Until the first successful check and after a failed check the replica is unavailable, so reads fall back to
+ * the primary.</p>
+ */
+@Log4j2
+public class ReadReplicaLagMonitor implements AutoCloseable {
+
+  static final String AVAILABLE_METRIC = "db.read.replica.available";
+  static final String LAG_METRIC = "db.read.replica.lag";
+  static final String LAG_QUERY = """
+    SELECT CASE
+      WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+      ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+    END""";
+
+  private final JdbcTemplate replicaJdbcTemplate;
+  private final ReadReplicaProperties properties;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    var thread = new Thread(runnable, "read-replica-lag-monitor");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private volatile boolean replicaAvailable;
+  private volatile double lagSeconds = Double.NaN;
+
+  public ReadReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, ReadReplicaProperties properties,
+                               MeterRegistry meterRegistry) {
+    this.replicaJdbcTemplate = replicaJdbcTemplate;
+    this.properties = properties;
+    Gauge.builder(AVAILABLE_METRIC, this, monitor -> monitor.replicaAvailable ? 1 : 0)
+      .description("Whether read replica queries are routed to the read replica")
+      .register(meterRegistry);
+    Gauge.builder(LAG_METRIC, this, monitor -> monitor.lagSeconds)
+      .description("Last checked replication lag of the read replica")
+      .baseUnit("seconds")
+      .register(meterRegistry);
+  }
+
+  public boolean isReplicaAvailable() {
+    return replicaAvailable;
+  }
+
+  public DataSource getReplicaDataSource() {
+    return replicaJdbcTemplate.getDataSource();
+  }
+
+  /**
+   * Starts periodic lag checks.
+   */
+  public void start() {
+    var interval = properties.getLagCheckInterval().toMillis();
+    scheduler.scheduleWithFixedDelay(this::checkLag, 0, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops lag checks and closes the read replica pool.
+   */
+  @Override
+  public void close() throws Exception {
+    scheduler.shutdownNow();
+    if (getReplicaDataSource() instanceof AutoCloseable replica) {
+      replica.close();
+    }
+  }
+
+  void checkLag() {
+    try {
+      var lag = replicaJdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+      lagSeconds = lag == null ? 0 : lag;
+      updateAvailability(lagSeconds * 1000 <= properties.getMaxLag().toMillis());
+    } catch (DataAccessException e) {
+      log.warn("Failed to check read replica lag: {}", e.getMessage());
+      lagSeconds = Double.NaN;
+      updateAvailability(false);
+    }
+  }
+
+  private void updateAvailability(boolean available) {
+    if (available != replicaAvailable) {
+      log.info("Read replica is {} [lag: {}s, max lag: {}]", available ? "available" : "unavailable",
+        lagSeconds, properties.getMaxLag());
+    }
+    replicaAvailable = available;
+  }
+}
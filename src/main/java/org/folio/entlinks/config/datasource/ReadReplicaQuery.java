@@ -0,0 +1,18 @@
+package org.folio.entlinks.config.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a query method whose reads may be served by the read replica when it is enabled.
+ *
+ * <p>Only connections acquired while the method is executing are routed, so the method must not write and must
+ * tolerate the replication lag. Reads of Kafka consumers and write paths are expected to stay on the primary.</p>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadReplicaQuery { }
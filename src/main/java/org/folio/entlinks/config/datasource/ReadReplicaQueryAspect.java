@@ -0,0 +1,42 @@
+package org.folio.entlinks.config.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Exposes whether the current thread executes a {@link ReadReplicaQuery} method.
+ *
+ * <p>The aspect has the highest precedence, so the flag is set before transactions of the method begin and acquire
+ * their connections.</p>
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadReplicaQueryAspect {
+
+  private final ThreadLocal<Boolean> readReplicaQuery = new ThreadLocal<>();
+
+  @Around("@annotation(org.folio.entlinks.config.datasource.ReadReplicaQuery)")
+  public Object markReadReplicaQuery(ProceedingJoinPoint joinPoint) throws Throwable {
+    if (isReadReplicaQuery()) {
+      return joinPoint.proceed();
+    }
+    readReplicaQuery.set(Boolean.TRUE);
+    try {
+      return joinPoint.proceed();
+    } finally {
+      readReplicaQuery.remove();
+    }
+  }
+
+  /**
+   * Returns whether the current thread executes a {@link ReadReplicaQuery} method.
+   *
+   * @return true if reads of the current thread may be served by the read replica
+   */
+  public boolean isReadReplicaQuery() {
+    return Boolean.TRUE.equals(readReplicaQuery.get());
+  }
+}
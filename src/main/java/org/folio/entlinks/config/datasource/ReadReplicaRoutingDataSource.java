@@ -0,0 +1,33 @@
+package org.folio.entlinks.config.datasource;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes connections of {@link ReadReplicaQuery} methods to the read replica while its replication lag is
+ * acceptable. All other connections go to the primary.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  private final ReadReplicaQueryAspect queryAspect;
+  private final ReadReplicaLagMonitor lagMonitor;
+
+  public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadReplicaQueryAspect queryAspect,
+                                      ReadReplicaLagMonitor lagMonitor) {
+    this.queryAspect = queryAspect;
+    this.lagMonitor = lagMonitor;
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return queryAspect.isReadReplicaQuery() && lagMonitor.isReplicaAvailable() ? Route.REPLICA : Route.PRIMARY;
+  }
+
+  enum Route {
+    PRIMARY, REPLICA
+  }
+}
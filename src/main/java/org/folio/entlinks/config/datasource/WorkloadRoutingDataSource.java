@@ -0,0 +1,24 @@
+package org.folio.entlinks.config.datasource;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Routes connections to the pool of the current thread's {@link DataSourceWorkload}, so that a workload exhausting
+ * its pool doesn't starve the others. Workloads without a pool use the {@link DataSourceWorkload#REST} pool.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+  public WorkloadRoutingDataSource(Map<DataSourceWorkload, ? extends DataSource> pools) {
+    setTargetDataSources(new HashMap<>(pools));
+    setDefaultTargetDataSource(pools.get(DataSourceWorkload.REST));
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return DataSourceWorkload.current();
+  }
+}
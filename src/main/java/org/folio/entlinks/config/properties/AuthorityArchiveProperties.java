@@ -1,16 +1,76 @@
 package org.folio.entlinks.config.properties;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
 
 @Data
 @Component
+@Validated
 @ConfigurationProperties(prefix = "folio.authority-archive.expire")
 public class AuthorityArchiveProperties {
 
   @Min(1)
   private int retentionPeriodInDays;
 
+  /**
+   * Number of archives deleted in one transaction together with publishing their hard delete events.
+   */
+  @Min(1)
+  private int chunkSize = 500;
+
+  /**
+   * Time without progress after which an in progress expiration job is considered abandoned and can be resumed.
+   */
+  @NotNull
+  private Duration stalledJobTimeout = Duration.ofMinutes(30);
+
+  /**
+   * Number of upcoming monthly archive partitions ensured to exist on tenant upgrade and whenever an expiration job
+   * starts.
+   */
+  @Min(1)
+  private int partitionsAhead = 3;
+
+  @Valid
+  private Scheduler scheduler = new Scheduler();
+
+  @Data
+  public static class Scheduler {
+
+    /**
+     * Enables in-module scheduled expiration of archives for all tenants of the module.
+     */
+    private boolean enabled;
+
+    /**
+     * Cron expression of scheduled expiration runs.
+     */
+    @NotBlank
+    private String cron = "0 0 2 * * *";
+
+    /**
+     * Max random delay before a scheduled run, so that runs of different instances don't start at the same time.
+     */
+    @NotNull
+    private Duration maxJitter = Duration.ofMinutes(30);
+
+    /**
+     * Max time spent on expiration of a single tenant in a scheduled run. Unfinished job is resumed in the next run.
+     */
+    @NotNull
+    private Duration tenantTimeBudget = Duration.ofMinutes(15);
+
+    /**
+     * Max number of chunks expired per second for a single tenant in a scheduled run, 0 means no limit.
+     */
+    @Min(0)
+    private int maxChunksPerSecond = 5;
+  }
 }
@@ -0,0 +1,58 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.cache")
+public class CacheSpecProperties {
+
+  /**
+   * Provides configuration of caches by cache name.
+   * Caches without configuration use the default {@code spring.cache.caffeine.spec}.
+   */
+  @Valid
+  private Map<String, CacheSpec> specs = new HashMap<>();
+
+  /**
+   * Returns configuration of the cache or default configuration if the cache is not configured.
+   *
+   * @param cacheName cache name
+   * @return cache configuration
+   */
+  public CacheSpec getSpec(String cacheName) {
+    return specs.getOrDefault(cacheName, new CacheSpec());
+  }
+
+  @Data
+  public static class CacheSpec {
+
+    /**
+     * Provides max number of entries to keep in cache.
+     */
+    @Min(1)
+    private long maxSize = 500;
+
+    /**
+     * Provides time after which an entry is evicted from cache.
+     */
+    @NotNull
+    private Duration ttl = Duration.ofHours(1);
+
+    /**
+     * Provides time after which an entry is refreshed in background on the next access.
+     * Applied only to caches that load values by themselves, e.g. consortium topology caches.
+     */
+    private Duration refreshAfter;
+  }
+}
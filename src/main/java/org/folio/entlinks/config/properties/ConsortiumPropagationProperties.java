@@ -0,0 +1,39 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.consortium-propagation")
+public class ConsortiumPropagationProperties {
+
+  /**
+   * Max number of propagations executed concurrently for all member tenants.
+   */
+  @Min(1)
+  private int concurrency = 10;
+
+  /**
+   * Max number of propagations executed concurrently for a single member tenant.
+   * Values greater than 1 do not guarantee propagations order within a tenant.
+   */
+  @Min(1)
+  private int tenantConcurrency = 1;
+
+  /**
+   * Max number of consecutively propagated entities of the same type merged into one batch propagation.
+   */
+  @Min(1)
+  private int batchSize = 50;
+
+  /**
+   * Max number of member tenants processed concurrently when handling changes of shadow authorities.
+   */
+  @Min(1)
+  private int shadowAuthorityConcurrency = 4;
+}
@@ -0,0 +1,22 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.consortium-topology-cache")
+public class ConsortiumTopologyCacheProperties {
+
+  /**
+   * Time after which an empty entry (tenant is not a part of a consortium) is evicted.
+   * Size, ttl and refresh of consortium topology caches are configured in {@link CacheSpecProperties}.
+   */
+  @NotNull
+  private Duration negativeTtl = Duration.ofMinutes(1);
+}
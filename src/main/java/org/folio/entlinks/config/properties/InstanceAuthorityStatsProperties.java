@@ -0,0 +1,28 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.instance-authority-stats.buffer")
+public class InstanceAuthorityStatsProperties {
+
+  /**
+   * Maximum number of link update reports to coalesce before flushing them to the database.
+   */
+  @Min(1)
+  private int maxSize = 1000;
+
+  /**
+   * Maximum time the oldest buffered link update report could wait before flushing.
+   */
+  @NotNull
+  private Duration maxWait = Duration.ofSeconds(5);
+}
@@ -0,0 +1,56 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.read-replica")
+public class ReadReplicaProperties {
+
+  /**
+   * Defines if reads of {@link org.folio.entlinks.config.datasource.ReadReplicaQuery} methods are routed to the
+   * read replica.
+   */
+  private boolean enabled;
+
+  /**
+   * JDBC url of the read replica.
+   */
+  private String url;
+
+  /**
+   * Username for the read replica, the primary datasource username is used if not set.
+   */
+  private String username;
+
+  /**
+   * Password for the read replica, the primary datasource password is used if not set.
+   */
+  private String password;
+
+  /**
+   * Max number of connections in the read replica pool.
+   */
+  @Min(1)
+  private int maximumPoolSize = 10;
+
+  /**
+   * Max replication lag of the read replica. When the lag is greater or can't be checked,
+   * queries are routed to the primary.
+   */
+  @NotNull
+  private Duration maxLag = Duration.ofSeconds(10);
+
+  /**
+   * Time between replication lag checks.
+   */
+  @NotNull
+  private Duration lagCheckInterval = Duration.ofSeconds(5);
+}
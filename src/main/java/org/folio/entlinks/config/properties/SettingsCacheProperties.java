@@ -0,0 +1,22 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.settings-cache")
+public class SettingsCacheProperties {
+
+  /**
+   * Time after which an entry loaded with failure (holding the last known value) is evicted, so settings are fetched
+   * again. Size, ttl and refresh of the settings cache are configured in {@link CacheSpecProperties}.
+   */
+  @NotNull
+  private Duration failureTtl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,56 @@
+package org.folio.entlinks.config.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties("folio.workload-pools")
+public class WorkloadPoolsProperties {
+
+  /**
+   * Defines if Kafka consumers and background jobs use their own connection pools.
+   * REST requests keep using the pool configured with {@code spring.datasource.hikari} properties.
+   */
+  private boolean enabled;
+
+  /**
+   * Pool of Kafka consumers, including processing of shadow authorities in consortium member tenants.
+   */
+  @Valid
+  private Pool kafka = new Pool(5, Duration.ofSeconds(30));
+
+  /**
+   * Pool of background jobs: reindex, archives expiration and consortium propagation.
+   * Sized to twice the default consortium propagation concurrency to leave room for the other jobs.
+   */
+  @Valid
+  private Pool background = new Pool(20, Duration.ofMinutes(5));
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Pool {
+
+    /**
+     * Max number of connections in the pool.
+     */
+    @Min(1)
+    private int maximumPoolSize;
+
+    /**
+     * Max time to wait for a connection from the pool.
+     */
+    @NotNull
+    private Duration connectionTimeout;
+  }
+}
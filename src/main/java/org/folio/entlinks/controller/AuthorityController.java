@@ -11,6 +11,7 @@ import org.folio.entlinks.controller.delegate.AuthorityArchiveServiceDelegate;
 import org.folio.entlinks.controller.delegate.AuthorityServiceDelegate;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.dto.AuthorityDtoCollection;
+import org.folio.entlinks.domain.dto.AuthorityExpireJobDto;
 import org.folio.entlinks.exception.AuthoritiesRequestNotSupportedMediaTypeException;
 import org.folio.entlinks.rest.resource.AuthorityStorageApi;
 import org.folio.tenant.domain.dto.Parameter;
@@ -76,16 +77,22 @@ public class AuthorityController implements AuthorityStorageApi {
   /**
    * POST /authority-storage/expire/authorities.
    *
-   * @return Successfully published authorities expire job (status code 202)
+   * @return Successfully started authorities expire job (status code 202)
    *         or Internal server error. (status code 500)
    */
   @PostMapping(
       value = "/authority-storage/expire/authorities",
       produces = { "application/json" }
   )
-  public ResponseEntity<Void> expireAuthorities() {
-    authorityArchiveServiceDelegate.expire();
-    return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+  public ResponseEntity<AuthorityExpireJobDto> expireAuthorities() {
+    return authorityArchiveServiceDelegate.expire()
+        .map(job -> ResponseEntity.status(HttpStatus.ACCEPTED).body(job))
+        .orElseGet(() -> ResponseEntity.status(HttpStatus.ACCEPTED).build());
+  }
+
+  @Override
+  public ResponseEntity<AuthorityExpireJobDto> getAuthorityExpireJob(UUID id) {
+    return ResponseEntity.ok(authorityArchiveServiceDelegate.getExpireJob(id));
   }
 
   private ResponseEntity<Object> getAuthoritiesCollectionResponse(AuthorityDtoCollection collectionDto,
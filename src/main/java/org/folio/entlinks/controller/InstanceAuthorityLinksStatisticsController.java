@@ -1,6 +1,7 @@
 package org.folio.entlinks.controller;
 
 import java.time.OffsetDateTime;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.folio.entlinks.controller.delegate.InstanceAuthorityStatServiceDelegate;
 import org.folio.entlinks.controller.delegate.LinkingServiceDelegate;
@@ -20,19 +21,19 @@ public class InstanceAuthorityLinksStatisticsController implements InstanceAutho
 
   @Override
   public ResponseEntity<AuthorityStatsDtoCollection> getAuthorityLinksStats(OffsetDateTime fromDate,
-                                                                            OffsetDateTime toDate,
+                                                                            OffsetDateTime toDate, UUID toId,
                                                                             LinkAction action, Integer limit) {
     return ResponseEntity.ok(
-      instanceAuthorityStatServiceDelegate.fetchAuthorityLinksStats(fromDate, toDate, action, limit)
+      instanceAuthorityStatServiceDelegate.fetchAuthorityLinksStats(fromDate, toDate, toId, action, limit)
     );
   }
 
   @Override
   public ResponseEntity<BibStatsDtoCollection> getLinkedBibUpdateStats(OffsetDateTime fromDate,
-                                                                       OffsetDateTime toDate,
+                                                                       OffsetDateTime toDate, Long toId,
                                                                        LinkStatus status, Integer limit) {
     return ResponseEntity.ok(
-      linkingServiceDelegate.getLinkedBibUpdateStats(fromDate, toDate, status, limit)
+      linkingServiceDelegate.getLinkedBibUpdateStats(fromDate, toDate, toId, status, limit)
     );
   }
 }
@@ -4,10 +4,13 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.folio.entlinks.controller.delegate.LinkingServiceDelegate;
 import org.folio.entlinks.domain.dto.InstanceLinkDtoCollection;
+import org.folio.entlinks.domain.dto.InstanceLinksGroupDtoCollection;
 import org.folio.entlinks.domain.dto.LinksCountDtoCollection;
 import org.folio.entlinks.domain.dto.UuidCollection;
 import org.folio.entlinks.rest.resource.InstanceLinksApi;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -28,9 +31,30 @@ public class InstanceLinksController implements InstanceLinksApi {
     return ResponseEntity.ok(links);
   }
 
+  @Override
+  public ResponseEntity<InstanceLinksGroupDtoCollection> getInstancesLinks(UuidCollection instanceIdCollection) {
+    var links = linkingServiceDelegate.getLinks(instanceIdCollection);
+    return ResponseEntity.ok(links);
+  }
+
   @Override
   public ResponseEntity<Void> updateInstanceLinks(UUID instanceId, InstanceLinkDtoCollection instanceLinkCollection) {
     linkingServiceDelegate.updateLinks(instanceId, instanceLinkCollection);
     return ResponseEntity.noContent().build();
   }
+
+  /**
+   * POST /links/authorities/count/reconcile.
+   *
+   * @return Successfully reconciled authority links count (status code 202)
+   *         or Internal server error. (status code 500)
+   */
+  @PostMapping(
+      value = "/links/authorities/count/reconcile",
+      produces = { "application/json" }
+  )
+  public ResponseEntity<Void> reconcileLinksCount() {
+    linkingServiceDelegate.reconcileLinksCount();
+    return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+  }
 }
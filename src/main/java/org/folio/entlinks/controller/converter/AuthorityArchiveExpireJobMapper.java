@@ -0,0 +1,19 @@
+package org.folio.entlinks.controller.converter;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import org.folio.entlinks.domain.dto.AuthorityExpireJobDto;
+import org.folio.entlinks.domain.entity.AuthorityArchiveExpireJob;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface AuthorityArchiveExpireJobMapper {
+
+  AuthorityExpireJobDto toDto(AuthorityArchiveExpireJob job);
+
+  default OffsetDateTime map(LocalDateTime value) {
+    return value != null ? value.atZone(ZoneId.systemDefault()).toOffsetDateTime() : null;
+  }
+}
@@ -5,8 +5,11 @@ import java.util.Map;
 import java.util.UUID;
 import org.folio.entlinks.domain.dto.InstanceLinkDto;
 import org.folio.entlinks.domain.dto.InstanceLinkDtoCollection;
+import org.folio.entlinks.domain.dto.InstanceLinksGroupDto;
+import org.folio.entlinks.domain.dto.InstanceLinksGroupDtoCollection;
 import org.folio.entlinks.domain.dto.LinksCountDto;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.entlinks.domain.entity.projection.InstanceLinkView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -25,6 +28,17 @@ public interface InstanceAuthorityLinkMapper {
       .totalRecords(source.size());
   }
 
+  InstanceLinkDto convertToDto(InstanceLinkView source);
+
+  default InstanceLinksGroupDtoCollection convertToGroupDto(Map<UUID, List<InstanceLinkView>> source) {
+    var groups = source.entrySet().stream()
+      .map(e -> new InstanceLinksGroupDto(e.getKey(), e.getValue().stream().map(this::convertToDto).toList()))
+      .toList();
+
+    return new InstanceLinksGroupDtoCollection(groups)
+      .totalRecords(groups.size());
+  }
+
   @Mapping(target = "authority.id", source = "authorityId")
   @Mapping(target = "authority.naturalId", source = "authorityNaturalId")
   @Mapping(target = "linkingRule.id", source = "linkingRuleId")
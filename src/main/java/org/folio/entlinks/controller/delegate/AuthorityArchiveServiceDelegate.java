@@ -1,25 +1,21 @@
 package org.folio.entlinks.controller.delegate;
 
-import java.time.LocalDateTime;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.folio.entlinks.client.SettingsClient;
-import org.folio.entlinks.config.properties.AuthorityArchiveProperties;
+import org.folio.entlinks.controller.converter.AuthorityArchiveExpireJobMapper;
 import org.folio.entlinks.controller.converter.AuthorityMapper;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.dto.AuthorityDtoCollection;
-import org.folio.entlinks.domain.entity.AuthorityArchive;
+import org.folio.entlinks.domain.dto.AuthorityExpireJobDto;
 import org.folio.entlinks.domain.entity.AuthorityBase;
 import org.folio.entlinks.domain.entity.projection.AuthorityIdDto;
-import org.folio.entlinks.domain.repository.AuthorityArchiveRepository;
-import org.folio.entlinks.exception.FolioIntegrationException;
-import org.folio.entlinks.integration.SettingsService;
+import org.folio.entlinks.service.authority.AuthorityArchiveExpireJobRunner;
+import org.folio.entlinks.service.authority.AuthorityArchiveExpireJobService;
 import org.folio.entlinks.service.authority.AuthorityArchiveService;
-import org.folio.entlinks.service.authority.AuthorityDomainEventPublisher;
+import org.folio.spring.FolioExecutionContext;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Log4j2
 @Service
@@ -27,11 +23,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthorityArchiveServiceDelegate {
 
   private final AuthorityArchiveService authorityArchiveService;
-  private final SettingsService settingsService;
-  private final AuthorityArchiveRepository authorityArchiveRepository;
-  private final AuthorityArchiveProperties authorityArchiveProperties;
-  private final AuthorityDomainEventPublisher eventPublisher;
   private final AuthorityMapper authorityMapper;
+  private final AuthorityArchiveExpireJobService expireJobService;
+  private final AuthorityArchiveExpireJobRunner expireJobRunner;
+  private final AuthorityArchiveExpireJobMapper expireJobMapper;
+  private final FolioExecutionContext context;
 
   public AuthorityDtoCollection retrieveAuthorityArchives(Integer offset, Integer limit, String cqlQuery,
                                                           Boolean idOnly) {
@@ -46,48 +42,29 @@ public class AuthorityArchiveServiceDelegate {
     return authorityMapper.toAuthorityCollection(entitiesPage);
   }
 
-  @Transactional(readOnly = true)
-  public void expire() {
-    var retention = fetchAuthoritiesRetentionDuration();
+  /**
+   * Starts asynchronous expiration of authority archives or resumes the latest unfinished one.
+   *
+   * @return started or already running job, empty if expiration is disabled for the tenant
+   */
+  public Optional<AuthorityExpireJobDto> expire() {
+    var tillDate = expireJobService.getExpirationTillDate();
 
-    if (retention.isEmpty()) {
-      return;
+    if (tillDate.isEmpty()) {
+      return Optional.empty();
     }
 
-    var tillDate = LocalDateTime.now().minusDays(retention.get());
-    try (Stream<AuthorityArchive> archives = authorityArchiveRepository.streamByUpdatedTillDate(tillDate)) {
-      archives.forEach(this::process);
+    var jobStart = expireJobService.findRunningOrStartJob(tillDate.get());
+    var job = jobStart.job();
+    if (jobStart.started()) {
+      expireJobRunner.run(context.getTenantId(), job.getId());
+    } else {
+      log.info("Authority archives expiration is already in progress [jobId: {}]", job.getId());
     }
+    return Optional.of(expireJobMapper.toDto(job));
   }
 
-  private void process(AuthorityArchive archive) {
-    authorityArchiveService.delete(archive);
-    var dto = authorityMapper.toDto(archive);
-    eventPublisher.publishHardDeleteEvent(dto);
-  }
-
-  private Optional<Integer> fetchAuthoritiesRetentionDuration() {
-    Optional<SettingsClient.SettingEntry> expireSetting;
-    try {
-      expireSetting = settingsService.getAuthorityExpireSetting();
-    } catch (FolioIntegrationException e) {
-      log.warn("Exception during settings fetching: ", e);
-      expireSetting = Optional.empty();
-    }
-
-    if (expireSetting.isPresent() && expireSetting.get().value() != null
-        && Boolean.FALSE.equals(expireSetting.get().value().expirationEnabled())) {
-      log.info("Authority archives expiration is disabled for the tenant through setting");
-      return Optional.empty();
-    }
-
-    return expireSetting
-        .map(SettingsClient.SettingEntry::value)
-        .map(SettingsClient.AuthoritiesExpirationSettingValue::retentionInDays)
-        .or(() -> {
-          log.warn("No Retention setting was defined for Authorities Expiration, using the default one: {} days",
-              authorityArchiveProperties.getRetentionPeriodInDays());
-          return Optional.of(authorityArchiveProperties.getRetentionPeriodInDays());
-        });
+  public AuthorityExpireJobDto getExpireJob(UUID jobId) {
+    return expireJobMapper.toDto(expireJobService.getById(jobId));
   }
 }
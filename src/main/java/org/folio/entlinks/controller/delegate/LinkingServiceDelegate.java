@@ -1,5 +1,6 @@
 package org.folio.entlinks.controller.delegate;
 
+import static java.util.Collections.emptyList;
 import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.folio.entlinks.utils.DateUtils.fromTimestamp;
@@ -7,20 +8,26 @@ import static org.folio.entlinks.utils.DateUtils.fromTimestamp;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.datasource.ReadReplicaQuery;
 import org.folio.entlinks.controller.converter.DataStatsMapper;
 import org.folio.entlinks.controller.converter.InstanceAuthorityLinkMapper;
 import org.folio.entlinks.domain.dto.BibStatsDto;
 import org.folio.entlinks.domain.dto.BibStatsDtoCollection;
 import org.folio.entlinks.domain.dto.InstanceLinkDto;
 import org.folio.entlinks.domain.dto.InstanceLinkDtoCollection;
+import org.folio.entlinks.domain.dto.InstanceLinksGroupDtoCollection;
 import org.folio.entlinks.domain.dto.LinkStatus;
 import org.folio.entlinks.domain.dto.LinksCountDtoCollection;
 import org.folio.entlinks.domain.dto.UuidCollection;
+import org.folio.entlinks.domain.entity.projection.InstanceLinkView;
 import org.folio.entlinks.exception.RequestBodyValidationException;
 import org.folio.entlinks.integration.internal.InstanceStorageService;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumLinksPropagationService;
@@ -49,17 +56,24 @@ public class LinkingServiceDelegate {
     return mapper.convertToDto(links);
   }
 
-  public BibStatsDtoCollection getLinkedBibUpdateStats(OffsetDateTime fromDate, OffsetDateTime toDate,
+  public InstanceLinksGroupDtoCollection getLinks(UuidCollection instanceIdCollection) {
+    var instanceIds = new LinkedHashSet<>(instanceIdCollection.getIds());
+    var links = fillInMissingIdsWithEmptyLinks(linkingService.getLinksByInstanceIds(instanceIds), instanceIds);
+    return mapper.convertToGroupDto(links);
+  }
+
+  public BibStatsDtoCollection getLinkedBibUpdateStats(OffsetDateTime fromDate, OffsetDateTime toDate, Long toId,
                                                        LinkStatus status, int limit) {
     validateDateRange(fromDate, toDate);
 
     var bibStatsCollection = new BibStatsDtoCollection();
-    var links = linkingService.getLinks(status, fromDate, toDate, limit + 1);
+    var links = linkingService.getLinks(status, fromDate, toDate, toId, limit + 1);
     log.debug("Retrieved links count {}", links.size());
 
     if (links.size() > limit) {
-      var nextDate = fromTimestamp(links.get(limit).getUpdatedAt());
-      bibStatsCollection.setNext(nextDate);
+      var nextLink = links.get(limit);
+      bibStatsCollection.setNext(fromTimestamp(nextLink.getUpdatedAt()));
+      bibStatsCollection.setNextId(nextLink.getId());
       links = links.subList(0, limit);
     }
 
@@ -79,6 +93,7 @@ public class LinkingServiceDelegate {
         context.getTenantId());
   }
 
+  @ReadReplicaQuery
   public LinksCountDtoCollection countLinksByAuthorityIds(UuidCollection authorityIdCollection) {
     var ids = new HashSet<>(authorityIdCollection.getIds());
     var linkCountMap = fillInMissingIdsWithZeros(linkingService.countLinksByAuthorityIds(ids), ids);
@@ -86,6 +101,10 @@ public class LinkingServiceDelegate {
     return new LinksCountDtoCollection(mapper.convert(linkCountMap));
   }
 
+  public void reconcileLinksCount() {
+    linkingService.reconcileLinksCount();
+  }
+
   private Map<UUID, Integer> fillInMissingIdsWithZeros(Map<UUID, Integer> linksCountMap, HashSet<UUID> ids) {
     var result = new HashMap<>(linksCountMap);
     for (UUID id : ids) {
@@ -94,6 +113,15 @@ public class LinkingServiceDelegate {
     return result;
   }
 
+  private Map<UUID, List<InstanceLinkView>> fillInMissingIdsWithEmptyLinks(Map<UUID, List<InstanceLinkView>> links,
+                                                                          Set<UUID> ids) {
+    var result = new LinkedHashMap<UUID, List<InstanceLinkView>>();
+    for (UUID id : ids) {
+      result.put(id, links.getOrDefault(id, emptyList()));
+    }
+    return result;
+  }
+
   private void validateLinks(UUID instanceId, List<InstanceLinkDto> links) {
     validateInstanceId(instanceId, links);
   }
@@ -49,7 +49,7 @@ public abstract class LinksSuggestionsServiceDelegateBase<T> implements LinksSug
       ParsedRecordContentCollection contentCollection, Boolean ignoreAutoLinkingEnabled) {
     log.info("{}: Links suggestion started for {} bibs",
       this.getClass().getSimpleName(), contentCollection.getRecords().size());
-    var rules = rulesToBibFieldMap(linkingRulesService.getLinkingRules());
+    var rules = linkingRulesService.getLinkingRuleIndex().getRulesByBibField();
     var marcBibsContent = contentMapper.convertToParsedContent(contentCollection);
 
     var authoritySearchIds = extractIdsOfLinkableFields(marcBibsContent, rules, ignoreAutoLinkingEnabled);
@@ -135,8 +135,4 @@ public abstract class LinksSuggestionsServiceDelegateBase<T> implements LinksSug
     suggestionService.fillErrorDetailsWithDisabledAutoLinking(field, getSearchSubfield());
     return false;
   }
-
-  private Map<String, List<InstanceAuthorityLinkingRule>> rulesToBibFieldMap(List<InstanceAuthorityLinkingRule> rules) {
-    return rules.stream().collect(groupingBy(InstanceAuthorityLinkingRule::getBibField));
-  }
 }
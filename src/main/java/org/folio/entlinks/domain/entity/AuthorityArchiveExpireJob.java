@@ -0,0 +1,55 @@
+package org.folio.entlinks.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.With;
+
+@Getter
+@Setter
+@With
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Table(name = "authority_archive_expire_job")
+public class AuthorityArchiveExpireJob {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(name = "id", nullable = false)
+  private UUID id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "job_status", nullable = false)
+  private AuthorityArchiveExpireJobStatus jobStatus;
+
+  @Column(name = "till_date", nullable = false)
+  private LocalDateTime tillDate;
+
+  @Column(name = "expired", nullable = false)
+  private int expired;
+
+  @Column(name = "started_date")
+  private OffsetDateTime startedDate;
+
+  @Column(name = "updated_date")
+  private OffsetDateTime updatedDate;
+
+  @Column(name = "failure_cause")
+  private String failureCause;
+
+}
@@ -0,0 +1,7 @@
+package org.folio.entlinks.domain.entity;
+
+public enum AuthorityArchiveExpireJobStatus {
+
+  IN_PROGRESS, PAUSED, COMPLETED, FAILED;
+
+}
@@ -82,6 +82,9 @@ public class AuthorityDataStat extends AuditableEntity implements Identifiable<U
   @Column(name = "lb_failed")
   private int lbFailed;
 
+  @Column(name = "lb_deleted")
+  private int lbDeleted;
+
   @Enumerated(EnumType.STRING)
   @JdbcTypeCode(SqlTypes.NAMED_ENUM)
   @Column(name = "status", nullable = false)
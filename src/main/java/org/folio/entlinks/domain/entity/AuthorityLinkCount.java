@@ -0,0 +1,35 @@
+package org.folio.entlinks.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Number of distinct instances linked to an authority.
+ * Maintained by database triggers on {@code instance_authority_link}.
+ */
+@Getter
+@Setter
+@Entity
+@Immutable
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "authority_link_count")
+public class AuthorityLinkCount {
+
+  @Id
+  @Column(name = "authority_id", nullable = false)
+  private UUID authorityId;
+
+  @Column(name = "total_links", nullable = false)
+  private Integer totalLinks;
+}
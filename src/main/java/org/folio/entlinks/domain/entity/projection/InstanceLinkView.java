@@ -0,0 +1,13 @@
+package org.folio.entlinks.domain.entity.projection;
+
+import java.util.UUID;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
+
+public record InstanceLinkView(Long id,
+                               UUID instanceId,
+                               UUID authorityId,
+                               String authorityNaturalId,
+                               Integer linkingRuleId,
+                               InstanceAuthorityLinkStatus status,
+                               String errorCause) {
+}
@@ -0,0 +1,72 @@
+package org.folio.entlinks.domain.repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Coordinates work between module instances with Postgres advisory locks.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdvisoryLockRepository {
+
+  private static final String TRY_LOCK_QUERY = "SELECT pg_try_advisory_lock(hashtext(?), hashtext(?))";
+  private static final String UNLOCK_QUERY = "SELECT pg_advisory_unlock(hashtext(?), hashtext(?))";
+  private static final String TRANSACTION_LOCK_QUERY = "SELECT pg_advisory_xact_lock(hashtext(?), hashtext(?))";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Executes the action if the lock is not held by another session.
+   * The lock is held on a dedicated connection until the action is finished.
+   *
+   * @param namespace lock namespace
+   * @param key       lock key within the namespace
+   * @param action    action to execute under the lock
+   * @return true if the lock was acquired and the action was executed
+   */
+  public boolean executeWithTryLock(String namespace, String key, Runnable action) {
+    return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+      if (!queryLock(connection, TRY_LOCK_QUERY, namespace, key)) {
+        return false;
+      }
+      try {
+        action.run();
+      } finally {
+        queryLock(connection, UNLOCK_QUERY, namespace, key);
+      }
+      return true;
+    }));
+  }
+
+  /**
+   * Waits for the lock and holds it until the end of the current transaction,
+   * so that transactions taking the same lock are executed one after another.
+   *
+   * @param namespace lock namespace
+   * @param key       lock key within the namespace
+   * @throws IllegalStateException if there is no active transaction
+   */
+  public void lockForTransaction(String namespace, String key) {
+    if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+      throw new IllegalStateException("Transaction is required for transaction level lock: " + namespace);
+    }
+    jdbcTemplate.queryForList(TRANSACTION_LOCK_QUERY, namespace, key);
+  }
+
+  private static boolean queryLock(Connection connection, String query, String namespace, String key)
+    throws SQLException {
+    try (var statement = connection.prepareStatement(query)) {
+      statement.setString(1, namespace);
+      statement.setString(2, key);
+      try (var resultSet = statement.executeQuery()) {
+        return resultSet.next() && resultSet.getBoolean(1);
+      }
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package org.folio.entlinks.domain.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.entlinks.domain.entity.AuthorityArchiveExpireJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuthorityArchiveExpireJobRepository extends JpaRepository<AuthorityArchiveExpireJob, UUID> {
+
+  Optional<AuthorityArchiveExpireJob> findFirstByOrderByStartedDateDesc();
+}
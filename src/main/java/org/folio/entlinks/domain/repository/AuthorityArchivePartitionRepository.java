@@ -0,0 +1,49 @@
+package org.folio.entlinks.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.folio.entlinks.domain.entity.AuthorityArchive;
+
+/**
+ * Maintains monthly partitions of the authority_archive table.
+ * Partitions are attached by updated_date, so a partition whose month is over the retention period
+ * is expired as a whole: it is detached from the table, drained and dropped.
+ */
+public interface AuthorityArchivePartitionRepository {
+
+  /**
+   * Creates missing monthly partitions from the month of the date till the given number of months after
+   * the current month, both inclusive.
+   *
+   * @param from        the date of the first month
+   * @param monthsAhead number of months after the current month
+   * @return number of created partitions
+   */
+  int createPartitions(LocalDateTime from, int monthsAhead);
+
+  /**
+   * Detaches partitions containing only archives updated till the date.
+   *
+   * @param tillDate the date archives updated till are expired
+   * @return names of detached partitions
+   */
+  List<String> detachExpiredPartitions(LocalDateTime tillDate);
+
+  /**
+   * Returns detached partitions that are not dropped yet, the oldest first.
+   *
+   * @return names of detached partitions
+   */
+  List<String> findDetachedPartitions();
+
+  /**
+   * Deletes a chunk of archives from the detached partition and returns deleted rows.
+   *
+   * @param partition detached partition name
+   * @param chunkSize max number of archives to delete
+   * @return deleted archives
+   */
+  List<AuthorityArchive> deleteDetachedPartitionChunk(String partition, int chunkSize);
+
+  void dropDetachedPartition(String partition);
+}
@@ -0,0 +1,69 @@
+package org.folio.entlinks.domain.repository;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.folio.entlinks.domain.entity.AuthorityArchive;
+
+@RequiredArgsConstructor
+public class AuthorityArchivePartitionRepositoryImpl implements AuthorityArchivePartitionRepository {
+
+  private static final Pattern DETACHED_PARTITION_PATTERN = Pattern.compile("authority_archive_expired_p\\d{6}");
+  private static final String FIND_DETACHED_PARTITIONS_QUERY = """
+    SELECT tablename FROM pg_tables
+    WHERE schemaname = current_schema() AND tablename LIKE 'authority\\_archive\\_expired\\_p%'
+    ORDER BY tablename""";
+  private static final String DELETE_DETACHED_PARTITION_CHUNK_QUERY = """
+    DELETE FROM %1$s WHERE id = ANY(ARRAY(
+      SELECT id FROM %1$s ORDER BY updated_date, id LIMIT :chunkSize FOR UPDATE SKIP LOCKED))
+    RETURNING *""";
+
+  private final EntityManager em;
+
+  @Override
+  public int createPartitions(LocalDateTime from, int monthsAhead) {
+    var created = em.createNativeQuery("SELECT authority_archive_create_partitions(:from, :monthsAhead)",
+        Integer.class)
+      .setParameter("from", from)
+      .setParameter("monthsAhead", monthsAhead)
+      .getSingleResult();
+    return (Integer) created;
+  }
+
+  @Override
+  public List<String> detachExpiredPartitions(LocalDateTime tillDate) {
+    return em.createNativeQuery("SELECT authority_archive_detach_partitions(:tillDate)", String.class)
+      .setParameter("tillDate", tillDate)
+      .getResultList();
+  }
+
+  @Override
+  public List<String> findDetachedPartitions() {
+    List<String> partitions = em.createNativeQuery(FIND_DETACHED_PARTITIONS_QUERY, String.class).getResultList();
+    return partitions.stream()
+      .filter(partition -> DETACHED_PARTITION_PATTERN.matcher(partition).matches())
+      .toList();
+  }
+
+  @Override
+  public List<AuthorityArchive> deleteDetachedPartitionChunk(String partition, int chunkSize) {
+    var query = DELETE_DETACHED_PARTITION_CHUNK_QUERY.formatted(validPartition(partition));
+    return em.createNativeQuery(query, AuthorityArchive.class)
+      .setParameter("chunkSize", chunkSize)
+      .getResultList();
+  }
+
+  @Override
+  public void dropDetachedPartition(String partition) {
+    em.createNativeQuery("DROP TABLE IF EXISTS " + validPartition(partition)).executeUpdate();
+  }
+
+  private static String validPartition(String partition) {
+    if (!DETACHED_PARTITION_PATTERN.matcher(partition).matches()) {
+      throw new IllegalArgumentException("Not a detached authority archive partition: " + partition);
+    }
+    return partition;
+  }
+}
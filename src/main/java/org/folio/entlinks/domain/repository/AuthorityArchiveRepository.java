@@ -1,27 +1,36 @@
 package org.folio.entlinks.domain.repository;
 
-import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
-import java.util.stream.Stream;
 import org.folio.entlinks.domain.entity.AuthorityArchive;
 import org.folio.entlinks.domain.entity.projection.AuthorityId;
 import org.folio.spring.cql.JpaCqlRepository;
-import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AuthorityArchiveRepository extends JpaCqlRepository<AuthorityArchive, UUID>,
-    AuthorityArchiveCqlRepository {
+    AuthorityArchiveCqlRepository, AuthorityArchivePartitionRepository {
 
-  @Query("select aa from AuthorityArchive aa where aa.updatedDate <= :tillDate")
-  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "25"))
-  Stream<AuthorityArchive> streamByUpdatedTillDate(@Param("tillDate") LocalDateTime tillDate);
+  /**
+   * Deletes a chunk of the oldest archives updated till the date and returns deleted rows.
+   * Rows locked by a concurrent expiration are skipped.
+   *
+   * @param tillDate  the date archives updated till are expired
+   * @param chunkSize max number of archives to delete
+   * @return deleted archives
+   */
+  @Query(value = """
+    DELETE FROM authority_archive WHERE id = ANY(ARRAY(
+      SELECT id FROM authority_archive WHERE updated_date <= :tillDate
+      ORDER BY updated_date, id LIMIT :chunkSize FOR UPDATE SKIP LOCKED))
+    RETURNING *""", nativeQuery = true)
+  List<AuthorityArchive> deleteExpiredChunk(@Param("tillDate") LocalDateTime tillDate,
+                                            @Param("chunkSize") int chunkSize);
 
   @Query("select a.id as id from AuthorityArchive a")
   Page<AuthorityId> findAllIds(Pageable pageable);
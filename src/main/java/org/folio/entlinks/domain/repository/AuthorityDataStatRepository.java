@@ -7,6 +7,7 @@ import org.folio.entlinks.domain.entity.AuthorityDataStat;
 import org.folio.entlinks.domain.entity.AuthorityDataStatAction;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -17,8 +18,66 @@ public interface AuthorityDataStatRepository extends JpaRepository<AuthorityData
     where a.action = :action
           and a.startedAt >= :startedAtStart
           and a.startedAt <= :startedAtEnd
+          and (a.startedAt < :startedAtEnd or a.id <= :seekId)
           and a.authority.deleted = false""")
   List<AuthorityDataStat> findActualByActionAndDate(@Param("action") AuthorityDataStatAction action,
                                                     @Param("startedAtStart") Timestamp startedAtStart,
-                                                    @Param("startedAtEnd") Timestamp startedAtEnd, Pageable pageable);
+                                                    @Param("startedAtEnd") Timestamp startedAtEnd,
+                                                    @Param("seekId") UUID seekId, Pageable pageable);
+
+  /**
+   * Atomically adds processed linked bibs to the statistics counters.
+   * Completion status and date are computed in the same statement when all linked bibs are processed.
+   *
+   * @param id        statistics id (job id)
+   * @param updated   number of successfully updated linked bibs to add
+   * @param failed    number of failed linked bibs to add
+   * @param allFailed whether all linked bibs should be counted as failed
+   * @param now       timestamp to use as completion and update date
+   * @return number of updated records, 0 if statistics with the given id do not exist
+   */
+  @Modifying
+  @Query(value = """
+    UPDATE authority_data_stat
+    SET lb_updated = lb_updated + :updated,
+        lb_failed = CASE WHEN :allFailed THEN lb_total ELSE lb_failed + :failed END,
+        completed_at = CASE
+          WHEN lb_updated + :updated + CASE WHEN :allFailed THEN lb_total ELSE lb_failed + :failed END = lb_total
+          THEN :now
+          ELSE completed_at END,
+        status = CASE
+          WHEN lb_updated + :updated + CASE WHEN :allFailed THEN lb_total ELSE lb_failed + :failed END <> lb_total
+          THEN status
+          WHEN CASE WHEN :allFailed THEN lb_total ELSE lb_failed + :failed END = 0 THEN 'COMPLETED_SUCCESS'
+          WHEN CASE WHEN :allFailed THEN lb_total ELSE lb_failed + :failed END = lb_total THEN 'FAILED'
+          ELSE 'COMPLETED_WITH_ERRORS' END,
+        updated_at = :now
+    WHERE id = :id""",
+    nativeQuery = true)
+  int incrementLinksCounters(@Param("id") UUID id, @Param("updated") int updated, @Param("failed") int failed,
+                             @Param("allFailed") boolean allFailed, @Param("now") Timestamp now);
+
+  /**
+   * Atomically adds deleted links of the deleted authority to the statistics counter.
+   *
+   * @param id      statistics id (job id)
+   * @param deleted number of deleted links to add
+   * @param now     timestamp to use as update date
+   * @return number of updated records, 0 if statistics with the given id do not exist
+   */
+  @Modifying
+  @Query(value = """
+    UPDATE authority_data_stat
+    SET lb_deleted = lb_deleted + :deleted, updated_at = :now
+    WHERE id = :id""",
+    nativeQuery = true)
+  int incrementDeletedCounter(@Param("id") UUID id, @Param("deleted") int deleted, @Param("now") Timestamp now);
+
+  @Modifying
+  @Query(value = """
+    UPDATE authority_data_stat
+    SET status = 'FAILED', fail_cause = :failCause, completed_at = :now, updated_at = :now
+    WHERE id = :id""",
+    nativeQuery = true)
+  int updateFailed(@Param("id") UUID id, @Param("failCause") String failCause, @Param("now") Timestamp now);
 }
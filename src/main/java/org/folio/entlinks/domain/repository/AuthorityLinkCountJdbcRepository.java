@@ -0,0 +1,19 @@
+package org.folio.entlinks.domain.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface AuthorityLinkCountJdbcRepository {
+
+  /**
+   * Counts links of the given authorities in several tenants using a single {@code UNION ALL} query
+   * over the tenants' schemas. Authorities without links are not included in the result.
+   *
+   * @param tenantIds    tenants to count links in
+   * @param authorityIds authority ids to count links for
+   * @return number of links by authority id, grouped by tenant id; tenants without links are not included
+   */
+  Map<String, Map<UUID, Integer>> countByTenantsAndAuthorityIds(Collection<String> tenantIds,
+                                                                Collection<UUID> authorityIds);
+}
@@ -0,0 +1,47 @@
+package org.folio.entlinks.domain.repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.folio.spring.FolioModuleMetadata;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class AuthorityLinkCountJdbcRepositoryImpl implements AuthorityLinkCountJdbcRepository {
+
+  private static final String COUNT_BY_AUTHORITY_IDS_QUERY = """
+    SELECT CAST(? AS text) AS tenant_id, authority_id, total_links
+    FROM %s.authority_link_count
+    WHERE authority_id = ANY(?) AND total_links > 0""";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioModuleMetadata moduleMetadata;
+
+  @Override
+  public Map<String, Map<UUID, Integer>> countByTenantsAndAuthorityIds(Collection<String> tenantIds,
+                                                                       Collection<UUID> authorityIds) {
+    var result = new HashMap<String, Map<UUID, Integer>>();
+    if (tenantIds.isEmpty() || authorityIds.isEmpty()) {
+      return result;
+    }
+
+    var query = tenantIds.stream()
+      .map(tenantId -> String.format(COUNT_BY_AUTHORITY_IDS_QUERY, moduleMetadata.getDBSchemaName(tenantId)))
+      .collect(Collectors.joining(" UNION ALL "));
+    jdbcTemplate.query(query, ps -> {
+      var ids = ps.getConnection().createArrayOf("uuid", authorityIds.toArray());
+      var index = 1;
+      for (var tenantId : tenantIds) {
+        ps.setString(index++, tenantId);
+        ps.setArray(index++, ids);
+      }
+    }, rs -> {
+      result.computeIfAbsent(rs.getString("tenant_id"), tenantId -> new HashMap<>())
+        .put(rs.getObject("authority_id", UUID.class), rs.getInt("total_links"));
+    });
+    return result;
+  }
+}
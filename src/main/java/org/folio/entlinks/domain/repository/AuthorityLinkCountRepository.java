@@ -0,0 +1,37 @@
+package org.folio.entlinks.domain.repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.folio.entlinks.domain.entity.AuthorityLinkCount;
+import org.folio.entlinks.domain.entity.projection.LinkCountView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AuthorityLinkCountRepository extends JpaRepository<AuthorityLinkCount, UUID>,
+  AuthorityLinkCountJdbcRepository {
+
+  @Query("select c.authorityId as id, c.totalLinks as totalLinks"
+    + " from AuthorityLinkCount c where c.authorityId in :authorityIds")
+  List<LinkCountView> findByAuthorityIds(@Param("authorityIds") Set<UUID> authorityIds);
+
+  @Modifying
+  @Query(value = """
+    INSERT INTO authority_link_count(authority_id, total_links)
+    SELECT authority_id, count(DISTINCT instance_id)
+    FROM instance_authority_link
+    GROUP BY authority_id
+    ON CONFLICT (authority_id) DO UPDATE SET total_links = EXCLUDED.total_links
+    WHERE authority_link_count.total_links <> EXCLUDED.total_links""",
+    nativeQuery = true)
+  int upsertDriftedCounts();
+
+  @Modifying
+  @Query(value = """
+    DELETE FROM authority_link_count c
+    WHERE NOT EXISTS (SELECT 1 FROM instance_authority_link l WHERE l.authority_id = c.authority_id)""",
+    nativeQuery = true)
+  int deleteOrphanedCounts();
+}
@@ -3,6 +3,7 @@ package org.folio.entlinks.domain.repository;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.projection.AuthorityId;
@@ -10,6 +11,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -26,5 +28,8 @@ public interface AuthorityRepository extends JpaRepository<Authority, UUID>, Aut
 
   List<Authority> findAllByIdInAndDeletedFalse(Collection<UUID> ids);
 
+  @Query("select a.id from Authority a where a.id in :ids and a.deleted = false")
+  Set<UUID> findIdsByIdInAndDeletedFalse(@Param("ids") Collection<UUID> ids);
+
   boolean existsAuthorityByAuthoritySourceFileId(UUID sourceFileId);
 }
@@ -0,0 +1,51 @@
+package org.folio.entlinks.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
+import org.folio.entlinks.domain.entity.projection.InstanceLinkView;
+
+public interface InstanceLinkJdbcRepository {
+
+  /**
+   * Streams links of the given instances using a single {@code instance_id = ANY(?)} query.
+   * The returned stream must be closed by the caller and consumed within a transaction.
+   *
+   * @param instanceIds instance ids to fetch links for
+   * @return stream of link projections ordered by instance id
+   */
+  Stream<InstanceLinkView> streamByInstanceIds(Collection<UUID> instanceIds);
+
+  /**
+   * Sets the same status and error cause to all given links using a single {@code id = ANY(?)} statement.
+   *
+   * @param status     link status to set
+   * @param errorCause link error cause to set, could be null
+   * @param linkIds    ids of links to update
+   * @return number of updated links
+   */
+  int updateStatusAndErrorCauseByIds(InstanceAuthorityLinkStatus status, String errorCause, Collection<Long> linkIds);
+
+  /**
+   * Inserts links with one multi-row {@code INSERT ... SELECT FROM unnest(?) ON CONFLICT DO NOTHING} statement
+   * per chunk of links. Links that already exist for the same instance, authority and linking rule are kept as is,
+   * so repeated and concurrent calls don't create duplicates. Ids of inserted links are not set to the entities.
+   *
+   * @param links links with authority and linking rule set
+   * @return number of inserted links
+   */
+  int upsertAll(List<InstanceAuthorityLink> links);
+
+  /**
+   * Deletes links of the instance except the ones with the same authority and linking rule as the given links
+   * using a single statement.
+   *
+   * @param instanceId instance id to delete links of
+   * @param links      links to keep
+   * @return number of deleted links
+   */
+  int deleteByInstanceIdExcept(UUID instanceId, List<InstanceAuthorityLink> links);
+}
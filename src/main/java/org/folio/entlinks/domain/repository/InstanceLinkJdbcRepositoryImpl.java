@@ -0,0 +1,128 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.folio.entlinks.utils.DateUtils.currentTs;
+
+import com.google.common.collect.Lists;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
+import org.folio.entlinks.domain.entity.projection.InstanceLinkView;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.FolioModuleMetadata;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class InstanceLinkJdbcRepositoryImpl implements InstanceLinkJdbcRepository {
+
+  private static final int FETCH_SIZE = 500;
+  private static final String SELECT_BY_INSTANCE_IDS_QUERY = """
+    SELECT l.id, l.instance_id, l.authority_id, a.natural_id, l.linking_rule_id, l.status, l.error_cause
+    FROM %1$s.instance_authority_link l
+    JOIN %1$s.authority a ON a.id = l.authority_id
+    WHERE l.instance_id = ANY(?)
+    ORDER BY l.instance_id, l.id""";
+  private static final String UPDATE_STATUS_BY_IDS_QUERY = """
+    UPDATE %1$s.instance_authority_link
+    SET status = CAST(? AS %1$s.linkstatus), error_cause = ?, updated_at = ?
+    WHERE id = ANY(?)""";
+  private static final int UPSERT_CHUNK_SIZE = 1000;
+  private static final String UPSERT_QUERY = """
+    INSERT INTO %1$s.instance_authority_link
+      (instance_id, authority_id, linking_rule_id, status, error_cause, updated_at)
+    SELECT l.instance_id, l.authority_id, l.linking_rule_id, CAST(l.status AS %1$s.linkstatus), l.error_cause, ?
+    FROM unnest(?, ?, ?, ?, ?) AS l(instance_id, authority_id, linking_rule_id, status, error_cause)
+    ON CONFLICT (instance_id, authority_id, linking_rule_id) DO NOTHING""";
+  private static final String DELETE_BY_INSTANCE_ID_EXCEPT_QUERY = """
+    DELETE FROM %1$s.instance_authority_link l
+    WHERE l.instance_id = ?
+      AND NOT EXISTS (
+        SELECT 1 FROM unnest(?, ?) AS k(authority_id, linking_rule_id)
+        WHERE k.authority_id = l.authority_id AND k.linking_rule_id = l.linking_rule_id)""";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioModuleMetadata moduleMetadata;
+  private final FolioExecutionContext context;
+
+  @Override
+  public Stream<InstanceLinkView> streamByInstanceIds(Collection<UUID> instanceIds) {
+    var query = String.format(SELECT_BY_INSTANCE_IDS_QUERY, getSchemaName());
+    return jdbcTemplate.queryForStream(query, ps -> {
+      ps.setFetchSize(FETCH_SIZE);
+      ps.setArray(1, ps.getConnection().createArrayOf("uuid", instanceIds.toArray()));
+    }, (rs, rowNum) -> toLinkView(rs));
+  }
+
+  @Override
+  public int updateStatusAndErrorCauseByIds(InstanceAuthorityLinkStatus status, String errorCause,
+                                            Collection<Long> linkIds) {
+    var query = String.format(UPDATE_STATUS_BY_IDS_QUERY, getSchemaName());
+    return jdbcTemplate.update(query, ps -> {
+      ps.setString(1, status.name());
+      ps.setString(2, errorCause);
+      ps.setTimestamp(3, currentTs());
+      ps.setArray(4, ps.getConnection().createArrayOf("bigint", linkIds.toArray()));
+    });
+  }
+
+  @Override
+  public int upsertAll(List<InstanceAuthorityLink> links) {
+    var query = String.format(UPSERT_QUERY, getSchemaName());
+    var inserted = 0;
+    for (var chunk : Lists.partition(links, UPSERT_CHUNK_SIZE)) {
+      inserted += jdbcTemplate.update(query, ps -> {
+        var connection = ps.getConnection();
+        var authorityIds = mapToArray(chunk, InstanceLinkJdbcRepositoryImpl::getAuthorityId);
+        ps.setTimestamp(1, currentTs());
+        ps.setArray(2, connection.createArrayOf("uuid", mapToArray(chunk, InstanceAuthorityLink::getInstanceId)));
+        ps.setArray(3, connection.createArrayOf("uuid", authorityIds));
+        ps.setArray(4, connection.createArrayOf("integer", mapToArray(chunk, link -> link.getLinkingRule().getId())));
+        ps.setArray(5, connection.createArrayOf("text", mapToArray(chunk, link -> link.getStatus().name())));
+        ps.setArray(6, connection.createArrayOf("text", mapToArray(chunk, InstanceAuthorityLink::getErrorCause)));
+      });
+    }
+    return inserted;
+  }
+
+  @Override
+  public int deleteByInstanceIdExcept(UUID instanceId, List<InstanceAuthorityLink> links) {
+    var query = String.format(DELETE_BY_INSTANCE_ID_EXCEPT_QUERY, getSchemaName());
+    return jdbcTemplate.update(query, ps -> {
+      var connection = ps.getConnection();
+      var authorityIds = mapToArray(links, InstanceLinkJdbcRepositoryImpl::getAuthorityId);
+      ps.setObject(1, instanceId);
+      ps.setArray(2, connection.createArrayOf("uuid", authorityIds));
+      ps.setArray(3, connection.createArrayOf("integer", mapToArray(links, link -> link.getLinkingRule().getId())));
+    });
+  }
+
+  private static Object[] mapToArray(List<InstanceAuthorityLink> links, Function<InstanceAuthorityLink, ?> mapper) {
+    return links.stream().map(mapper).toArray();
+  }
+
+  private static UUID getAuthorityId(InstanceAuthorityLink link) {
+    return link.getAuthority() == null ? null : link.getAuthority().getId();
+  }
+
+  private InstanceLinkView toLinkView(ResultSet rs) throws SQLException {
+    var status = rs.getString("status");
+    return new InstanceLinkView(
+      rs.getLong("id"),
+      rs.getObject("instance_id", UUID.class),
+      rs.getObject("authority_id", UUID.class),
+      rs.getString("natural_id"),
+      rs.getObject("linking_rule_id", Integer.class),
+      status == null ? null : InstanceAuthorityLinkStatus.valueOf(status),
+      rs.getString("error_cause"));
+  }
+
+  private String getSchemaName() {
+    return moduleMetadata.getDBSchemaName(context.getTenantId());
+  }
+}
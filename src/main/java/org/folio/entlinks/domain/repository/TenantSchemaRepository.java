@@ -0,0 +1,39 @@
+package org.folio.entlinks.domain.repository;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.folio.spring.FolioModuleMetadata;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Discovers tenants the module is enabled for by their database schemas.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TenantSchemaRepository {
+
+  private static final String SCHEMA_NAME_PROBE = "tenant";
+  private static final String FIND_SCHEMAS_QUERY = """
+    SELECT table_schema FROM information_schema.tables
+    WHERE table_name = ? AND right(table_schema, ?) = ?
+    ORDER BY table_schema""";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioModuleMetadata moduleMetadata;
+
+  /**
+   * Finds tenants which schemas contain the table.
+   *
+   * @param tableName table name
+   * @return tenant ids
+   */
+  public List<String> findTenantIdsWithTable(String tableName) {
+    var schemaSuffix = moduleMetadata.getDBSchemaName(SCHEMA_NAME_PROBE).substring(SCHEMA_NAME_PROBE.length());
+    return jdbcTemplate.queryForList(FIND_SCHEMAS_QUERY, String.class, tableName, schemaSuffix.length(), schemaSuffix)
+      .stream()
+      .map(schemaName -> schemaName.substring(0, schemaName.length() - schemaSuffix.length()))
+      .filter(tenantId -> !tenantId.isEmpty())
+      .toList();
+  }
+}
@@ -0,0 +1,10 @@
+package org.folio.entlinks.exception;
+
+public class AuthorityArchiveExpireJobNotFoundException extends ResourceNotFoundException {
+
+  private static final String RESOURCE_NAME = "Authority archives expire job";
+
+  public AuthorityArchiveExpireJobNotFoundException(Object id) {
+    super(RESOURCE_NAME, id);
+  }
+}
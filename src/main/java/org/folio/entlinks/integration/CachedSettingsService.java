@@ -0,0 +1,75 @@
+package org.folio.entlinks.integration;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.client.SettingsClient;
+import org.folio.entlinks.config.cache.TenantCacheFactory;
+import org.folio.entlinks.config.properties.SettingsCacheProperties;
+import org.folio.entlinks.exception.FolioIntegrationException;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Service;
+
+/**
+ * Provides tenant settings from a cache, so they can be read on hot paths without requests to mod-settings.
+ *
+ * <p>Entries are refreshed in background after configured {@code refreshAfter}, so callers get the stale value
+ * instead of waiting for mod-settings. If settings can't be fetched, the last successfully fetched value is returned
+ * and the failure is cached for {@code failureTtl}, so mod-settings is not requested on every call while it's down.
+ */
+@Log4j2
+@Service
+public class CachedSettingsService {
+
+  public static final String SETTINGS_CACHE = "settings-cache";
+
+  private final SettingsService settingsService;
+  private final FolioExecutionContext context;
+  private final Map<String, Optional<SettingsClient.SettingEntry>> lastKnownSettings = new ConcurrentHashMap<>();
+  private final LoadingCache<String, CachedSetting> cache;
+
+  public CachedSettingsService(SettingsService settingsService, FolioExecutionContext context,
+                               SettingsCacheProperties properties, TenantCacheFactory cacheFactory) {
+    this.settingsService = settingsService;
+    this.context = context;
+    this.cache = cacheFactory.create(SETTINGS_CACHE, this::load,
+      (setting, ttl) -> setting.failed() ? properties.getFailureTtl() : ttl);
+  }
+
+  /**
+   * Returns authorities expiration setting of the tenant in the current execution context.
+   *
+   * @return cached setting, empty if the tenant has no setting or settings were never fetched successfully
+   */
+  public Optional<SettingsClient.AuthoritiesExpirationSettingValue> getAuthoritiesExpirationSetting() {
+    return Optional.ofNullable(cache.get(context.getTenantId()).setting())
+      .map(SettingsClient.SettingEntry::value);
+  }
+
+  /**
+   * Invalidates cached settings of the tenant.
+   *
+   * @param tenantId tenant id
+   */
+  public void invalidate(String tenantId) {
+    cache.invalidate(tenantId);
+    lastKnownSettings.remove(tenantId);
+  }
+
+  private CachedSetting load(String tenantId) {
+    try {
+      var setting = settingsService.getAuthorityExpireSetting();
+      lastKnownSettings.put(tenantId, setting);
+      return new CachedSetting(setting.orElse(null), false);
+    } catch (FolioIntegrationException e) {
+      var lastKnownSetting = lastKnownSettings.getOrDefault(tenantId, Optional.empty());
+      log.warn("Failed to fetch settings, using the last known value [tenantId: {}, known: {}]",
+        tenantId, lastKnownSetting.isPresent(), e);
+      return new CachedSetting(lastKnownSetting.orElse(null), true);
+    }
+  }
+
+  private record CachedSetting(SettingsClient.SettingEntry setting, boolean failed) { }
+}
@@ -0,0 +1,44 @@
+package org.folio.entlinks.integration.dto;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeField;
+
+/**
+ * Authority mapping rules with the inverted authority field to MARC tag index.
+ * Both are built together, so the index is rebuilt only when the rules are fetched again.
+ *
+ * @param fieldTargets mapping rules targets by MARC tag
+ * @param fieldTags    MARC tag by authority change field
+ */
+public record AuthorityMappingRules(Map<String, List<String>> fieldTargets,
+                                    Map<AuthorityChangeField, String> fieldTags) {
+
+  public static AuthorityMappingRules of(Map<String, List<String>> fieldTargets) {
+    var fieldNames = new TreeMap<String, AuthorityChangeField>();
+    for (var authorityChangeField : AuthorityChangeField.values()) {
+      fieldNames.put(authorityChangeField.getFieldName(), authorityChangeField);
+    }
+
+    // iterate tags in order so a field mapped to several tags always resolves to the same one
+    var fieldTags = new EnumMap<AuthorityChangeField, String>(AuthorityChangeField.class);
+    new TreeMap<>(fieldTargets).forEach((tag, targets) -> targets.forEach(target -> {
+      var authorityChangeField = fieldNames.get(target);
+      if (authorityChangeField != null) {
+        fieldTags.putIfAbsent(authorityChangeField, tag);
+      }
+    }));
+    return new AuthorityMappingRules(Map.copyOf(fieldTargets), Collections.unmodifiableMap(fieldTags));
+  }
+
+  public String getTag(AuthorityChangeField authorityChangeField) {
+    return fieldTags.get(authorityChangeField);
+  }
+
+  public boolean isEmpty() {
+    return fieldTargets.isEmpty();
+  }
+}
@@ -1,9 +1,16 @@
 package org.folio.entlinks.integration.internal;
 
+import static org.folio.entlinks.config.constants.CacheNames.INSTANCE_TITLES_CACHE;
+
 import com.google.common.collect.Lists;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -12,6 +19,12 @@ import org.folio.entlinks.client.InstanceStorageClient.InventoryInstanceDto;
 import org.folio.entlinks.client.InstanceStorageClient.InventoryInstanceDtoCollection;
 import org.folio.entlinks.config.properties.InstanceStorageProperties;
 import org.folio.entlinks.exception.FolioIntegrationException;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -23,23 +36,94 @@ public class InstanceStorageService {
   private static final String CQL_DELIMITER = " or ";
   private final InstanceStorageProperties instanceStorageProperties;
   private final InstanceStorageClient client;
+  private final CacheManager cacheManager;
+  private final FolioExecutionContext context;
+  @Qualifier("instanceStorageExecutor")
+  private final TaskExecutor executor;
 
+  /**
+   * Retrieves titles of instances by ids.
+   * Titles missing in the tenant-scoped cache are fetched from inventory-storage by batches executed concurrently.
+   *
+   * @param instanceIds ids of instances
+   * @return map of instance titles by instance ids
+   */
   public Map<String, String> getInstanceTitles(List<String> instanceIds) {
+    var cache = cacheManager.getCache(INSTANCE_TITLES_CACHE);
+    var titles = new HashMap<String, String>();
+    var missingIds = new LinkedHashSet<String>();
+    for (var instanceId : instanceIds) {
+      var cached = cache == null ? null : cache.get(cacheKey(instanceId), String.class);
+      if (cached == null) {
+        missingIds.add(instanceId);
+      } else {
+        titles.put(instanceId, cached);
+      }
+    }
+
+    if (!missingIds.isEmpty()) {
+      var fetchedTitles = fetchInstanceTitles(new ArrayList<>(missingIds));
+      putToCache(cache, fetchedTitles);
+      titles.putAll(fetchedTitles);
+    }
+    return titles;
+  }
+
+  private Map<String, String> fetchInstanceTitles(List<String> instanceIds) {
     int batchSize = instanceStorageProperties.getBatchSize();
     log.info("Fetching instance titles [count: {}, with batch size: {}]", instanceIds.size(), batchSize);
     log.trace("Fetching instance titles for [instance ids: {}]", instanceIds);
-    return Lists.partition(instanceIds, batchSize).stream()
-      .map(ids -> fetchInstances(buildCql(ids), ids.size()).instances())
-      .flatMap(Collection::stream)
+    var batches = Lists.partition(instanceIds, batchSize);
+    if (batches.size() == 1) {
+      return toTitles(fetchInstances(batches.get(0)).instances());
+    }
+
+    var moduleMetadata = context.getFolioModuleMetadata();
+    var headers = context.getAllHeaders();
+    var futures = batches.stream()
+      .map(ids -> CompletableFuture.supplyAsync(() -> {
+        try (var ignored = new FolioExecutionContextSetter(moduleMetadata, headers)) {
+          return fetchInstances(ids).instances();
+        }
+      }, executor))
+      .toList();
+
+    try {
+      return toTitles(futures.stream()
+        .map(CompletableFuture::join)
+        .flatMap(Collection::stream)
+        .toList());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof FolioIntegrationException integrationException) {
+        throw integrationException;
+      }
+      throw new FolioIntegrationException("Failed to fetch instances", e.getCause());
+    }
+  }
+
+  private Map<String, String> toTitles(List<InventoryInstanceDto> instances) {
+    return instances.stream()
       .collect(Collectors.toMap(InventoryInstanceDto::id, InventoryInstanceDto::title));
   }
 
+  private void putToCache(Cache cache, Map<String, String> titles) {
+    if (cache != null) {
+      titles.forEach((instanceId, title) -> cache.put(cacheKey(instanceId), title));
+    }
+  }
+
+  private String cacheKey(String instanceId) {
+    return context.getTenantId() + ':' + instanceId;
+  }
+
   private String buildCql(List<String> instanceIds) {
     var instanceIdsString = String.join(CQL_DELIMITER, instanceIds);
     return String.format(CQL_TEMPLATE, instanceIdsString);
   }
 
-  private InventoryInstanceDtoCollection fetchInstances(String query, int limit) {
+  private InventoryInstanceDtoCollection fetchInstances(List<String> instanceIds) {
+    var query = buildCql(instanceIds);
+    var limit = instanceIds.size();
     try {
       log.info("Fetching instances for query: {}, limit: {}", query, limit);
       return client.getInstanceStorageInstances(query, limit);
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.client.MappingRulesClient;
 import org.folio.entlinks.exception.FolioIntegrationException;
+import org.folio.entlinks.integration.dto.AuthorityMappingRules;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
@@ -22,12 +23,12 @@ public class MappingRulesService {
   @Cacheable(cacheNames = AUTHORITY_MAPPING_RULES_CACHE,
              key = "@folioExecutionContext.tenantId",
              unless = "#result.isEmpty()")
-  public Map<String, List<String>> getFieldTargetsMappingRelations() {
+  public AuthorityMappingRules getAuthorityMappingRules() {
     log.info("Fetching authority mapping rules");
     var mappingRules = fetchMappingRules();
-    return mappingRules.entrySet().stream()
+    return AuthorityMappingRules.of(mappingRules.entrySet().stream()
       .collect(Collectors.toMap(Map.Entry::getKey, rulesList ->
-        rulesList.getValue().stream().map(MappingRulesClient.MappingRule::target).toList()));
+        rulesList.getValue().stream().map(MappingRulesClient.MappingRule::target).toList())));
   }
 
   private Map<String, List<MappingRulesClient.MappingRule>> fetchMappingRules() {
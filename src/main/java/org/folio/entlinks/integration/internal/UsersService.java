@@ -0,0 +1,81 @@
+package org.folio.entlinks.integration.internal;
+
+import static org.folio.entlinks.config.constants.CacheNames.USERS_CACHE;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.client.UsersClient;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class UsersService {
+
+  private final UsersClient usersClient;
+  private final CacheManager cacheManager;
+  private final FolioExecutionContext context;
+
+  /**
+   * Retrieves users by ids. Users missing in the tenant-scoped cache are fetched with a single query,
+   * users that don't exist are cached as well to not query them again until the cache entry expires.
+   *
+   * @param userIds ids of users to retrieve
+   * @return map of found users by their ids
+   */
+  public Map<UUID, UsersClient.User> getUsersByIds(Collection<UUID> userIds) {
+    var cache = cacheManager.getCache(USERS_CACHE);
+    var users = new HashMap<UUID, UsersClient.User>();
+    var missingIds = new LinkedHashSet<UUID>();
+    for (var userId : userIds) {
+      if (userId == null || users.containsKey(userId)) {
+        continue;
+      }
+      var cached = cache == null ? null : cache.get(cacheKey(userId));
+      if (cached == null) {
+        missingIds.add(userId);
+      } else if (cached.get() instanceof UsersClient.User user) {
+        users.put(userId, user);
+      }
+    }
+
+    if (!missingIds.isEmpty()) {
+      users.putAll(fetchUsers(missingIds, cache));
+    }
+    return users;
+  }
+
+  private Map<UUID, UsersClient.User> fetchUsers(Set<UUID> userIds, Cache cache) {
+    log.debug("Fetching users [count: {}]", userIds.size());
+    var query = userIds.stream()
+      .map(UUID::toString)
+      .collect(Collectors.joining(" or ", "id=(", ")"));
+    var result = usersClient.query(query);
+    if (result == null || result.getResult() == null) {
+      return Map.of();
+    }
+
+    var fetched = result.getResult().stream()
+      .filter(Objects::nonNull)
+      .collect(Collectors.toMap(user -> UUID.fromString(user.id()), user -> user, (user1, user2) -> user1));
+    if (cache != null) {
+      userIds.forEach(userId -> cache.put(cacheKey(userId), fetched.get(userId)));
+    }
+    return fetched;
+  }
+
+  private String cacheKey(UUID userId) {
+    return context.getTenantId() + ':' + userId;
+  }
+}
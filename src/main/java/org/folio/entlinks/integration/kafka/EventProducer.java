@@ -5,6 +5,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.kafka.clients.producer.ProducerRecord;
@@ -29,24 +31,41 @@ public class EventProducer<T extends BaseEvent> {
   public void sendMessage(String key, T msgBody, Object... headers) {
     log.debug("Sending event to Kafka [topic: {}]", topicName);
     log.debug("Sending event to Kafka [topic: {}, body: {}]", topicName, msgBody);
-    if (headers.length % 2 != 0) {
-      throw new IllegalArgumentException(
-          String.format("Wrong number of %s header key and value pairs are provided", headers.length));
-    }
-    var headersMap = new HashMap<String, Collection<String>>();
-    for (int i = 0; i < headers.length; i += 2) {
-      headersMap.put(headers[i].toString(), List.of(headers[i + 1].toString()));
-    }
-    var producerRecord = toProducerRecord(key, msgBody, headersMap);
+    var producerRecord = toProducerRecord(key, msgBody, toHeadersMap(headers));
     template.send(producerRecord);
   }
 
-  public void sendMessages(List<T> msgBodies) {
+  /**
+   * Sends keyed messages with the same headers.
+   *
+   * @param msgBodies messages to send
+   * @param keyMapper function to get a message key
+   * @param headers   header key and value pairs
+   * @return future that completes when all messages are acknowledged
+   */
+  public CompletableFuture<Void> sendMessages(List<T> msgBodies, Function<T, String> keyMapper, Object... headers) {
+    log.info("Sending events to Kafka [topic: {}, number: {}]", topicName, msgBodies.size());
+    log.trace("Sending events to Kafka [topic: {}, bodies: {}]", topicName, msgBodies);
+    var headersMap = toHeadersMap(headers);
+    var futures = msgBodies.stream()
+      .map(msgBody -> template.send(toProducerRecord(keyMapper.apply(msgBody), msgBody, headersMap)))
+      .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(futures);
+  }
+
+  /**
+   * Sends messages without keys.
+   *
+   * @param msgBodies messages to send
+   * @return future that completes when all messages are acknowledged
+   */
+  public CompletableFuture<Void> sendMessages(List<T> msgBodies) {
     log.info("Sending events to Kafka [topic: {}, number: {}]", topicName, msgBodies.size());
     log.trace("Sending events to Kafka [topic: {}, bodies: {}]", topicName, msgBodies);
-    msgBodies.stream()
-      .map(this::toProducerRecord)
-      .forEach(template::send);
+    var futures = msgBodies.stream()
+      .map(msgBody -> template.send(toProducerRecord(msgBody)))
+      .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(futures);
   }
 
   private ProducerRecord<String, T> toProducerRecord(String key, T msgBody,
@@ -74,6 +93,18 @@ public class EventProducer<T extends BaseEvent> {
     return toProducerRecord(null, msgBody, Collections.emptyMap());
   }
 
+  private Map<String, Collection<String>> toHeadersMap(Object... headers) {
+    if (headers.length % 2 != 0) {
+      throw new IllegalArgumentException(
+          String.format("Wrong number of %s header key and value pairs are provided", headers.length));
+    }
+    var headersMap = new HashMap<String, Collection<String>>();
+    for (int i = 0; i < headers.length; i += 2) {
+      headersMap.put(headers[i].toString(), List.of(headers[i + 1].toString()));
+    }
+    return headersMap;
+  }
+
   private String topicName() {
     return KafkaUtils.getTenantTopicName(topicName, context.getTenantId());
   }
@@ -2,57 +2,111 @@ package org.folio.entlinks.integration.kafka;
 
 import static org.folio.spring.tools.config.RetryTemplateConfiguration.DEFAULT_KAFKA_RETRY_TEMPLATE_NAME;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.logging.log4j.message.FormattedMessageFactory;
+import org.folio.entlinks.config.properties.InstanceAuthorityStatsProperties;
 import org.folio.entlinks.domain.dto.LinkUpdateReport;
 import org.folio.entlinks.service.links.AuthorityDataStatService;
 import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.folio.spring.tools.batch.MessageBatchProcessor;
+import org.springframework.context.event.EventListener;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+/**
+ * Consumes link update reports and coalesces them across polls.
+ *
+ * <p>Reports are buffered per consumer thread and flushed to the database when the buffer reaches
+ * {@link InstanceAuthorityStatsProperties#getMaxSize()} reports or the oldest report waited longer than
+ * {@link InstanceAuthorityStatsProperties#getMaxWait()}. Offsets of buffered records are acknowledged only after
+ * the flush, so that uncommitted reports are redelivered if the consumer stops before flushing.</p>
+ */
 @Log4j2
 @Component
 @RequiredArgsConstructor
-public class InstanceAuthorityStatsEventListener {
+public class InstanceAuthorityStatsEventListener implements ConsumerAwareRebalanceListener {
+
+  static final String LISTENER_ID = "mod-entities-links-instance-authority-stats-listener";
+
+  private final ThreadLocal<ReportsBuffer> buffers = ThreadLocal.withInitial(ReportsBuffer::new);
 
   private final SystemUserScopedExecutionService executionService;
   private final MessageBatchProcessor messageBatchProcessor;
   private final AuthorityDataStatService dataStatService;
+  private final InstanceAuthorityStatsProperties statsProperties;
 
-  @KafkaListener(id = "mod-entities-links-instance-authority-stats-listener",
+  @KafkaListener(id = LISTENER_ID,
     containerFactory = "statsListenerFactory",
     topicPattern = "#{folioKafkaProperties.listener['instance-authority-stats'].topicPattern}",
     groupId = "#{folioKafkaProperties.listener['instance-authority-stats'].groupId}",
     concurrency = "#{folioKafkaProperties.listener['instance-authority-stats'].concurrency}")
-  public void handleEvents(List<ConsumerRecord<String, LinkUpdateReport>> consumerRecords) {
-    log.info("Processing stats from Kafka events [number of records: {}]", consumerRecords.size());
+  public void handleEvents(List<ConsumerRecord<String, LinkUpdateReport>> consumerRecords,
+                           Acknowledgment acknowledgment) {
+    log.info("Buffering stats from Kafka events [number of records: {}]", consumerRecords.size());
+
+    var buffer = buffers.get();
+    buffer.add(consumerRecords.stream().map(ConsumerRecord::value).toList(), acknowledgment);
+
+    if (buffer.size() >= statsProperties.getMaxSize() || buffer.isExpired(statsProperties.getMaxWait().toMillis())) {
+      flush(buffer);
+    }
+  }
+
+  /**
+   * Flushes reports waiting in the buffer when no new records were polled during the configured max wait.
+   * Idle events are published on the consumer thread, so the buffer of that consumer is used.
+   */
+  @EventListener(condition = "event.listenerId.startsWith('" + LISTENER_ID + "')")
+  public void handleIdleEvent(ListenerContainerIdleEvent event) {
+    var buffer = buffers.get();
+    if (!buffer.isEmpty()) {
+      flush(buffer);
+    }
+  }
 
-    consumerRecords.stream()
-      .map(ConsumerRecord::value)
-      .collect(Collectors.groupingBy(LinkUpdateReport::getTenant))
-      .forEach(this::handleReportEventsForTenant);
+  /**
+   * Flushes buffered reports before the offsets of revoked partitions are committed.
+   */
+  @Override
+  public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+    var buffer = buffers.get();
+    if (!buffer.isEmpty()) {
+      flush(buffer);
+    }
+  }
+
+  private void flush(ReportsBuffer buffer) {
+    log.info("Processing buffered stats [number of records: {}]", buffer.size());
+    try {
+      buffer.reports.stream()
+        .collect(Collectors.groupingBy(LinkUpdateReport::getTenant))
+        .forEach(this::handleReportEventsForTenant);
+    } finally {
+      buffer.acknowledgments.forEach(Acknowledgment::acknowledge);
+      buffer.clear();
+    }
   }
 
   private void handleReportEventsForTenant(String tenant, List<LinkUpdateReport> events) {
     executionService.executeSystemUserScoped(tenant, () -> {
       log.info("Triggering updates for stats records [tenant: {}, number of records: {}]", tenant, events.size());
       messageBatchProcessor.consumeBatchWithFallback(events, DEFAULT_KAFKA_RETRY_TEMPLATE_NAME,
-        this::handleReportEventsByJobId, this::logFailedEvent);
+        dataStatService::updateForReports, this::logFailedEvent);
       return null;
     });
   }
 
-  private void handleReportEventsByJobId(List<LinkUpdateReport> events) {
-    events.stream()
-      .collect(Collectors.groupingBy(LinkUpdateReport::getJobId))
-      .forEach(dataStatService::updateForReports);
-  }
-
   private void logFailedEvent(LinkUpdateReport event, Exception e) {
     if (event == null) {
       log.warn("Failed to process stats event [event: null]", e);
@@ -63,4 +117,38 @@ public class InstanceAuthorityStatsEventListener {
       "Failed to process stats event [jobId: {}, instanceId: {}, tenant: {}]", event.getJobId(), event.getInstanceId(),
       event.getTenant()), e);
   }
+
+  private static final class ReportsBuffer {
+
+    private final List<LinkUpdateReport> reports = new ArrayList<>();
+    private final List<Acknowledgment> acknowledgments = new ArrayList<>();
+    private long firstAddedAt;
+
+    void add(List<LinkUpdateReport> newReports, Acknowledgment acknowledgment) {
+      if (reports.isEmpty()) {
+        firstAddedAt = System.currentTimeMillis();
+      }
+      reports.addAll(newReports);
+      if (acknowledgment != null) {
+        acknowledgments.add(acknowledgment);
+      }
+    }
+
+    boolean isExpired(long maxWaitMillis) {
+      return !reports.isEmpty() && System.currentTimeMillis() - firstAddedAt >= maxWaitMillis;
+    }
+
+    boolean isEmpty() {
+      return reports.isEmpty() && acknowledgments.isEmpty();
+    }
+
+    int size() {
+      return reports.size();
+    }
+
+    void clear() {
+      reports.clear();
+      acknowledgments.clear();
+    }
+  }
 }
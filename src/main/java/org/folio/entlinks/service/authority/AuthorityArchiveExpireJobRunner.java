@@ -0,0 +1,78 @@
+package org.folio.entlinks.service.authority;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AuthorityArchiveExpireJobRunner {
+
+  private final AuthorityArchiveExpireJobService jobService;
+  private final SystemUserScopedExecutionService executionService;
+
+  /**
+   * Expires archives chunk by chunk until there are no expired archives left.
+   *
+   * @param tenantId tenant id
+   * @param jobId    started job id
+   */
+  @Async
+  public void run(String tenantId, UUID jobId) {
+    executionService.executeSystemUserScoped(tenantId, () -> {
+      expire(jobId, null, 0);
+      return null;
+    });
+  }
+
+  /**
+   * Expires archives chunk by chunk until there are no expired archives left or the time budget is exhausted.
+   * The job is paused when the time budget is exhausted, so that it is resumed by the next run.
+   *
+   * @param jobId              started job id
+   * @param timeBudget         max time to spend on the job, null means no limit
+   * @param maxChunksPerSecond max number of chunks expired per second, 0 means no limit
+   * @return number of archives expired by this run
+   */
+  int expire(UUID jobId, Duration timeBudget, int maxChunksPerSecond) {
+    log.info("Authority archives expiration started [jobId: {}]", jobId);
+    var startedAt = System.nanoTime();
+    var deadline = timeBudget == null ? 0 : startedAt + timeBudget.toNanos();
+    var chunkInterval = maxChunksPerSecond == 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / maxChunksPerSecond;
+    var total = 0;
+    try {
+      var nextChunkAt = startedAt;
+      int expired;
+      do {
+        if (timeBudget != null && System.nanoTime() - deadline >= 0) {
+          jobService.pauseJob(jobId);
+          return total;
+        }
+        awaitUntil(nextChunkAt);
+        nextChunkAt = System.nanoTime() + chunkInterval;
+        expired = jobService.expireChunk(jobId);
+        total += expired;
+      } while (expired > 0);
+      jobService.completeJob(jobId);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      jobService.pauseJob(jobId);
+    } catch (Exception e) {
+      jobService.failJob(jobId, e);
+    }
+    return total;
+  }
+
+  private static void awaitUntil(long nanoTime) throws InterruptedException {
+    var delay = nanoTime - System.nanoTime();
+    if (delay > 0) {
+      TimeUnit.NANOSECONDS.sleep(delay);
+    }
+  }
+}
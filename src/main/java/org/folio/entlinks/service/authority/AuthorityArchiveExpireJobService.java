@@ -0,0 +1,187 @@
+package org.folio.entlinks.service.authority;
+
+import static org.folio.entlinks.domain.entity.AuthorityArchiveExpireJobStatus.COMPLETED;
+import static org.folio.entlinks.domain.entity.AuthorityArchiveExpireJobStatus.FAILED;
+import static org.folio.entlinks.domain.entity.AuthorityArchiveExpireJobStatus.IN_PROGRESS;
+import static org.folio.entlinks.domain.entity.AuthorityArchiveExpireJobStatus.PAUSED;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.client.SettingsClient;
+import org.folio.entlinks.config.properties.AuthorityArchiveProperties;
+import org.folio.entlinks.controller.converter.AuthorityMapper;
+import org.folio.entlinks.domain.entity.AuthorityArchiveExpireJob;
+import org.folio.entlinks.domain.repository.AdvisoryLockRepository;
+import org.folio.entlinks.domain.repository.AuthorityArchiveExpireJobRepository;
+import org.folio.entlinks.exception.AuthorityArchiveExpireJobNotFoundException;
+import org.folio.entlinks.integration.CachedSettingsService;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tracks authority archives expiration jobs. Every chunk of expired archives is deleted, its events are published
+ * and the job progress is saved in one transaction, so a failed job can be resumed from the last committed chunk.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class AuthorityArchiveExpireJobService {
+
+  static final String START_LOCK_NAMESPACE = "authority-archive-expire-start";
+
+  private final AuthorityArchiveExpireJobRepository repository;
+  private final AuthorityArchiveService authorityArchiveService;
+  private final AuthorityDomainEventPublisher eventPublisher;
+  private final AuthorityMapper authorityMapper;
+  private final AuthorityArchiveProperties properties;
+  private final CachedSettingsService settingsService;
+  private final AdvisoryLockRepository lockRepository;
+  private final FolioExecutionContext context;
+
+  public AuthorityArchiveExpireJob getById(UUID id) {
+    return repository.findById(id).orElseThrow(() -> new AuthorityArchiveExpireJobNotFoundException(id));
+  }
+
+  /**
+   * Resolves the date archives updated till are expired according to the tenant's retention setting
+   * or the default retention period.
+   *
+   * @return expiration till date, empty if expiration is disabled for the tenant
+   */
+  public Optional<LocalDateTime> getExpirationTillDate() {
+    return fetchRetentionInDays().map(retention -> LocalDateTime.now().minusDays(retention));
+  }
+
+  /**
+   * Returns the latest job if it is in progress and has not stalled.
+   *
+   * @return running job
+   */
+  public Optional<AuthorityArchiveExpireJob> findRunningJob() {
+    var stalledBefore = OffsetDateTime.now().minus(properties.getStalledJobTimeout());
+    return repository.findFirstByOrderByStartedDateDesc()
+      .filter(job -> job.getJobStatus() == IN_PROGRESS)
+      .filter(job -> job.getUpdatedDate() != null && job.getUpdatedDate().isAfter(stalledBefore));
+  }
+
+  /**
+   * Returns the running job or starts a job if there is none.
+   * Concurrent calls for the tenant are serialized with an advisory lock, so that only one of them starts a job.
+   *
+   * @param tillDate the date archives updated till are expired by a new job
+   * @return running or started job
+   */
+  @Transactional
+  public ExpireJobStart findRunningOrStartJob(LocalDateTime tillDate) {
+    lockRepository.lockForTransaction(START_LOCK_NAMESPACE, context.getTenantId());
+    return findRunningJob()
+      .map(job -> new ExpireJobStart(job, false))
+      .orElseGet(() -> new ExpireJobStart(startJob(tillDate), true));
+  }
+
+  /**
+   * Resumes the latest job if it has failed, paused or stalled, otherwise starts a new job.
+   * A resumed job keeps its till date and the number of already expired archives.
+   * Archive partitions are maintained on start: upcoming partitions are created and expired ones are detached.
+   *
+   * @param tillDate the date archives updated till are expired by a new job
+   * @return started job
+   */
+  @Transactional
+  public AuthorityArchiveExpireJob startJob(LocalDateTime tillDate) {
+    var now = OffsetDateTime.now();
+    var job = repository.findFirstByOrderByStartedDateDesc()
+      .filter(latestJob -> latestJob.getJobStatus() != COMPLETED)
+      .map(latestJob -> {
+        log.info("Resuming authority archives expiration [jobId: {}, expired: {}]",
+          latestJob.getId(), latestJob.getExpired());
+        return latestJob.withFailureCause(null);
+      })
+      .orElseGet(() -> new AuthorityArchiveExpireJob()
+        .withTillDate(tillDate)
+        .withStartedDate(now));
+    authorityArchiveService.createPartitions(properties.getPartitionsAhead());
+    authorityArchiveService.detachExpiredPartitions(job.getTillDate());
+    return repository.save(job.withJobStatus(IN_PROGRESS).withUpdatedDate(now));
+  }
+
+  /**
+   * Deletes the next chunk of expired archives, publishes hard delete events for them and checkpoints the job.
+   *
+   * @param jobId job id
+   * @return number of expired archives
+   */
+  @Transactional
+  public int expireChunk(UUID jobId) {
+    var job = getById(jobId);
+    var archives = authorityArchiveService.deleteExpired(job.getTillDate(), properties.getChunkSize());
+    if (archives.isEmpty()) {
+      return 0;
+    }
+
+    var dtos = archives.stream()
+      .map(authorityMapper::toDto)
+      .toList();
+    // wait for the events to be acknowledged, so the chunk is rolled back and retried if publishing fails
+    eventPublisher.publishHardDeleteEvents(dtos).join();
+
+    job.setExpired(job.getExpired() + archives.size());
+    job.setUpdatedDate(OffsetDateTime.now());
+    repository.save(job);
+    log.debug("Authority archives chunk expired [jobId: {}, count: {}]", jobId, archives.size());
+    return archives.size();
+  }
+
+  @Transactional
+  public void completeJob(UUID jobId) {
+    var job = getById(jobId);
+    repository.save(job.withJobStatus(COMPLETED).withUpdatedDate(OffsetDateTime.now()));
+    log.info("Authority archives expiration completed [jobId: {}, expired: {}]", jobId, job.getExpired());
+  }
+
+  @Transactional
+  public void pauseJob(UUID jobId) {
+    var job = getById(jobId);
+    repository.save(job.withJobStatus(PAUSED).withUpdatedDate(OffsetDateTime.now()));
+    log.info("Authority archives expiration paused [jobId: {}, expired: {}]", jobId, job.getExpired());
+  }
+
+  @Transactional
+  public void failJob(UUID jobId, Throwable cause) {
+    var job = getById(jobId);
+    repository.save(job.withJobStatus(FAILED)
+      .withFailureCause(cause.getMessage())
+      .withUpdatedDate(OffsetDateTime.now()));
+    log.warn("Authority archives expiration failed [jobId: {}, expired: {}]", jobId, job.getExpired(), cause);
+  }
+
+  private Optional<Integer> fetchRetentionInDays() {
+    var expireSetting = settingsService.getAuthoritiesExpirationSetting();
+
+    if (expireSetting.isPresent() && Boolean.FALSE.equals(expireSetting.get().expirationEnabled())) {
+      log.info("Authority archives expiration is disabled for the tenant through setting");
+      return Optional.empty();
+    }
+
+    return expireSetting
+        .map(SettingsClient.AuthoritiesExpirationSettingValue::retentionInDays)
+        .or(() -> {
+          log.debug("No Retention setting was defined for Authorities Expiration, using the default one: {} days",
+              properties.getRetentionPeriodInDays());
+          return Optional.of(properties.getRetentionPeriodInDays());
+        });
+  }
+
+  /**
+   * Job returned by {@link #findRunningOrStartJob(LocalDateTime)}.
+   *
+   * @param job     running or started job
+   * @param started true if the job was started by the call and has to be run
+   */
+  public record ExpireJobStart(AuthorityArchiveExpireJob job, boolean started) {}
+}
@@ -0,0 +1,109 @@
+package org.folio.entlinks.service.authority;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.datasource.DataSourceWorkload;
+import org.folio.entlinks.config.properties.AuthorityArchiveProperties;
+import org.folio.entlinks.domain.repository.AdvisoryLockRepository;
+import org.folio.entlinks.domain.repository.TenantSchemaRepository;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Expires authority archives of all tenants the module is enabled for.
+ *
+ * <p>Each tenant is processed under an advisory lock, so that only one module instance works on a tenant at a time.
+ * Tenants are processed in random order after a random delay, so that instances spread the load over tenants and time.
+ * Expiration of a tenant is limited by a time budget and a chunk rate, an unfinished job is resumed by the next run.
+ * </p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "folio.authority-archive.expire.scheduler.enabled", havingValue = "true")
+public class AuthorityArchiveExpireScheduler {
+
+  static final String LOCK_NAMESPACE = "authority-archive-expire";
+  static final String DURATION_METRIC = "authority.archive.expire.duration";
+  static final String EXPIRED_METRIC = "authority.archive.expire.expired";
+  static final String TENANT_TAG = "tenant";
+
+  private static final String ARCHIVE_TABLE = "authority_archive";
+
+  private final TenantSchemaRepository tenantSchemaRepository;
+  private final AdvisoryLockRepository lockRepository;
+  private final AuthorityArchiveExpireJobService jobService;
+  private final AuthorityArchiveExpireJobRunner jobRunner;
+  private final SystemUserScopedExecutionService executionService;
+  private final AuthorityArchiveProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  @Scheduled(cron = "${folio.authority-archive.expire.scheduler.cron}")
+  public void scheduleExpiration() {
+    var maxJitter = properties.getScheduler().getMaxJitter().toMillis();
+    try {
+      TimeUnit.MILLISECONDS.sleep(maxJitter > 0 ? ThreadLocalRandom.current().nextLong(maxJitter) : 0);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    DataSourceWorkload.BACKGROUND.run(this::expireAllTenants);
+  }
+
+  void expireAllTenants() {
+    var tenantIds = new ArrayList<>(tenantSchemaRepository.findTenantIdsWithTable(ARCHIVE_TABLE));
+    Collections.shuffle(tenantIds);
+    log.info("Scheduled authority archives expiration started [tenants: {}]", tenantIds.size());
+    for (var tenantId : tenantIds) {
+      if (Thread.currentThread().isInterrupted()) {
+        return;
+      }
+      try {
+        var locked = lockRepository.executeWithTryLock(LOCK_NAMESPACE, tenantId, () -> expire(tenantId));
+        if (!locked) {
+          log.info("Authority archives expiration is locked by another instance [tenant: {}]", tenantId);
+        }
+      } catch (Exception e) {
+        log.warn("Failed to expire authority archives [tenant: {}]", tenantId, e);
+      }
+    }
+  }
+
+  private void expire(String tenantId) {
+    executionService.executeSystemUserScoped(tenantId, () -> {
+      var tillDate = jobService.getExpirationTillDate();
+      if (tillDate.isEmpty()) {
+        return null;
+      }
+
+      var jobStart = jobService.findRunningOrStartJob(tillDate.get());
+      if (!jobStart.started()) {
+        return null;
+      }
+
+      var job = jobStart.job();
+      var sample = Timer.start(meterRegistry);
+      var scheduler = properties.getScheduler();
+      var expired = jobRunner.expire(job.getId(), scheduler.getTenantTimeBudget(), scheduler.getMaxChunksPerSecond());
+      sample.stop(Timer.builder(DURATION_METRIC)
+        .description("Duration of scheduled authority archives expiration for a tenant")
+        .tag(TENANT_TAG, tenantId)
+        .register(meterRegistry));
+      Counter.builder(EXPIRED_METRIC)
+        .description("Number of authority archives expired by scheduled runs")
+        .tag(TENANT_TAG, tenantId)
+        .register(meterRegistry)
+        .increment(expired);
+      return null;
+    });
+  }
+}
@@ -1,5 +1,7 @@
 package org.folio.entlinks.service.authority;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
@@ -9,7 +11,6 @@ import org.folio.entlinks.domain.repository.AuthorityArchiveRepository;
 import org.folio.spring.data.OffsetRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -42,9 +43,52 @@ public class AuthorityArchiveService {
     return repository.findIdsByCql(cqlQuery, new OffsetRequest(offset, limit));
   }
 
-  @Transactional(propagation = Propagation.REQUIRES_NEW)
-  public void delete(AuthorityArchive authorityArchive) {
-    log.debug("Deleting authority archive: id = {}", authorityArchive.getId());
-    repository.delete(authorityArchive);
+  /**
+   * Creates archive partitions for the current month and the given number of upcoming months if they are missing.
+   *
+   * @param monthsAhead number of upcoming months
+   */
+  @Transactional
+  public void createPartitions(int monthsAhead) {
+    var created = repository.createPartitions(LocalDateTime.now(), monthsAhead);
+    if (created > 0) {
+      log.info("Created authority archive partitions [count: {}]", created);
+    }
+  }
+
+  /**
+   * Detaches archive partitions that are expired as a whole, so they are drained by {@link #deleteExpired}
+   * without scanning the rest of the archives.
+   *
+   * @param tillDate the date archives updated till are expired
+   */
+  @Transactional
+  public void detachExpiredPartitions(LocalDateTime tillDate) {
+    var detached = repository.detachExpiredPartitions(tillDate);
+    if (!detached.isEmpty()) {
+      log.info("Detached expired authority archive partitions [partitions: {}]", detached);
+    }
+  }
+
+  /**
+   * Deletes a chunk of expired archives. Detached partitions are drained first and dropped once empty,
+   * then the archives left in attached partitions are deleted.
+   *
+   * @param tillDate  the date archives updated till are expired
+   * @param chunkSize max number of archives to delete
+   * @return deleted archives
+   */
+  @Transactional
+  public List<AuthorityArchive> deleteExpired(LocalDateTime tillDate, int chunkSize) {
+    log.debug("Deleting authority archives chunk [tillDate: {}, chunkSize: {}]", tillDate, chunkSize);
+    for (var partition : repository.findDetachedPartitions()) {
+      var archives = repository.deleteDetachedPartitionChunk(partition, chunkSize);
+      if (!archives.isEmpty()) {
+        return archives;
+      }
+      log.info("Dropping drained authority archive partition [partition: {}]", partition);
+      repository.dropDetachedPartition(partition);
+    }
+    return repository.deleteExpiredChunk(tillDate, chunkSize);
   }
 }
@@ -1,5 +1,7 @@
 package org.folio.entlinks.service.authority;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.domain.dto.AuthorityDto;
@@ -75,6 +77,23 @@ public class AuthorityDomainEventPublisher {
     eventProducer.sendMessage(id.toString(), domainEvent, DOMAIN_EVENT_TYPE_HEADER, DomainEventType.DELETE);
   }
 
+  /**
+   * Publishes hard delete events for a batch of deleted authorities.
+   *
+   * @param deleted deleted authorities
+   * @return future that completes when all events are acknowledged
+   */
+  public CompletableFuture<Void> publishHardDeleteEvents(List<AuthorityDto> deleted) {
+    var tenantId = folioExecutionContext.getTenantId();
+    List<DomainEvent<?>> domainEvents = deleted.stream()
+      .filter(authority -> authority.getId() != null)
+      .<DomainEvent<?>>map(authority -> AuthorityDomainEvent.hardDeleteEvent(authority.getId(), authority, tenantId))
+      .toList();
+    log.debug("publishHardDeleteEvents::process authorities [count: {}]", domainEvents.size());
+    return eventProducer.sendMessages(domainEvents, domainEvent -> domainEvent.getId().toString(),
+      DOMAIN_EVENT_TYPE_HEADER, DomainEventType.DELETE);
+  }
+
   public void publishReindexEvent(AuthorityDto authority, ReindexContext context) {
     var id = authority.getId();
     if (id == null) {
@@ -2,11 +2,14 @@ package org.folio.entlinks.service.authority;
 
 import static org.folio.entlinks.utils.ServiceUtils.initId;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -39,6 +42,7 @@ public class AuthorityService {
   private final AuthorityRepository repository;
   private final AuthoritySourceFileRepository sourceFileRepository;
 
+  @Transactional(readOnly = true)
   public Page<Authority> getAll(Integer offset, Integer limit, String cql) {
     log.debug("getAll:: Attempts to find all Authority by [offset: {}, limit: {}, cql: {}]", offset, limit,
       cql);
@@ -50,6 +54,7 @@ public class AuthorityService {
     return repository.findByCqlAndDeletedFalse(cql, new OffsetRequest(offset, limit));
   }
 
+  @Transactional(readOnly = true)
   public Page<AuthorityIdDto> getAllIds(Integer offset, Integer limit, String cql) {
     log.debug("getAll:: Attempts to find all Authority IDs by [offset: {}, limit: {}, cql: {}]",
         offset, limit, cql);
@@ -73,6 +78,16 @@ public class AuthorityService {
       .collect(Collectors.toMap(Authority::getId, Function.identity()));
   }
 
+  /**
+   * Returns ids of existing not deleted authorities, reading them directly from the database.
+   *
+   * @param ids authority ids
+   * @return ids of existing not deleted authorities
+   */
+  public Set<UUID> getNotDeletedIds(Collection<UUID> ids) {
+    return repository.findIdsByIdInAndDeletedFalse(ids);
+  }
+
   @Transactional
   public Authority create(Authority entity) {
     log.debug("create:: Attempting to create Authority [entity: {}]", entity);
@@ -121,6 +136,84 @@ public class AuthorityService {
     repository.save(authority);
   }
 
+  /**
+   * Creates {@link Authority} records in a single transaction, following the rules of {@link #create(Authority)}.
+   * Records with ids that already exist, deleted or not, are not created.
+   *
+   * @param entities collection of {@link Authority} records to create
+   * @return ids of records that were not created
+   */
+  @Transactional
+  public Set<UUID> batchCreate(Collection<Authority> entities) {
+    log.debug("batchCreate:: Attempting to create Authorities [count: {}]", entities.size());
+    validateSourceFiles(entities);
+
+    var ids = entities.stream().map(Authority::getId).filter(Objects::nonNull).toList();
+    var existingIds = ids.isEmpty() ? Set.<UUID>of() : repository.findAllById(ids).stream()
+      .map(Authority::getId)
+      .collect(Collectors.toSet());
+    var toSave = new ArrayList<Authority>(entities.size());
+    for (var entity : entities) {
+      if (!existingIds.contains(entity.getId())) {
+        initId(entity);
+        toSave.add(entity);
+      }
+    }
+
+    repository.saveAll(toSave);
+    return existingIds;
+  }
+
+  /**
+   * Updates {@link Authority} records in a single transaction, following the rules of
+   * {@link #update(UUID, Authority)}. Existing records are loaded with one query and changes are flushed in JDBC
+   * batches. Records that do not exist, are deleted or have a version lower than the stored one are not updated.
+   *
+   * @param modified collection of {@link Authority} records to update
+   * @return ids of records that were not updated
+   */
+  @Transactional
+  public Set<UUID> batchUpdate(Collection<Authority> modified) {
+    log.debug("batchUpdate:: Attempting to update Authorities [count: {}]", modified.size());
+    validateSourceFiles(modified);
+
+    var ids = modified.stream().map(Authority::getId).filter(Objects::nonNull).toList();
+    var existingById = ids.isEmpty() ? Map.<UUID, Authority>of() : getAllByIds(ids);
+    var rejectedIds = new HashSet<UUID>();
+    var toSave = new ArrayList<Authority>(modified.size());
+    for (var authority : modified) {
+      var existing = existingById.get(authority.getId());
+      if (existing == null || authority.getVersion() < existing.getVersion()) {
+        rejectedIds.add(authority.getId());
+      } else {
+        copyModifiableFields(existing, authority);
+        toSave.add(existing);
+      }
+    }
+
+    repository.saveAll(toSave);
+    return rejectedIds;
+  }
+
+  /**
+   * Performs soft-delete of {@link Authority} records in a single transaction.
+   *
+   * @param ids collection of authority record ids of {@link UUID} type
+   * @return ids of records that were not deleted, as they do not exist or are already deleted
+   */
+  @Transactional
+  public Set<UUID> batchSoftDeleteByIds(Collection<UUID> ids) {
+    log.debug("batchSoftDeleteByIds:: Attempt to delete Authorities [count: {}]", ids.size());
+
+    var authorities = repository.findAllByIdInAndDeletedFalse(ids);
+    authorities.forEach(authority -> authority.setDeleted(true));
+
+    repository.saveAll(authorities);
+    var rejectedIds = new HashSet<>(ids);
+    authorities.forEach(authority -> rejectedIds.remove(authority.getId()));
+    return rejectedIds;
+  }
+
   /**
    * Performs hard-delete of {@link Authority} records.
    *
@@ -152,12 +245,28 @@ public class AuthorityService {
       }, () -> existing.setAuthoritySourceFile(null));
   }
 
+  private void validateSourceFiles(Collection<Authority> authorities) {
+    authorities.stream()
+      .map(Authority::getAuthoritySourceFile)
+      .filter(Objects::nonNull)
+      .map(AuthoritySourceFile::getId)
+      .filter(Objects::nonNull)
+      .distinct()
+      .forEach(this::validateSourceFile);
+  }
+
   private void validateSourceFile(Authority authority) {
     if (authority.getAuthoritySourceFile() != null) {
       var id = authority.getAuthoritySourceFile().getId();
-      if (id != null && !sourceFileRepository.existsById(id)) {
-        throw new AuthoritySourceFileNotFoundException(id);
+      if (id != null) {
+        validateSourceFile(id);
       }
     }
   }
+
+  private void validateSourceFile(UUID sourceFileId) {
+    if (!sourceFileRepository.existsById(sourceFileId)) {
+      throw new AuthoritySourceFileNotFoundException(sourceFileId);
+    }
+  }
 }
@@ -0,0 +1,82 @@
+package org.folio.entlinks.service.consortium;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.cache.TenantCacheFactory;
+import org.folio.entlinks.config.properties.ConsortiumTopologyCacheProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates caches for consortium topology lookups (consortium id, central tenant, member tenants).
+ *
+ * <p>Entries are refreshed in background after configured {@code refreshAfter}, so callers get the stale value
+ * instead of waiting for mod-users or mod-consortia. Empty results expire after a shorter {@code negativeTtl}.
+ * Failed lookups are not cached, and failed refreshes keep the previous value.
+ * Keys are {@code <context tenant>:<tenant>}, so entries could be invalidated for a tenant on both sides.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ConsortiumTopologyCache {
+
+  private static final char KEY_DELIMITER = ':';
+
+  private final ConsortiumTopologyCacheProperties properties;
+  private final TenantCacheFactory cacheFactory;
+  private final FolioExecutionContext context;
+  private final List<Cache<String, ?>> caches = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a cache loading values by tenant id, see {@link TenantCacheFactory}.
+   *
+   * @param cacheName cache name
+   * @param loader    function loading a value for a tenant id in the current execution context
+   * @return cache with keys built by {@link #key(String)}
+   */
+  public <V> LoadingCache<String, V> create(String cacheName, Function<String, V> loader) {
+    LoadingCache<String, V> cache = cacheFactory.create(cacheName, key -> loader.apply(tenantId(key)),
+      (value, ttl) -> isEmpty(value) ? properties.getNegativeTtl() : ttl);
+    caches.add(cache);
+    return cache;
+  }
+
+  /**
+   * Builds a cache key for a tenant id in the current execution context.
+   */
+  public String key(String tenantId) {
+    return context.getTenantId() + KEY_DELIMITER + tenantId;
+  }
+
+  private static String tenantId(String key) {
+    return key.substring(key.indexOf(KEY_DELIMITER) + 1);
+  }
+
+  /**
+   * Invalidates all entries requested by or for the given tenant.
+   *
+   * @param tenantId tenant id
+   */
+  public void invalidate(String tenantId) {
+    log.info("Invalidating consortium topology caches [tenantId: {}]", tenantId);
+    var contextPrefix = tenantId + KEY_DELIMITER;
+    var tenantSuffix = KEY_DELIMITER + tenantId;
+    for (var cache : caches) {
+      cache.asMap().keySet().removeIf(key -> key.startsWith(contextPrefix) || key.endsWith(tenantSuffix));
+    }
+  }
+
+  private static boolean isEmpty(Object value) {
+    if (value instanceof Optional<?> optional) {
+      return optional.isEmpty();
+    }
+    return value instanceof Collection<?> collection && collection.isEmpty();
+  }
+}
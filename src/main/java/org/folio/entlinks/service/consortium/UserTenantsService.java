@@ -1,22 +1,31 @@
 package org.folio.entlinks.service.consortium;
 
 import static org.folio.entlinks.config.constants.CacheNames.CONSORTIUM_CENTRAL_TENANT;
+import static org.folio.entlinks.config.constants.CacheNames.CONSORTIUM_ID_CACHE;
 
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import java.util.List;
 import java.util.Optional;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.entlinks.client.UserTenantsClient;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 @Log4j2
 public class UserTenantsService {
 
   private final UserTenantsClient userTenantsClient;
+  private final ConsortiumTopologyCache topologyCache;
+  private final LoadingCache<String, Optional<String>> consortiumIds;
+  private final LoadingCache<String, Optional<String>> centralTenants;
+
+  public UserTenantsService(UserTenantsClient userTenantsClient, ConsortiumTopologyCache topologyCache) {
+    this.userTenantsClient = userTenantsClient;
+    this.topologyCache = topologyCache;
+    this.consortiumIds = topologyCache.create(CONSORTIUM_ID_CACHE, this::loadConsortiumId);
+    this.centralTenants = topologyCache.create(CONSORTIUM_CENTRAL_TENANT, this::loadCentralTenant);
+  }
 
   /**
    * Get consortium id.
@@ -28,6 +37,18 @@ public class UserTenantsService {
       return Optional.empty();
     }
 
+    return consortiumIds.get(topologyCache.key(tenantId));
+  }
+
+  public Optional<String> getCentralTenant(String tenantId) {
+    if (StringUtils.isBlank(tenantId)) {
+      return Optional.empty();
+    }
+
+    return centralTenants.get(topologyCache.key(tenantId));
+  }
+
+  private Optional<String> loadConsortiumId(String tenantId) {
     var userTenantsResponse = userTenantsClient.getUserTenants(tenantId);
     if (userTenantsResponse != null) {
       return userTenantsResponse.userTenants().stream()
@@ -38,12 +59,7 @@ public class UserTenantsService {
     return Optional.empty();
   }
 
-  @Cacheable(cacheNames = CONSORTIUM_CENTRAL_TENANT, key = "@folioExecutionContext.tenantId + ':' + #tenantId")
-  public Optional<String> getCentralTenant(String tenantId) {
-    if (StringUtils.isBlank(tenantId)) {
-      return Optional.empty();
-    }
-
+  private Optional<String> loadCentralTenant(String tenantId) {
     var userTenants = userTenantsClient.getUserTenants(tenantId);
     log.debug("getCentralTenant:  tenantId: {}, response: {}", tenantId, userTenants);
 
@@ -4,7 +4,6 @@ import java.util.List;
 import org.folio.entlinks.domain.entity.AuthorityDataStat;
 import org.folio.entlinks.service.consortium.ConsortiumTenantsService;
 import org.folio.entlinks.service.links.AuthorityDataStatService;
-import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,9 +15,9 @@ public class ConsortiumAuthorityDataStatsPropagationService
   private final AuthorityDataStatService authorityDataStatService;
 
   protected ConsortiumAuthorityDataStatsPropagationService(ConsortiumTenantsService tenantsService,
-                                                           SystemUserScopedExecutionService executionService,
+                                                           ConsortiumPropagationScheduler propagationScheduler,
                                                            AuthorityDataStatService authorityDataStatService) {
-    super(tenantsService, executionService);
+    super(tenantsService, propagationScheduler);
     this.authorityDataStatService = authorityDataStatService;
   }
 
@@ -1,10 +1,10 @@
 package org.folio.entlinks.service.consortium.propagation;
 
+import java.util.Collection;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.service.authority.AuthorityService;
 import org.folio.entlinks.service.consortium.ConsortiumTenantsService;
-import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -15,8 +15,8 @@ public class ConsortiumAuthorityPropagationService extends ConsortiumPropagation
 
   public ConsortiumAuthorityPropagationService(AuthorityService authorityService,
                                                ConsortiumTenantsService tenantsService,
-                                               SystemUserScopedExecutionService executionService) {
-    super(tenantsService, executionService);
+                                               ConsortiumPropagationScheduler propagationScheduler) {
+    super(tenantsService, propagationScheduler);
     this.authorityService = authorityService;
   }
 
@@ -30,4 +30,33 @@ public class ConsortiumAuthorityPropagationService extends ConsortiumPropagation
     }
   }
 
+  /**
+   * Applies the authorities at once, following the rules of {@link #doPropagation}. Authorities rejected by the batch,
+   * e.g. updated authorities that are missing or deleted, are propagated one by one to fail the same way.
+   */
+  @Override
+  protected void doBatchPropagation(Collection<Authority> authorities, PropagationType propagationType) {
+    var shadowCopies = authorities.stream()
+      .map(ConsortiumAuthorityPropagationService::toShadowCopy)
+      .toList();
+    var rejectedIds = switch (propagationType) {
+      case CREATE -> authorityService.batchCreate(shadowCopies);
+      case UPDATE -> authorityService.batchUpdate(shadowCopies);
+      case DELETE -> authorityService.batchSoftDeleteByIds(authorities.stream().map(Authority::getId).toList());
+      default -> throw new IllegalStateException("Unexpected value: " + propagationType);
+    };
+    if (!rejectedIds.isEmpty()) {
+      log.info("Propagating authorities rejected by batch one by one [propagationType: {}, count: {}]",
+        propagationType, rejectedIds.size());
+      propagateOneByOne(authorities.stream()
+        .filter(authority -> rejectedIds.contains(authority.getId()))
+        .toList(), propagationType);
+    }
+  }
+
+  private static Authority toShadowCopy(Authority authority) {
+    var shadowCopy = new Authority(authority);
+    shadowCopy.makeAsConsortiumShadowCopy();
+    return shadowCopy;
+  }
 }
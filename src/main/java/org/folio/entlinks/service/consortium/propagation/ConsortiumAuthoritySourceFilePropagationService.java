@@ -4,7 +4,6 @@ import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.domain.entity.AuthoritySourceFile;
 import org.folio.entlinks.service.authority.AuthoritySourceFileService;
 import org.folio.entlinks.service.consortium.ConsortiumTenantsService;
-import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -15,8 +14,8 @@ public class ConsortiumAuthoritySourceFilePropagationService extends ConsortiumP
 
   public ConsortiumAuthoritySourceFilePropagationService(AuthoritySourceFileService sourceFileService,
                                                          ConsortiumTenantsService tenantsService,
-                                                         SystemUserScopedExecutionService executionService) {
-    super(tenantsService, executionService);
+                                                         ConsortiumPropagationScheduler propagationScheduler) {
+    super(tenantsService, propagationScheduler);
     this.sourceFileService = sourceFileService;
   }
 
@@ -3,7 +3,6 @@ package org.folio.entlinks.service.consortium.propagation;
 import org.folio.entlinks.service.consortium.ConsortiumTenantsService;
 import org.folio.entlinks.service.consortium.propagation.model.LinksPropagationData;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
-import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -14,9 +13,9 @@ public class ConsortiumLinksPropagationService extends ConsortiumPropagationServ
   private final InstanceAuthorityLinkingService instanceAuthorityLinkingService;
 
   protected ConsortiumLinksPropagationService(ConsortiumTenantsService tenantsService,
-                                              SystemUserScopedExecutionService executionService,
+                                              ConsortiumPropagationScheduler propagationScheduler,
                                               InstanceAuthorityLinkingService instanceAuthorityLinkingService) {
-    super(tenantsService, executionService);
+    super(tenantsService, propagationScheduler);
     this.instanceAuthorityLinkingService = instanceAuthorityLinkingService;
   }
 
@@ -0,0 +1,164 @@
+package org.folio.entlinks.service.consortium.propagation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.properties.ConsortiumPropagationProperties;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.Propagation;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Schedules propagations to consortium member tenants.
+ *
+ * <p>Propagations are queued per member tenant and executed on a bounded executor, so that the number of
+ * propagations executed concurrently is limited both globally and per tenant. Consecutive queued propagations of the
+ * same entity type and propagation type for a tenant are merged into one propagation of up to the batch size entities
+ * and executed in the tenant's system user scope.</p>
+ */
+@Log4j2
+@Component
+public class ConsortiumPropagationScheduler {
+
+  static final String QUEUE_SIZE_METRIC = "consortium.propagation.queue.size";
+  static final String LAG_METRIC = "consortium.propagation.lag";
+  static final String ENTITY_TYPE_TAG = "entityType";
+
+  private final Map<String, TenantQueue> tenantQueues = new ConcurrentHashMap<>();
+  private final AtomicInteger queueSize = new AtomicInteger();
+
+  private final SystemUserScopedExecutionService executionService;
+  private final TaskExecutor executor;
+  private final ConsortiumPropagationProperties properties;
+  private final MeterRegistry meterRegistry;
+
+  public ConsortiumPropagationScheduler(SystemUserScopedExecutionService executionService,
+                                        @Qualifier("consortiumPropagationExecutor") TaskExecutor executor,
+                                        ConsortiumPropagationProperties properties,
+                                        MeterRegistry meterRegistry) {
+    this.executionService = executionService;
+    this.executor = executor;
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    Gauge.builder(QUEUE_SIZE_METRIC, queueSize, AtomicInteger::get)
+      .description("Number of propagations waiting for execution")
+      .register(meterRegistry);
+  }
+
+  /**
+   * Queues propagation for the member tenant.
+   *
+   * @param tenantId    member tenant to execute propagation in
+   * @param propagation propagation, consecutive propagations of the same entities and type are batched
+   */
+  public void schedule(String tenantId, Propagation<?> propagation) {
+    var tenantQueue = tenantQueues.computeIfAbsent(tenantId, TenantQueue::new);
+    tenantQueue.tasks.add(new PropagationTask(propagation, System.nanoTime()));
+    queueSize.incrementAndGet();
+    startWorkerIfAllowed(tenantQueue);
+  }
+
+  private void startWorkerIfAllowed(TenantQueue tenantQueue) {
+    var workers = tenantQueue.workers.get();
+    while (workers < properties.getTenantConcurrency()) {
+      if (tenantQueue.workers.compareAndSet(workers, workers + 1)) {
+        executor.execute(() -> drain(tenantQueue));
+        return;
+      }
+      workers = tenantQueue.workers.get();
+    }
+  }
+
+  private void drain(TenantQueue tenantQueue) {
+    try {
+      var batch = pollBatch(tenantQueue);
+      while (!batch.isEmpty()) {
+        executeBatch(tenantQueue.tenantId, batch);
+        batch = pollBatch(tenantQueue);
+      }
+    } finally {
+      tenantQueue.workers.decrementAndGet();
+      if (!tenantQueue.tasks.isEmpty()) {
+        startWorkerIfAllowed(tenantQueue);
+      }
+    }
+  }
+
+  private List<PropagationTask> pollBatch(TenantQueue tenantQueue) {
+    var batch = new ArrayList<PropagationTask>();
+    synchronized (tenantQueue) {
+      var first = tenantQueue.tasks.poll();
+      if (first == null) {
+        return batch;
+      }
+      batch.add(first);
+      var size = first.propagation.entities().size();
+      var next = tenantQueue.tasks.peek();
+      while (next != null && size + next.propagation.entities().size() <= properties.getBatchSize()
+             && next.propagation.isBatchableWith(first.propagation)) {
+        batch.add(tenantQueue.tasks.poll());
+        size += next.propagation.entities().size();
+        next = tenantQueue.tasks.peek();
+      }
+    }
+    queueSize.addAndGet(-batch.size());
+    return batch;
+  }
+
+  private void executeBatch(String tenantId, List<PropagationTask> batch) {
+    var propagation = merge(batch);
+    var entityType = propagation.entityType();
+    var lagTimer = Timer.builder(LAG_METRIC)
+      .description("Time between propagation scheduling and execution")
+      .tag(ENTITY_TYPE_TAG, entityType)
+      .register(meterRegistry);
+    var now = System.nanoTime();
+    batch.forEach(task -> lagTimer.record(now - task.scheduledAt, TimeUnit.NANOSECONDS));
+
+    log.info("Executing propagations [tenant: {}, entityType: {}, propagationType: {}, count: {}]", tenantId,
+      entityType, propagation.propagationType(), propagation.entities().size());
+    try {
+      executionService.executeSystemUserScoped(tenantId, () -> {
+        propagation.run();
+        return null;
+      });
+    } catch (Exception e) {
+      log.warn("Failed to execute propagations [tenant: {}, entityType: {}]", tenantId, entityType, e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Propagation<T> merge(List<PropagationTask> batch) {
+    var first = (Propagation<T>) batch.get(0).propagation;
+    if (batch.size() == 1) {
+      return first;
+    }
+    var entities = new ArrayList<T>();
+    batch.forEach(task -> entities.addAll(((Propagation<T>) task.propagation).entities()));
+    return new Propagation<>(first.service(), first.propagationType(), entities);
+  }
+
+  private record PropagationTask(Propagation<?> propagation, long scheduledAt) { }
+
+  private static final class TenantQueue {
+
+    private final String tenantId;
+    private final Deque<PropagationTask> tasks = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger workers = new AtomicInteger();
+
+    private TenantQueue(String tenantId) {
+      this.tenantId = tenantId;
+    }
+  }
+}
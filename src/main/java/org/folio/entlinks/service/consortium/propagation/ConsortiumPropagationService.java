@@ -1,21 +1,22 @@
 package org.folio.entlinks.service.consortium.propagation;
 
+import java.util.Collection;
+import java.util.List;
 import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.service.consortium.ConsortiumTenantsService;
-import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.springframework.scheduling.annotation.Async;
 
 @Log4j2
 public abstract class ConsortiumPropagationService<T> {
 
   private final ConsortiumTenantsService tenantsService;
-  private final SystemUserScopedExecutionService executionService;
+  private final ConsortiumPropagationScheduler propagationScheduler;
 
   protected ConsortiumPropagationService(ConsortiumTenantsService tenantsService,
-                                         SystemUserScopedExecutionService executionService) {
+                                         ConsortiumPropagationScheduler propagationScheduler) {
     this.tenantsService = tenantsService;
-    this.executionService = executionService;
+    this.propagationScheduler = propagationScheduler;
   }
 
   @Async
@@ -24,23 +25,84 @@ public abstract class ConsortiumPropagationService<T> {
     log.info("Try to propagate [entity: {}, propagationType: {}, context: {}]", entity.getClass().getSimpleName(),
       propagationType, tenantId);
     log.debug("Try to propagate [entity: {}, propagationType: {}, context: {}]", entity, propagationType, tenantId);
+    schedulePropagation(tenantId, new Propagation<>(this, propagationType, List.of(entity)));
+  }
+
+  protected abstract void doPropagation(T entity,
+                                        PropagationType propagationType);
+
+  /**
+   * Applies a collection of entities in a member tenant, one by one by default. Implementations applying the entities
+   * at once are expected to be atomic, as the entities are propagated one by one if it fails.
+   */
+  protected void doBatchPropagation(Collection<T> entities, PropagationType propagationType) {
+    propagateOneByOne(entities, propagationType);
+  }
+
+  /**
+   * Propagates the entities one by one, a failed propagation is logged without affecting the others.
+   */
+  protected void propagateOneByOne(Collection<T> entities, PropagationType propagationType) {
+    for (var entity : entities) {
+      try {
+        doPropagation(entity, propagationType);
+      } catch (Exception e) {
+        log.warn("Failed to propagate [entityType: {}, propagationType: {}]", getClass().getSimpleName(),
+          propagationType, e);
+      }
+    }
+  }
+
+  /**
+   * Executes queued propagation of the entities in a member tenant.
+   * Several entities are propagated in batch, or one by one if the batch fails.
+   */
+  void execute(List<T> entities, PropagationType propagationType) {
+    if (entities.size() == 1) {
+      doPropagation(entities.get(0), propagationType);
+      return;
+    }
+    try {
+      doBatchPropagation(entities, propagationType);
+    } catch (Exception e) {
+      log.warn("Failed to propagate in batch, propagating one by one [entityType: {}, propagationType: {}, "
+               + "count: {}]", getClass().getSimpleName(), propagationType, entities.size(), e);
+      propagateOneByOne(entities, propagationType);
+    }
+  }
+
+  private void schedulePropagation(String tenantId, Propagation<T> propagation) {
     try {
       var consortiumTenants = tenantsService.getConsortiumTenants(tenantId);
       log.debug("Find consortium tenants for propagation: {}, context: {}", consortiumTenants, tenantId);
       for (String consortiumTenant : consortiumTenants) {
-        executionService.executeAsyncSystemUserScoped(consortiumTenant,
-          () -> doPropagation(entity, propagationType));
+        propagationScheduler.schedule(consortiumTenant, propagation);
       }
     } catch (FolioIntegrationException e) {
       log.warn("Skip propagation. Exception: ", e);
     }
-
   }
 
-  protected abstract void doPropagation(T entity,
-                                        PropagationType propagationType);
-
   public enum PropagationType {
     CREATE, UPDATE, DELETE
   }
+
+  /**
+   * Propagation of entities of the same type queued for a member tenant.
+   */
+  public record Propagation<E>(ConsortiumPropagationService<E> service, PropagationType propagationType,
+                               List<E> entities) {
+
+    public void run() {
+      service.execute(entities, propagationType);
+    }
+
+    String entityType() {
+      return service.getClass().getSimpleName();
+    }
+
+    boolean isBatchableWith(Propagation<?> other) {
+      return service == other.service && propagationType == other.propagationType;
+    }
+  }
 }
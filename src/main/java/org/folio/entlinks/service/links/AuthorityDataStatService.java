@@ -6,9 +6,12 @@ import static org.folio.entlinks.utils.DateUtils.currentTs;
 import static org.folio.entlinks.utils.ServiceUtils.initId;
 
 import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
@@ -32,6 +35,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AuthorityDataStatService {
 
+  /**
+   * The greatest UUID in database ordering, used to not limit statistics by id when no seek id is passed.
+   */
+  private static final UUID MAX_SEEK_ID = new UUID(-1L, -1L);
+  private static final int FAIL_CAUSE_MAX_LENGTH = 255;
+
   private final AuthorityDataStatRepository statRepository;
 
   private final InstanceAuthorityLinkingService linkingService;
@@ -45,81 +54,131 @@ public class AuthorityDataStatService {
     return statRepository.saveAll(stats);
   }
 
-  public List<AuthorityDataStat> fetchDataStats(OffsetDateTime fromDate, OffsetDateTime toDate,
+  /**
+   * Retrieves statistics ordered by (startedAt, id) descending.
+   * When toId is passed, statistics are seeked from the (toDate, toId) position inclusively.
+   */
+  @Transactional(readOnly = true)
+  public List<AuthorityDataStat> fetchDataStats(OffsetDateTime fromDate, OffsetDateTime toDate, UUID toId,
                                                 LinkAction action, int limit) {
-    Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Order.desc("startedAt")));
+    Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Order.desc("startedAt"), Sort.Order.desc("id")));
     return statRepository.findActualByActionAndDate(AuthorityDataStatAction.valueOf(action.getValue()),
-      DateUtils.toTimestamp(fromDate), DateUtils.toTimestamp(toDate), pageable);
+      DateUtils.toTimestamp(fromDate), DateUtils.toTimestamp(toDate), toId == null ? MAX_SEEK_ID : toId, pageable);
   }
 
+  /**
+   * Updates links statuses and authority statistics data for the consumed batch of reports.
+   * Links statuses are updated with one statement per distinct (status, errorCause) pair across the whole batch.
+   */
   @Transactional
-  public void updateForReports(UUID jobId, List<LinkUpdateReport> reports) {
-    log.info("Updating links, stats for reports: [jobId: {}, reports count: {}]", jobId, reports.size());
-    log.debug("Updating links,stats for reports: [reports: {}]", reports);
+  public void updateForReports(List<LinkUpdateReport> reports) {
+    log.info("Updating links, stats for reports: [reports count: {}]", reports.size());
+    log.debug("Updating links, stats for reports: [reports: {}]", reports);
 
-    var dataStat = statRepository.findById(jobId);
-    updateLinks(jobId, dataStat, reports);
+    var reportsByJobId = reports.stream()
+      .collect(Collectors.groupingBy(LinkUpdateReport::getJobId, LinkedHashMap::new, Collectors.toList()));
 
-    if (dataStat.isPresent()) {
-      updateStatsData(dataStat.get(), reports);
-    } else {
-      log.warn("No data statistics found for jobId {}", jobId);
-    }
+    reportsByJobId.forEach(this::updateAuthorityLinks);
+    updateLinks(reports);
+    reportsByJobId.forEach(this::updateStatsData);
+  }
+
+  /**
+   * Records deleted links of the statistics job, so that running jobs could be told apart from stuck ones.
+   *
+   * @param id      statistics id (job id)
+   * @param deleted number of links deleted since the previous progress update
+   */
+  @Transactional
+  public void updateProgress(UUID id, int deleted) {
+    statRepository.incrementDeletedCounter(id, deleted, currentTs());
   }
 
-  private void checkIfAllFailed(List<LinkUpdateReport> reports, AuthorityDataStat dataStat) {
-    reports.stream()
-      .filter(linkUpdateReport -> CollectionUtils.isEmpty(linkUpdateReport.getLinkIds())
-        && linkUpdateReport.getStatus().equals(FAIL))
-      .findFirst()
-      .ifPresent(linkUpdateReport -> dataStat.setLbFailed(dataStat.getLbTotal()));
+  /**
+   * Completes the statistics job as failed.
+   *
+   * @param id        statistics id (job id)
+   * @param failCause failure cause
+   */
+  @Transactional
+  public void fail(UUID id, String failCause) {
+    log.warn("Authority data stat failed [statsId: {}, cause: {}]", id, failCause);
+    statRepository.updateFailed(id, StringUtils.abbreviate(failCause, FAIL_CAUSE_MAX_LENGTH), currentTs());
   }
 
-  private void updateLinks(UUID jobId, Optional<AuthorityDataStat> dataStat, List<LinkUpdateReport> reports) {
-    reports.forEach(report -> {
-      var linkIds = report.getLinkIds();
-      var status = mapReportStatus(report);
-      log.debug("Update links status for [status: {}, linkIds: {}, jobId: {}]", status, linkIds, jobId);
-      if (CollectionUtils.isNotEmpty(linkIds)) {
-        var links = linkingService.getLinksByIds(linkIds);
-
-        links.forEach(link -> {
-          link.setStatus(status);
-          link.setErrorCause(StringUtils.trimToNull(report.getFailCause()));
-        });
-
-        linkingService.saveAll(report.getInstanceId(), links);
-      } else if (dataStat.isPresent()) {
-        var authorityId = dataStat.get().getAuthority().getId();
-        linkingService.updateStatus(authorityId, status, report.getFailCause());
-      }
+  private boolean isAllFailed(List<LinkUpdateReport> reports) {
+    return reports.stream()
+      .anyMatch(linkUpdateReport -> CollectionUtils.isEmpty(linkUpdateReport.getLinkIds())
+        && linkUpdateReport.getStatus().equals(FAIL));
+  }
+
+  private void updateAuthorityLinks(UUID jobId, List<LinkUpdateReport> reports) {
+    var statusUpdates = reports.stream()
+      .filter(report -> CollectionUtils.isEmpty(report.getLinkIds()))
+      .map(this::toLinkStatusUpdate)
+      .distinct()
+      .toList();
+    if (statusUpdates.isEmpty()) {
+      return;
+    }
+
+    var dataStat = statRepository.findById(jobId);
+    if (dataStat.isEmpty()) {
+      return;
+    }
+
+    var authorityId = dataStat.get().getAuthority().getId();
+    statusUpdates.forEach(statusUpdate -> {
+      log.debug("Update authority links status for [status: {}, authorityId: {}, jobId: {}]",
+        statusUpdate.status(), authorityId, jobId);
+      linkingService.updateStatus(authorityId, statusUpdate.status(), statusUpdate.errorCause());
     });
   }
 
+  private void updateLinks(List<LinkUpdateReport> reports) {
+    // the latest report wins if the same link is reported several times within the batch
+    var statusUpdateByLinkId = new LinkedHashMap<Long, LinkStatusUpdate>();
+    for (var report : reports) {
+      if (CollectionUtils.isNotEmpty(report.getLinkIds())) {
+        var statusUpdate = toLinkStatusUpdate(report);
+        report.getLinkIds().stream()
+          .filter(Objects::nonNull)
+          .forEach(linkId -> statusUpdateByLinkId.put(linkId.longValue(), statusUpdate));
+      }
+    }
+
+    statusUpdateByLinkId.entrySet().stream()
+      .collect(Collectors.groupingBy(Map.Entry::getValue, LinkedHashMap::new,
+        Collectors.mapping(Map.Entry::getKey, Collectors.toList())))
+      .forEach((statusUpdate, linkIds) ->
+        linkingService.updateStatus(linkIds, statusUpdate.status(), statusUpdate.errorCause()));
+  }
+
+  private LinkStatusUpdate toLinkStatusUpdate(LinkUpdateReport report) {
+    return new LinkStatusUpdate(mapReportStatus(report), StringUtils.trimToNull(report.getFailCause()));
+  }
+
   /**
    * Updates authority statistics data.
+   * Counters are incremented and the job is completed within a single statement,
+   * so reports of the same job could be safely processed by concurrent consumers.
    *
-   * @param dataStat Authority data statistics related to current job.
-   *                 AuthorityDataStat id and jobId are interchangeable (jobId is used as id to create stat record)
+   * @param jobId AuthorityDataStat id and jobId are interchangeable (jobId is used as id to create stat record)
    */
-  private void updateStatsData(AuthorityDataStat dataStat, List<LinkUpdateReport> reports) {
+  private void updateStatsData(UUID jobId, List<LinkUpdateReport> reports) {
     var failedCount = getReportCountForStatus(reports, FAIL);
     var successCount = getReportCountForStatus(reports, SUCCESS);
-
-    dataStat.setLbUpdated(dataStat.getLbUpdated() + successCount);
-    dataStat.setLbFailed(dataStat.getLbFailed() + failedCount);
-
-    checkIfAllFailed(reports, dataStat);
-
-    var jobCompleted = dataStat.getLbUpdated() + dataStat.getLbFailed() == dataStat.getLbTotal();
-    if (jobCompleted) {
-      dataStat.setCompletedAt(currentTs());
-      updateStatStatus(dataStat);
+    var allFailed = isAllFailed(reports);
+    if (successCount == 0 && failedCount == 0 && !allFailed) {
+      return;
     }
 
-    log.info("Saving stats data [statsId: {}, status: {}]", dataStat.getId(), dataStat.getStatus());
-    log.debug("Stats data: {}", dataStat);
-    statRepository.save(dataStat);
+    log.info("Updating stats data [statsId: {}, updated: {}, failed: {}, allFailed: {}]",
+      jobId, successCount, failedCount, allFailed);
+    var updatedCount = statRepository.incrementLinksCounters(jobId, successCount, failedCount, allFailed, currentTs());
+    if (updatedCount == 0) {
+      log.warn("No data statistics found for jobId {}", jobId);
+    }
   }
 
   private int getReportCountForStatus(List<LinkUpdateReport> reports, LinkUpdateReport.StatusEnum status) {
@@ -129,16 +188,6 @@ public class AuthorityDataStatService {
       .count();
   }
 
-  private void updateStatStatus(AuthorityDataStat dataStat) {
-    if (dataStat.getLbFailed() == 0) {
-      dataStat.setStatus(AuthorityDataStatStatus.COMPLETED_SUCCESS);
-    } else if (dataStat.getLbFailed() == dataStat.getLbTotal()) {
-      dataStat.setStatus(AuthorityDataStatStatus.FAILED);
-    } else {
-      dataStat.setStatus(AuthorityDataStatStatus.COMPLETED_WITH_ERRORS);
-    }
-  }
-
   private InstanceAuthorityLinkStatus mapReportStatus(LinkUpdateReport report) {
     return switch (report.getStatus()) {
       case SUCCESS -> InstanceAuthorityLinkStatus.ACTUAL;
@@ -146,4 +195,5 @@ public class AuthorityDataStatService {
     };
   }
 
+  private record LinkStatusUpdate(InstanceAuthorityLinkStatus status, String errorCause) { }
 }
@@ -8,8 +8,10 @@ import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
 import org.folio.entlinks.domain.repository.LinkingRulesRepository;
 import org.folio.entlinks.exception.LinkingRuleNotFoundException;
+import org.folio.entlinks.service.links.model.LinkingRuleIndex;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,20 +24,37 @@ public class InstanceAuthorityLinkingRulesService {
   private static final String MIN_AVAILABLE_AUTHORITY_FIELD = "100";
   private static final String MAX_AVAILABLE_AUTHORITY_FIELD = "155";
   private final LinkingRulesRepository repository;
+  private final CacheManager cacheManager;
+  private final FolioExecutionContext context;
+
+  /**
+   * Returns the tenant's linking rules index. The index is built once per tenant and kept in the linking rules
+   * cache until the rules are patched, empty results are not cached.
+   *
+   * @return immutable linking rules index
+   */
+  public LinkingRuleIndex getLinkingRuleIndex() {
+    var cache = cacheManager.getCache(AUTHORITY_LINKING_RULES_CACHE);
+    var cacheKey = context.getTenantId();
+    var cached = cache == null ? null : cache.get(cacheKey);
+    if (cached != null && cached.get() instanceof LinkingRuleIndex index) {
+      return index;
+    }
 
-  @Cacheable(cacheNames = AUTHORITY_LINKING_RULES_CACHE,
-    key = "@folioExecutionContext.tenantId",
-    unless = "#result.isEmpty()")
-  public List<InstanceAuthorityLinkingRule> getLinkingRules() {
     log.info("Loading linking rules");
-    return repository.findAll(Sort.by("id").ascending());
+    var index = LinkingRuleIndex.of(repository.findAll(Sort.by("id").ascending()));
+    if (cache != null && !index.isEmpty()) {
+      cache.put(cacheKey, index);
+    }
+    return index;
+  }
+
+  public List<InstanceAuthorityLinkingRule> getLinkingRules() {
+    return getLinkingRuleIndex().getRules();
   }
 
-  @Cacheable(cacheNames = AUTHORITY_LINKING_RULES_CACHE,
-    key = "@folioExecutionContext.tenantId + ':' + #authorityField", unless = "#result.isEmpty()")
   public List<InstanceAuthorityLinkingRule> getLinkingRulesByAuthorityField(String authorityField) {
-    log.info("Loading linking rules for [authorityField: {}]", authorityField);
-    return repository.findByAuthorityField(authorityField);
+    return getLinkingRuleIndex().getRulesByAuthorityField(authorityField);
   }
 
   public InstanceAuthorityLinkingRule getLinkingRule(Integer ruleId) {
@@ -12,11 +12,11 @@ import java.sql.Timestamp;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
@@ -30,8 +30,10 @@ import org.folio.entlinks.domain.dto.StrippedParsedRecord;
 import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
-import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+import org.folio.entlinks.domain.entity.projection.InstanceLinkView;
 import org.folio.entlinks.domain.entity.projection.LinkCountView;
+import org.folio.entlinks.domain.repository.AdvisoryLockRepository;
+import org.folio.entlinks.domain.repository.AuthorityLinkCountRepository;
 import org.folio.entlinks.domain.repository.InstanceLinkRepository;
 import org.folio.entlinks.exception.DeletedLinkingAuthorityException;
 import org.folio.entlinks.integration.kafka.EventProducer;
@@ -50,8 +52,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class InstanceAuthorityLinkingService {
 
   private static final String SEEK_FIELD = "updatedAt";
+  private static final String SEEK_ID_FIELD = "id";
+  private static final String INSTANCE_LINKS_LOCK_NAMESPACE = "instance-links";
 
   private final InstanceLinkRepository instanceLinkRepository;
+  private final AuthorityLinkCountRepository authorityLinkCountRepository;
+  private final AdvisoryLockRepository lockRepository;
   private final InstanceAuthorityLinkingRulesService linkingRulesService;
   private final AuthorityRuleValidationService authorityRuleValidationService;
   private final AuthorityService authorityService;
@@ -64,20 +70,38 @@ public class InstanceAuthorityLinkingService {
     return instanceLinkRepository.findByInstanceId(instanceId);
   }
 
+  @Transactional(readOnly = true)
+  public Map<UUID, List<InstanceLinkView>> getLinksByInstanceIds(Set<UUID> instanceIds) {
+    log.info("Loading links for [instanceIds amount: {}]", instanceIds.size());
+    log.debug("Loading links for [instanceIds: {}]", instanceIds);
+    var linksByInstanceId = new LinkedHashMap<UUID, List<InstanceLinkView>>();
+    if (instanceIds.isEmpty()) {
+      return linksByInstanceId;
+    }
+
+    try (var links = instanceLinkRepository.streamByInstanceIds(instanceIds)) {
+      links.forEach(link -> linksByInstanceId.computeIfAbsent(link.instanceId(), id -> new ArrayList<>()).add(link));
+    }
+    return linksByInstanceId;
+  }
+
   public Page<InstanceAuthorityLink> getLinksByAuthorityId(UUID authorityId, Pageable pageable) {
     log.info("Loading links for [authorityId: {}, page size: {}, page num: {}]", authorityId,
       pageable.getPageSize(), pageable.getOffset());
     return instanceLinkRepository.findByAuthorityId(authorityId, pageable);
   }
 
-  public List<InstanceAuthorityLink> getLinksByIds(List<Integer> ids) {
-    log.info("Retrieving links by ids [{}]", ids);
-    var longIds = ids.stream()
-      .filter(Objects::nonNull)
-      .mapToLong(Integer::longValue)
-      .boxed()
-      .toList();
-    return instanceLinkRepository.findAllById(longIds);
+  /**
+   * Retrieves the next chunk of the authority's links ordered by id.
+   *
+   * @param authorityId authority id
+   * @param afterId     id of the last link of the previous chunk, 0 for the first chunk
+   * @param limit       max number of links in the chunk
+   * @return links with ids greater than afterId
+   */
+  public List<InstanceAuthorityLink> getLinksByAuthorityId(UUID authorityId, long afterId, int limit) {
+    log.debug("Loading links chunk for [authorityId: {}, afterId: {}, limit: {}]", authorityId, afterId, limit);
+    return instanceLinkRepository.findByAuthorityIdAfterId(authorityId, afterId, PageRequest.of(0, limit));
   }
 
   @Transactional
@@ -93,19 +117,12 @@ public class InstanceAuthorityLinkingService {
         .map(Authority::getId)
         .collect(Collectors.toSet());
 
-    var existingAuthorities = authorityService.getAllByIds(authorityIds);
-
-    for (InstanceAuthorityLink incomingLink : incomingLinks) {
-      var linkAuthorityData = incomingLink.getAuthority();
-      var authorityData = existingAuthorities.get(linkAuthorityData.getId());
-      incomingLink.setAuthority(authorityData);
-    }
-    var existedLinks = instanceLinkRepository.findByInstanceId(instanceId);
-
-    var linksToDelete = subtract(existedLinks, incomingLinks);
-    var linksToSave = getLinksToSave(incomingLinks, existedLinks, linksToDelete);
-    instanceLinkRepository.deleteAllInBatch(linksToDelete);
-    instanceLinkRepository.saveAll(linksToSave);
+    checkForDeletedAuthorities(authorityIds);
+    // concurrent updates of the instance links are serialized, otherwise both could keep their own links
+    lockRepository.lockForTransaction(INSTANCE_LINKS_LOCK_NAMESPACE, instanceId.toString());
+    // existing links are kept as is, so only missing links are inserted and links absent in incoming are deleted
+    instanceLinkRepository.deleteByInstanceIdExcept(instanceId, incomingLinks);
+    instanceLinkRepository.upsertAll(incomingLinks);
   }
 
   /**
@@ -149,10 +166,31 @@ public class InstanceAuthorityLinkingService {
     } else {
       log.info("Count links for [authority ids amount: {}]", authorityIds.size());
     }
-    return instanceLinkRepository.countLinksByAuthorityIds(authorityIds).stream()
+    return authorityLinkCountRepository.findByAuthorityIds(authorityIds).stream()
       .collect(Collectors.toMap(LinkCountView::getId, LinkCountView::getTotalLinks));
   }
 
+  /**
+   * Counts links of the given authorities in several tenants with a single query.
+   *
+   * @param tenantIds    tenants to count links in
+   * @param authorityIds authority ids to count links for
+   * @return number of links by authority id, grouped by tenant id; tenants without links are not included
+   */
+  public Map<String, Map<UUID, Integer>> countLinksByTenantsAndAuthorityIds(Collection<String> tenantIds,
+                                                                           Set<UUID> authorityIds) {
+    log.info("Count links for [tenants: {}, authority ids amount: {}]", tenantIds, authorityIds.size());
+    return authorityLinkCountRepository.countByTenantsAndAuthorityIds(tenantIds, authorityIds);
+  }
+
+  @Transactional
+  public void reconcileLinksCount() {
+    log.info("Reconciling authority links count");
+    var updated = authorityLinkCountRepository.upsertDriftedCounts();
+    var deleted = authorityLinkCountRepository.deleteOrphanedCounts();
+    log.info("Authority links count reconciled [updated: {}, deleted: {}]", updated, deleted);
+  }
+
   @Transactional
   public void updateStatus(UUID authorityId, InstanceAuthorityLinkStatus status, String errorCause) {
     log.info("Update links [authority id: {}, status: {}, errorCause: {}]", authorityId, status, errorCause);
@@ -160,57 +198,37 @@ public class InstanceAuthorityLinkingService {
   }
 
   @Transactional
-  public void deleteByAuthorityIdIn(Set<UUID> authorityIds) {
-    if (log.isDebugEnabled()) {
-      log.info("Delete links for [authority ids: {}]", authorityIds);
-    } else {
-      log.info("Delete links for [authority ids amount: {}]", authorityIds.size());
-    }
-    instanceLinkRepository.deleteByAuthorityIds(authorityIds);
+  public void updateStatus(Collection<Long> linkIds, InstanceAuthorityLinkStatus status, String errorCause) {
+    log.info("Update links [links amount: {}, status: {}, errorCause: {}]", linkIds.size(), status, errorCause);
+    log.debug("Update links [link ids: {}]", linkIds);
+    instanceLinkRepository.updateStatusAndErrorCauseByIds(status, trimToNull(errorCause), linkIds);
   }
 
   @Transactional
-  public void saveAll(UUID instanceId, List<InstanceAuthorityLink> links) {
-    log.info("Save links for [instanceId: {}, links amount: {}]", instanceId, links.size());
-    log.debug("Save links for [instanceId: {}, links: {}]", instanceId, links);
-
-    instanceLinkRepository.saveAll(links);
+  public void deleteByIds(Collection<Long> linkIds) {
+    log.info("Delete links [links amount: {}]", linkIds.size());
+    log.debug("Delete links [link ids: {}]", linkIds);
+    instanceLinkRepository.deleteAllByIdInBatch(linkIds);
   }
 
+  /**
+   * Retrieves links ordered by (updatedAt, id) descending.
+   * When both toDate and toId are passed, links are seeked from the (toDate, toId) position inclusively.
+   */
   public List<InstanceAuthorityLink> getLinks(LinkStatus status, OffsetDateTime fromDate,
-                                              OffsetDateTime toDate, int limit) {
-    log.info("Fetching links for [status: {}, fromDate: {}, toDate: {}, limit: {}]",
-      status, fromDate, toDate, limit);
+                                              OffsetDateTime toDate, Long toId, int limit) {
+    log.info("Fetching links for [status: {}, fromDate: {}, toDate: {}, toId: {}, limit: {}]",
+      status, fromDate, toDate, toId, limit);
 
     var linkStatus = status == null ? null : InstanceAuthorityLinkStatus.valueOf(status.getValue());
     var linkFromDate = fromDate == null ? null : toTimestamp(fromDate);
     var linkToDate = toDate == null ? null : toTimestamp(toDate);
-    var pageable = PageRequest.of(0, limit, Sort.by(Sort.Order.desc(SEEK_FIELD)));
+    var pageable = PageRequest.of(0, limit, Sort.by(Sort.Order.desc(SEEK_FIELD), Sort.Order.desc(SEEK_ID_FIELD)));
 
-    var specification = getSpecFromStatusAndDates(linkStatus, linkFromDate, linkToDate);
+    var specification = getSpecFromStatusAndDates(linkStatus, linkFromDate, linkToDate, toId);
     return instanceLinkRepository.findAll(specification, pageable).getContent();
   }
 
-  private List<InstanceAuthorityLink> getLinksToSave(List<InstanceAuthorityLink> incomingLinks,
-                                                     List<InstanceAuthorityLink> existedLinks,
-                                                     List<InstanceAuthorityLink> linksToDelete) {
-    var linksToCreate = subtract(incomingLinks, existedLinks);
-    var linksToUpdate = subtract(existedLinks, linksToDelete);
-    updateLinksData(incomingLinks, linksToUpdate);
-    var linksToSave = new ArrayList<>(linksToCreate);
-    linksToSave.addAll(linksToUpdate);
-    return linksToSave;
-  }
-
-  private void updateLinksData(List<InstanceAuthorityLink> incomingLinks, List<InstanceAuthorityLink> linksToUpdate) {
-    linksToUpdate
-        .forEach(link -> incomingLinks.stream()
-            .filter(l -> l.isSameLink(link)).findFirst()
-            .ifPresent(l ->
-                link.getAuthority().setNaturalId(l.getAuthority().getNaturalId())
-            ));
-  }
-
   private List<InstanceAuthorityLink> subtract(Collection<InstanceAuthorityLink> source,
                                                Collection<InstanceAuthorityLink> target) {
     return new LinkedHashSet<>(source).stream()
@@ -219,7 +237,7 @@ public class InstanceAuthorityLinkingService {
   }
 
   private Specification<InstanceAuthorityLink> getSpecFromStatusAndDates(
-    InstanceAuthorityLinkStatus status, Timestamp from, Timestamp to) {
+    InstanceAuthorityLinkStatus status, Timestamp from, Timestamp to, Long toId) {
 
     return (root, query, builder) -> {
       var predicates = new LinkedList<Predicate>();
@@ -232,6 +250,11 @@ public class InstanceAuthorityLinkingService {
       }
       if (to != null) {
         predicates.add(builder.lessThanOrEqualTo(root.get(SEEK_FIELD), to));
+        if (toId != null) {
+          predicates.add(builder.or(
+            builder.lessThan(root.get(SEEK_FIELD), to),
+            builder.lessThanOrEqualTo(root.get(SEEK_ID_FIELD), toId)));
+        }
       }
 
       return builder.and(predicates.toArray(new Predicate[0]));
@@ -284,20 +307,16 @@ public class InstanceAuthorityLinkingService {
     }
   }
 
-  private Map<Integer, InstanceAuthorityLinkingRule> rulesToIdMap(List<InstanceAuthorityLinkingRule> rules) {
-    return rules.stream().collect(Collectors.toMap(InstanceAuthorityLinkingRule::getId, Function.identity()));
-  }
-
   private void fillLinksWithLinkingRules(List<InstanceAuthorityLink> incomingLinks) {
-    var linkingRules = rulesToIdMap(linkingRulesService.getLinkingRules());
+    var linkingRules = linkingRulesService.getLinkingRuleIndex();
 
-    incomingLinks.forEach(link -> link.setLinkingRule(linkingRules.get(link.getLinkingRule().getId())));
+    incomingLinks.forEach(link -> link.setLinkingRule(linkingRules.getRule(link.getLinkingRule().getId())));
   }
 
   private void checkForDeletedAuthorities(Set<UUID> authorityIds) {
-    Map<UUID, Authority> authoritiesByIds = authorityService.getAllByIds(authorityIds);
+    var existingAuthorityIds = authorityService.getNotDeletedIds(authorityIds);
     var deletedAuthorityIds = authorityIds.stream()
-        .filter(id -> !authoritiesByIds.containsKey(id))
+        .filter(id -> !existingAuthorityIds.contains(id))
         .map(UUID::toString)
         .collect(Collectors.toSet());
 
@@ -7,6 +7,7 @@ import static org.folio.entlinks.utils.FieldUtils.getSubfield0Value;
 import static org.folio.entlinks.utils.LinkEventsUtils.constructEvent;
 import static org.folio.entlinks.utils.LinkEventsUtils.groupLinksByAuthorityId;
 
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +23,7 @@ import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.domain.repository.AuthoritySourceFileCodeRepository;
 import org.folio.entlinks.exception.MarcAuthorityNotFoundException;
 import org.folio.entlinks.service.links.model.AuthorityRuleValidationResult;
+import org.folio.entlinks.service.links.model.LinkingRuleSubfields;
 import org.folio.entlinks.service.messaging.authority.model.FieldChangeHolder;
 import org.springframework.stereotype.Service;
 
@@ -87,6 +89,7 @@ public class RenovateLinksService {
   private List<FieldChangeHolder> findFieldChangeHolders(StrippedParsedRecord authority,
                                                          List<InstanceAuthorityLink> links) {
     var fieldChangeHolders = new LinkedList<FieldChangeHolder>();
+    var ruleSubfields = new HashMap<Integer, LinkingRuleSubfields>();
 
     for (var link : links) {
       var linkingRule = link.getLinkingRule();
@@ -99,7 +102,9 @@ public class RenovateLinksService {
         .findFirst()
         .map(Map.Entry::getValue)
         .ifPresent(authorityField -> {
-          var fieldChangeHolder = new FieldChangeHolder(authorityField, linkingRule);
+          var subfields = ruleSubfields.computeIfAbsent(linkingRule.getId(),
+            id -> LinkingRuleSubfields.of(linkingRule));
+          var fieldChangeHolder = new FieldChangeHolder(authorityField, linkingRule, subfields);
           fieldChangeHolder.addExtraSubfieldChange(getSubfield0Change(naturalId));
           fieldChangeHolders.add(fieldChangeHolder);
         });
@@ -0,0 +1,107 @@
+package org.folio.entlinks.service.links.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+
+/**
+ * Immutable per-tenant index of linking rules.
+ * Built once when rules are loaded so callers don't need to regroup the rules list on every request.
+ */
+public final class LinkingRuleIndex {
+
+  private final List<InstanceAuthorityLinkingRule> rules;
+  private final Map<Integer, InstanceAuthorityLinkingRule> rulesById;
+  private final Map<String, List<InstanceAuthorityLinkingRule>> rulesByBibField;
+  private final Map<String, List<InstanceAuthorityLinkingRule>> rulesByAuthorityField;
+  private final Map<Integer, LinkingRuleSubfields> subfieldsByRuleId;
+
+  private LinkingRuleIndex(Collection<InstanceAuthorityLinkingRule> linkingRules) {
+    this.rules = linkingRules.stream()
+      .filter(Objects::nonNull)
+      .sorted(Comparator.comparing(InstanceAuthorityLinkingRule::getId,
+        Comparator.nullsLast(Comparator.naturalOrder())))
+      .toList();
+
+    var byId = new HashMap<Integer, InstanceAuthorityLinkingRule>();
+    var subfields = new HashMap<Integer, LinkingRuleSubfields>();
+    for (var rule : rules) {
+      if (rule.getId() != null) {
+        byId.putIfAbsent(rule.getId(), rule);
+        subfields.putIfAbsent(rule.getId(), LinkingRuleSubfields.of(rule));
+      }
+    }
+    this.rulesById = Map.copyOf(byId);
+    this.subfieldsByRuleId = Map.copyOf(subfields);
+    this.rulesByBibField = groupBy(rules, InstanceAuthorityLinkingRule::getBibField);
+    this.rulesByAuthorityField = groupBy(rules, InstanceAuthorityLinkingRule::getAuthorityField);
+  }
+
+  public static LinkingRuleIndex of(Collection<InstanceAuthorityLinkingRule> linkingRules) {
+    return new LinkingRuleIndex(linkingRules);
+  }
+
+  public boolean isEmpty() {
+    return rules.isEmpty();
+  }
+
+  /**
+   * Returns all indexed rules ordered by id.
+   *
+   * @return unmodifiable list of rules
+   */
+  public List<InstanceAuthorityLinkingRule> getRules() {
+    return rules;
+  }
+
+  public InstanceAuthorityLinkingRule getRule(Integer ruleId) {
+    return ruleId == null ? null : rulesById.get(ruleId);
+  }
+
+  /**
+   * Returns rules grouped by bib field.
+   *
+   * @return unmodifiable map of rules by bib field
+   */
+  public Map<String, List<InstanceAuthorityLinkingRule>> getRulesByBibField() {
+    return rulesByBibField;
+  }
+
+  public List<InstanceAuthorityLinkingRule> getRulesByAuthorityField(String authorityField) {
+    return rulesByAuthorityField.getOrDefault(authorityField, List.of());
+  }
+
+  /**
+   * Returns precomputed subfield tables of the rule.
+   * Tables are computed on the fly for rules that are not indexed.
+   *
+   * @param linkingRule linking rule
+   * @return subfield tables of the rule
+   */
+  public LinkingRuleSubfields getSubfields(InstanceAuthorityLinkingRule linkingRule) {
+    var subfields = linkingRule.getId() == null ? null : subfieldsByRuleId.get(linkingRule.getId());
+    return subfields == null ? LinkingRuleSubfields.of(linkingRule) : subfields;
+  }
+
+  private static Map<String, List<InstanceAuthorityLinkingRule>> groupBy(
+    List<InstanceAuthorityLinkingRule> rules, Function<InstanceAuthorityLinkingRule, String> classifier) {
+    var grouped = new LinkedHashMap<String, List<InstanceAuthorityLinkingRule>>();
+    for (var rule : rules) {
+      var key = classifier.apply(rule);
+      if (key != null) {
+        grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(rule);
+      }
+    }
+    var result = new LinkedHashMap<String, List<InstanceAuthorityLinkingRule>>();
+    grouped.forEach((key, value) -> result.put(key, List.copyOf(value)));
+    return Collections.unmodifiableMap(result);
+  }
+}
@@ -0,0 +1,95 @@
+package org.folio.entlinks.service.links.model;
+
+import java.util.List;
+import org.folio.entlinks.domain.dto.SubfieldModification;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+
+/**
+ * Precomputed lookup tables for subfields controlled by a linking rule.
+ * Subfield codes are ASCII in practice, so they are resolved by index instead of scanning rule arrays
+ * for every subfield of every processed field. Other codes fall back to scanning.
+ */
+public final class LinkingRuleSubfields {
+
+  private static final int TABLE_SIZE = 128;
+
+  private final char[] authoritySubfields;
+  private final List<SubfieldModification> subfieldModifications;
+  private final boolean[] controlled = new boolean[TABLE_SIZE];
+  private final char[] targetCodes = new char[TABLE_SIZE];
+
+  private LinkingRuleSubfields(InstanceAuthorityLinkingRule linkingRule) {
+    this.authoritySubfields = linkingRule.getAuthoritySubfields() == null
+                              ? new char[0]
+                              : linkingRule.getAuthoritySubfields().clone();
+    this.subfieldModifications = linkingRule.getSubfieldModifications() == null
+                                 ? List.of()
+                                 : List.copyOf(linkingRule.getSubfieldModifications());
+
+    for (char code : authoritySubfields) {
+      if (code < TABLE_SIZE) {
+        controlled[code] = true;
+      }
+    }
+    for (int code = 0; code < TABLE_SIZE; code++) {
+      targetCodes[code] = (char) code;
+    }
+    // the first modification for a source code wins, so apply them in reverse order
+    for (int i = subfieldModifications.size() - 1; i >= 0; i--) {
+      var modification = subfieldModifications.get(i);
+      var source = modification.getSource().charAt(0);
+      if (source < TABLE_SIZE) {
+        targetCodes[source] = modification.getTarget().charAt(0);
+      }
+    }
+  }
+
+  public static LinkingRuleSubfields of(InstanceAuthorityLinkingRule linkingRule) {
+    return new LinkingRuleSubfields(linkingRule);
+  }
+
+  /**
+   * Checks if the authority subfield is controlled by the linking rule.
+   *
+   * @param code authority subfield code
+   * @return true if the subfield is controlled
+   */
+  public boolean isControlled(char code) {
+    if (code < TABLE_SIZE) {
+      return controlled[code];
+    }
+    for (char authoritySubfield : authoritySubfields) {
+      if (authoritySubfield == code) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Resolves bib subfield code for the authority subfield code according to the rule's subfield modifications.
+   *
+   * @param code authority subfield code
+   * @return modified subfield code or the same code if there is no modification for it
+   */
+  public char getTargetCode(char code) {
+    if (code < TABLE_SIZE) {
+      return targetCodes[code];
+    }
+    for (var modification : subfieldModifications) {
+      if (modification.getSource().charAt(0) == code) {
+        return modification.getTarget().charAt(0);
+      }
+    }
+    return code;
+  }
+
+  /**
+   * Returns subfields controlled by the linking rule.
+   *
+   * @return copy of controlled authority subfield codes
+   */
+  public char[] getAuthoritySubfields() {
+    return authoritySubfields.clone();
+  }
+}
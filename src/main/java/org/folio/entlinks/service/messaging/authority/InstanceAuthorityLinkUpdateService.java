@@ -3,11 +3,14 @@ package org.folio.entlinks.service.messaging.authority;
 import static org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType.UPDATE;
 import static org.folio.entlinks.utils.ObjectUtils.getDifference;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
@@ -29,6 +32,9 @@ import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeHolde
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -44,6 +50,7 @@ public class InstanceAuthorityLinkUpdateService {
   private final ConsortiumTenantsService consortiumTenantsService;
   private final FolioExecutionContext folioExecutionContext;
   private final SystemUserScopedExecutionService executionService;
+  private final TaskExecutor shadowAuthorityExecutor;
 
   public InstanceAuthorityLinkUpdateService(AuthorityDataStatService authorityDataStatService,
                                             AuthorityMappingRulesProcessingService mappingRulesProcessingService,
@@ -53,7 +60,9 @@ public class InstanceAuthorityLinkUpdateService {
                                             AuthoritySourceRecordService sourceRecordService,
                                             ConsortiumTenantsService consortiumTenantsService,
                                             FolioExecutionContext folioExecutionContext,
-                                            SystemUserScopedExecutionService executionService) {
+                                            SystemUserScopedExecutionService executionService,
+                                            @Qualifier("shadowAuthorityExecutor")
+                                            TaskExecutor shadowAuthorityExecutor) {
     this.authorityDataStatService = authorityDataStatService;
     this.mappingRulesProcessingService = mappingRulesProcessingService;
     this.linkingService = linkingService;
@@ -64,6 +73,7 @@ public class InstanceAuthorityLinkUpdateService {
     this.consortiumTenantsService = consortiumTenantsService;
     this.folioExecutionContext = folioExecutionContext;
     this.executionService = executionService;
+    this.shadowAuthorityExecutor = shadowAuthorityExecutor;
   }
 
   public void handleAuthoritiesChanges(List<AuthorityDomainEvent> events) {
@@ -153,20 +163,70 @@ public class InstanceAuthorityLinkUpdateService {
     }
 
     log.debug("Processing authority changes for shadow copies of authorities: [{}]", authorityIds);
-    consortiumTenants.forEach(memberTenant -> {
-      var changeHolderCopies = changeHolders.stream().map(AuthorityChangeHolder::copy).toList();
-      executionService.executeSystemUserScoped(memberTenant, () -> {
-        var linksNumberByAuthorityId = linkingService.countLinksByAuthorityIds(authorityIds);
-        changeHolderCopies.forEach(changeHolder ->
-            changeHolder.setNumberOfLinks(linksNumberByAuthorityId.getOrDefault(changeHolder.getAuthorityId(), 0)));
-        prepareAndSaveAuthorityDataStats(changeHolderCopies);
-        processEventsByChangeType(changeHolderCopies);
+    var linksNumberByTenant = countLinksInMemberTenants(consortiumTenants, authorityIds);
+    var futures = new ArrayList<CompletableFuture<Void>>();
+    for (var memberTenant : consortiumTenants) {
+      var tenantChangeHolders = changeHolders;
+      if (linksNumberByTenant != null && !linksNumberByTenant.containsKey(memberTenant)) {
+        // updates of shadow authorities without links are skipped, deletes still hard-delete the shadow authorities
+        tenantChangeHolders = changeHolders.stream()
+          .filter(changeHolder -> changeHolder.getEvent().getType() == DomainEventType.DELETE)
+          .toList();
+        if (tenantChangeHolders.isEmpty()) {
+          log.debug("Skip processing of shadow authorities without links [tenantId: {}]", memberTenant);
+          continue;
+        }
+      }
+      var changeHolderCopies = tenantChangeHolders.stream().map(AuthorityChangeHolder::copy).toList();
+      var linksNumberByAuthorityId = linksNumberByTenant == null
+        ? null
+        : linksNumberByTenant.getOrDefault(memberTenant, Map.of());
+      futures.add(CompletableFuture.runAsync(() -> executionService.executeSystemUserScoped(memberTenant, () -> {
+        processChangesForMemberTenant(authorityIds, changeHolderCopies, linksNumberByAuthorityId);
         return null;
-      });
-    });
+      }), shadowAuthorityExecutor));
+    }
+    awaitAll(futures);
     log.debug("Finished processing authority changes for shadow copies of authorities: [{}]", authorityIds);
   }
 
+  private void processChangesForMemberTenant(Set<UUID> authorityIds, List<AuthorityChangeHolder> changeHolders,
+                                             Map<UUID, Integer> linksNumberByAuthorityId) {
+    var linksNumber = linksNumberByAuthorityId == null
+      ? linkingService.countLinksByAuthorityIds(authorityIds)
+      : linksNumberByAuthorityId;
+    changeHolders.forEach(changeHolder ->
+        changeHolder.setNumberOfLinks(linksNumber.getOrDefault(changeHolder.getAuthorityId(), 0)));
+    prepareAndSaveAuthorityDataStats(changeHolders);
+    processEventsByChangeType(changeHolders);
+  }
+
+  /**
+   * Counts links in all member tenants with a single query.
+   *
+   * @return number of links by authority id grouped by tenant id, or null if links should be counted per tenant
+   */
+  private Map<String, Map<UUID, Integer>> countLinksInMemberTenants(List<String> memberTenants,
+                                                                   Set<UUID> authorityIds) {
+    try {
+      return linkingService.countLinksByTenantsAndAuthorityIds(memberTenants, authorityIds);
+    } catch (DataAccessException e) {
+      log.warn("Failed to count links in member tenants, links will be counted per tenant", e);
+      return null;
+    }
+  }
+
+  private void awaitAll(List<CompletableFuture<Void>> futures) {
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
   private AuthorityChangeHolder toAuthorityChangeHolder(AuthorityDomainEvent event,
                                                         Map<AuthorityChangeField, String> fieldTagRelation,
                                                         Map<UUID, Integer> linksNumberByAuthorityId) {
@@ -192,6 +252,9 @@ public class InstanceAuthorityLinkUpdateService {
   }
 
   private void sendEvents(List<LinksChangeEvent> events, AuthorityChangeType type) {
+    if (events.isEmpty()) {
+      return;
+    }
     log.info("Sending {} {} events to Kafka for tenant {}", events.size(), type,
         folioExecutionContext.getTenantId());
     eventProducer.sendMessages(events);
@@ -2,52 +2,77 @@ package org.folio.entlinks.service.messaging.authority.handler;
 
 import static java.util.Collections.emptyList;
 
+import com.google.common.collect.Lists;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import lombok.extern.log4j.Log4j2;
 import org.folio.entlinks.config.properties.InstanceAuthorityChangeProperties;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.entlinks.integration.kafka.EventProducer;
 import org.folio.entlinks.service.authority.AuthorityService;
+import org.folio.entlinks.service.links.AuthorityDataStatService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeHolder;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Deletes links of deleted authorities and hard deletes the authorities.
+ * Links are processed in chunks ordered by id: every chunk is sent as a separate event and deleted
+ * in its own transaction after the event is acknowledged, and deleted links are counted in the authority statistics.
+ * So memory usage doesn't depend on the number of links, and deletion that failed midway is continued from
+ * the remaining links when the authority event is redelivered.
+ */
+@Log4j2
 @Component
 public class DeleteAuthorityChangeHandler extends AbstractAuthorityChangeHandler {
 
+  private final InstanceAuthorityChangeProperties instanceAuthorityChangeProperties;
   private final InstanceAuthorityLinkingService linkingService;
   private final AuthorityService authorityService;
+  private final AuthorityDataStatService dataStatService;
+  private final EventProducer<LinksChangeEvent> eventProducer;
+  private final TransactionTemplate transactionTemplate;
 
   public DeleteAuthorityChangeHandler(InstanceAuthorityLinkingService linkingService,
                                       InstanceAuthorityChangeProperties instanceAuthorityChangeProperties,
-                                      AuthorityService authorityService) {
+                                      AuthorityService authorityService,
+                                      AuthorityDataStatService dataStatService,
+                                      EventProducer<LinksChangeEvent> eventProducer,
+                                      PlatformTransactionManager transactionManager) {
     super(instanceAuthorityChangeProperties, linkingService);
+    this.instanceAuthorityChangeProperties = instanceAuthorityChangeProperties;
     this.linkingService = linkingService;
     this.authorityService = authorityService;
+    this.dataStatService = dataStatService;
+    this.eventProducer = eventProducer;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
   }
 
+  /**
+   * Deletes links of the authorities chunk by chunk and then hard deletes the authorities.
+   * Links events are sent while deleting the links, so no events are returned.
+   *
+   * @param changes authority delete changes
+   * @return empty list
+   */
   @Override
   public List<LinksChangeEvent> handle(List<AuthorityChangeHolder> changes) {
     if (changes == null || changes.isEmpty()) {
       return emptyList();
     }
 
-    var linksEvents = changes.stream()
-        .filter(change -> change.getNumberOfLinks() > 0)
-        .map(change -> handleLinksByPartitions(
-            change.getAuthorityId(),
-            links -> constructEvent(change.getAuthorityDataStatId(), change.getAuthorityId(), links, emptyList())
-        ))
-        .flatMap(List::stream)
-        .toList();
-
-    var authorityIds = linksEvents.stream().map(LinksChangeEvent::getAuthorityId).collect(Collectors.toSet());
-    var softDeleteAuthorityIds = changes.stream().map(AuthorityChangeHolder::getAuthorityId).toList();
-    // delete the links
-    linkingService.deleteByAuthorityIdIn(authorityIds);
-    // hard delete the authorities
-    authorityService.batchDeleteByIds(softDeleteAuthorityIds);
-    return linksEvents;
+    var chunkSize = instanceAuthorityChangeProperties.getNumPartitions();
+    changes.stream()
+      .filter(change -> change.getNumberOfLinks() > 0)
+      .forEach(change -> deleteLinks(change, chunkSize));
+
+    var authorityIds = changes.stream().map(AuthorityChangeHolder::getAuthorityId).toList();
+    Lists.partition(authorityIds, chunkSize).forEach(authorityService::batchDeleteByIds);
+    return emptyList();
   }
 
   @Override
@@ -60,4 +85,41 @@ public class DeleteAuthorityChangeHandler extends AbstractAuthorityChangeHandler
     return AuthorityChangeType.DELETE;
   }
 
+  private void deleteLinks(AuthorityChangeHolder change, int chunkSize) {
+    var authorityId = change.getAuthorityId();
+    var statId = change.getAuthorityDataStatId();
+    var deleted = 0;
+    try {
+      var afterId = 0L;
+      List<InstanceAuthorityLink> links;
+      do {
+        var lastId = afterId;
+        links = transactionTemplate.execute(status -> deleteLinksChunk(statId, authorityId, lastId, chunkSize));
+        if (links == null || links.isEmpty()) {
+          break;
+        }
+        deleted += links.size();
+        afterId = links.get(links.size() - 1).getId();
+      } while (links.size() == chunkSize);
+    } catch (RuntimeException e) {
+      log.warn("Failed to delete links [authorityId: {}, deleted: {}]", authorityId, deleted, e);
+      dataStatService.fail(statId, e.getMessage());
+      throw e;
+    }
+    log.info("Deleted links [authorityId: {}, deleted: {}]", authorityId, deleted);
+  }
+
+  private List<InstanceAuthorityLink> deleteLinksChunk(UUID statId, UUID authorityId, long afterId, int chunkSize) {
+    var links = linkingService.getLinksByAuthorityId(authorityId, afterId, chunkSize);
+    if (links.isEmpty()) {
+      return links;
+    }
+
+    var event = constructEvent(statId, authorityId, links, emptyList());
+    // wait for the event to be acknowledged, so the chunk is not deleted if sending fails
+    eventProducer.sendMessages(List.of(event)).join();
+    linkingService.deleteByIds(links.stream().map(InstanceAuthorityLink::getId).toList());
+    dataStatService.updateProgress(statId, links.size());
+    return links;
+  }
 }
@@ -15,13 +15,13 @@ import org.folio.entlinks.domain.dto.LinkUpdateReport;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
 import org.folio.entlinks.domain.dto.SubfieldChange;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
-import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
 import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
 import org.folio.entlinks.exception.AuthorityBatchProcessingException;
 import org.folio.entlinks.integration.dto.AuthoritySourceRecord;
 import org.folio.entlinks.integration.kafka.EventProducer;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
+import org.folio.entlinks.service.links.model.LinkingRuleIndex;
 import org.folio.entlinks.service.messaging.authority.AuthorityMappingRulesProcessingService;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeHolder;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType;
@@ -121,10 +121,10 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
     var authorityId = changeHolder.getAuthorityId();
 
     var changedTag = mappingRulesProcessingService.getTagByAuthorityChangeField(changeHolder.getFieldChange());
-    var linkingRules = linkingRulesService.getLinkingRulesByAuthorityField(changedTag);
+    var linkingRuleIndex = linkingRulesService.getLinkingRuleIndex();
     var sourceRecord = changeHolder.getSourceRecord();
 
-    var fieldChangeHolders = getFieldChangeHolders(authorityId, sourceRecord, changedTag, linkingRules);
+    var fieldChangeHolders = getFieldChangeHolders(authorityId, sourceRecord, changedTag, linkingRuleIndex);
     getSubfield0Change(changeHolder)
       .ifPresent(subfield0Change -> fieldChangeHolders
         .forEach(fieldChangeHolder -> fieldChangeHolder.addExtraSubfieldChange(subfield0Change)));
@@ -141,7 +141,7 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
   private List<FieldChangeHolder> getFieldChangeHolders(UUID authorityId,
                                                         AuthoritySourceRecord authoritySourceRecord,
                                                         String changedTag,
-                                                        List<InstanceAuthorityLinkingRule> linkingRuleForField)
+                                                        LinkingRuleIndex linkingRuleIndex)
     throws AuthorityBatchProcessingException {
     var sourceRecord = Optional.ofNullable(authoritySourceRecord)
       .orElseThrow(() -> new AuthorityBatchProcessingException(authorityId,
@@ -152,8 +152,8 @@ public class UpdateAuthorityChangeHandler extends AbstractAuthorityChangeHandler
       .orElseThrow(() -> new AuthorityBatchProcessingException(authorityId,
         "Source record don't contains [authorityId: " + authorityId + ", tag: " + changedTag + "]"));
 
-    return linkingRuleForField.stream()
-      .map(linkingRule -> new FieldChangeHolder(dataField, linkingRule))
+    return linkingRuleIndex.getRulesByAuthorityField(changedTag).stream()
+      .map(linkingRule -> new FieldChangeHolder(dataField, linkingRule, linkingRuleIndex.getSubfields(linkingRule)))
       .toList();
   }
 
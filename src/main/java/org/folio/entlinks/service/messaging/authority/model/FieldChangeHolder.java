@@ -8,19 +8,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.Getter;
-import org.bouncycastle.util.Arrays;
 import org.folio.entlinks.domain.dto.FieldChange;
 import org.folio.entlinks.domain.dto.FieldContent;
 import org.folio.entlinks.domain.dto.SubfieldChange;
-import org.folio.entlinks.domain.dto.SubfieldModification;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+import org.folio.entlinks.service.links.model.LinkingRuleSubfields;
 import org.marc4j.marc.DataField;
 import org.marc4j.marc.Subfield;
 import org.marc4j.marc.impl.SubfieldImpl;
 
 public class FieldChangeHolder {
 
-  private final InstanceAuthorityLinkingRule linkingRule;
+  private final LinkingRuleSubfields ruleSubfields;
 
   private final @Getter String bibField;
 
@@ -29,13 +28,23 @@ public class FieldChangeHolder {
   private final List<SubfieldChange> extraSubfieldChanges = new ArrayList<>();
 
   public FieldChangeHolder(DataField dataField, InstanceAuthorityLinkingRule linkingRule) {
-    this.linkingRule = linkingRule;
+    this(dataField, linkingRule, LinkingRuleSubfields.of(linkingRule));
+  }
+
+  public FieldChangeHolder(DataField dataField, InstanceAuthorityLinkingRule linkingRule,
+                           LinkingRuleSubfields ruleSubfields) {
+    this.ruleSubfields = ruleSubfields;
     this.bibField = linkingRule.getBibField();
     this.authSubfields = getAuthSubfields(dataField.getSubfields());
   }
 
   public FieldChangeHolder(FieldContent fieldContent, InstanceAuthorityLinkingRule linkingRule) {
-    this.linkingRule = linkingRule;
+    this(fieldContent, linkingRule, LinkingRuleSubfields.of(linkingRule));
+  }
+
+  public FieldChangeHolder(FieldContent fieldContent, InstanceAuthorityLinkingRule linkingRule,
+                           LinkingRuleSubfields ruleSubfields) {
+    this.ruleSubfields = ruleSubfields;
     this.bibField = linkingRule.getBibField();
     this.authSubfields = getAuthSubfieldsForContent(fieldContent.getSubfields());
   }
@@ -63,7 +72,7 @@ public class FieldChangeHolder {
       .collect(Collectors.groupingBy(subfieldChange -> subfieldChange.getCode().charAt(0)));
 
     // create subfield changes for subfields that missing in authority but still could be controlled
-    for (char subfieldCode : linkingRule.getAuthoritySubfields()) {
+    for (char subfieldCode : ruleSubfields.getAuthoritySubfields()) {
       var code = getCode(subfieldCode);
       subfieldChanges.putIfAbsent(code, List.of(new SubfieldChange().code(Character.toString(code)).value(EMPTY)));
     }
@@ -76,7 +85,7 @@ public class FieldChangeHolder {
 
   private List<Subfield> getAuthSubfields(List<Subfield> subfields) {
     return subfields.stream()
-      .filter(subfield -> Arrays.contains(linkingRule.getAuthoritySubfields(), subfield.getCode()))
+      .filter(subfield -> ruleSubfields.isControlled(subfield.getCode()))
       .map(subfield -> {
         var code = getCode(subfield);
         return (Subfield) new SubfieldImpl(code, subfield.getData());
@@ -88,7 +97,7 @@ public class FieldChangeHolder {
   private List<Subfield> getAuthSubfieldsForContent(List<Map<String, String>> subfields) {
     return subfields.stream()
       .flatMap(subfieldsMap -> subfieldsMap.entrySet().stream())
-      .filter(subfield -> Arrays.contains(linkingRule.getAuthoritySubfields(), subfield.getKey().charAt(0)))
+      .filter(subfield -> ruleSubfields.isControlled(subfield.getKey().charAt(0)))
       .map(subfield -> {
         var code = getCode(subfield.getKey().charAt(0));
         return (Subfield) new SubfieldImpl(code, subfield.getValue());
@@ -102,14 +111,6 @@ public class FieldChangeHolder {
   }
 
   private char getCode(char subfieldCode) {
-    var subfieldModifications = linkingRule.getSubfieldModifications();
-    if (subfieldModifications != null && !subfieldModifications.isEmpty()) {
-      for (SubfieldModification subfieldModification : subfieldModifications) {
-        if (subfieldModification.getSource().charAt(0) == subfieldCode) {
-          return subfieldModification.getTarget().charAt(0);
-        }
-      }
-    }
-    return subfieldCode;
+    return ruleSubfields.getTargetCode(subfieldCode);
   }
 }
@@ -1,6 +1,10 @@
 package org.folio.entlinks.service.tenant;
 
 import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.config.properties.AuthorityArchiveProperties;
+import org.folio.entlinks.integration.CachedSettingsService;
+import org.folio.entlinks.service.authority.AuthorityArchiveService;
+import org.folio.entlinks.service.consortium.ConsortiumTopologyCache;
 import org.folio.entlinks.service.dataloader.ReferenceDataLoader;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.liquibase.FolioSpringLiquibase;
@@ -21,6 +25,10 @@ public class ExtendedTenantService extends TenantService {
   private final FolioExecutionContext folioExecutionContext;
   private final KafkaAdminService kafkaAdminService;
   private final ReferenceDataLoader referenceDataLoader;
+  private final ConsortiumTopologyCache consortiumTopologyCache;
+  private final AuthorityArchiveService authorityArchiveService;
+  private final AuthorityArchiveProperties authorityArchiveProperties;
+  private final CachedSettingsService cachedSettingsService;
 
   public ExtendedTenantService(JdbcTemplate jdbcTemplate,
                                FolioExecutionContext context,
@@ -28,12 +36,20 @@ public class ExtendedTenantService extends TenantService {
                                FolioSpringLiquibase folioSpringLiquibase,
                                FolioExecutionContext folioExecutionContext,
                                PrepareSystemUserService folioPrepareSystemUserService,
-                               ReferenceDataLoader referenceDataLoader) {
+                               ReferenceDataLoader referenceDataLoader,
+                               ConsortiumTopologyCache consortiumTopologyCache,
+                               AuthorityArchiveService authorityArchiveService,
+                               AuthorityArchiveProperties authorityArchiveProperties,
+                               CachedSettingsService cachedSettingsService) {
     super(jdbcTemplate, context, folioSpringLiquibase);
     this.folioPrepareSystemUserService = folioPrepareSystemUserService;
     this.folioExecutionContext = folioExecutionContext;
     this.kafkaAdminService = kafkaAdminService;
     this.referenceDataLoader = referenceDataLoader;
+    this.consortiumTopologyCache = consortiumTopologyCache;
+    this.authorityArchiveService = authorityArchiveService;
+    this.authorityArchiveProperties = authorityArchiveProperties;
+    this.cachedSettingsService = cachedSettingsService;
   }
 
   @Override
@@ -42,12 +58,17 @@ public class ExtendedTenantService extends TenantService {
     kafkaAdminService.createTopics(folioExecutionContext.getTenantId());
     kafkaAdminService.restartEventListeners();
     folioPrepareSystemUserService.setupSystemUser();
+    consortiumTopologyCache.invalidate(folioExecutionContext.getTenantId());
+    cachedSettingsService.invalidate(folioExecutionContext.getTenantId());
+    authorityArchiveService.createPartitions(authorityArchiveProperties.getPartitionsAhead());
   }
 
   @Override
   protected void afterTenantDeletion(TenantAttributes tenantAttributes) {
     var tenantId = context.getTenantId();
     kafkaAdminService.deleteTopics(tenantId);
+    consortiumTopologyCache.invalidate(tenantId);
+    cachedSettingsService.invalidate(tenantId);
   }
 
   @Override
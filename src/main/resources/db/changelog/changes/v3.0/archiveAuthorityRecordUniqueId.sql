@@ -0,0 +1,27 @@
+-- The primary key of the partitioned authority_archive includes updated_date, so it doesn't enforce unique ids.
+-- An authority archived again replaces its previous archive, so that there is one archive per authority id.
+
+CREATE OR REPLACE FUNCTION archive_authority_record()
+  RETURNS TRIGGER
+  AS
+'
+BEGIN
+  IF OLD.deleted = false AND NEW.deleted = true THEN
+    DELETE FROM authority_archive WHERE id = NEW.id;
+    INSERT INTO authority_archive(id, natural_id, source_file_id, source, heading, heading_type, _version,
+      subject_heading_code, sft_headings, saft_headings, identifiers, notes, deleted, created_date, updated_date,
+      created_by_user_id, updated_by_user_id)
+    VALUES(NEW.id, NEW.natural_id, NEW.source_file_id, NEW.source, NEW.heading, NEW.heading_type, NEW._version,
+                NEW.subject_heading_code, NEW.sft_headings, NEW.saft_headings, NEW.identifiers, NEW.notes, NEW.deleted,
+                NEW.created_date, NEW.updated_date, NEW.created_by_user_id, NEW.updated_by_user_id);
+  END IF;
+
+  RETURN NEW;
+END;
+'
+LANGUAGE plpgsql;
+
+-- keep the latest archive of ids archived more than once
+DELETE FROM authority_archive a
+  USING authority_archive b
+  WHERE a.id = b.id AND (a.updated_date, a.ctid) < (b.updated_date, b.ctid);
@@ -0,0 +1,67 @@
+-- authority_archive is range partitioned by updated_date with one partition per month.
+-- Partitions are named authority_archive_p<YYYYMM>, rows that don't fit any of them land in authority_archive_default.
+-- Expired partitions are detached and renamed to authority_archive_expired_p<YYYYMM>, so they can be drained
+-- and dropped without touching the rest of the archives.
+
+DROP FUNCTION IF EXISTS authority_archive_create_partitions(TIMESTAMP, TIMESTAMP);
+
+-- Creates missing partitions from the month of p_from till p_months_ahead months after the current month.
+CREATE OR REPLACE FUNCTION authority_archive_create_partitions(p_from TIMESTAMP, p_months_ahead INTEGER)
+  RETURNS INTEGER
+  AS
+'
+DECLARE
+  v_start TIMESTAMP := date_trunc(''month'', p_from);
+  v_last TIMESTAMP := date_trunc(''month'', now()::timestamp) + make_interval(months => p_months_ahead);
+  v_end TIMESTAMP;
+  v_name TEXT;
+  v_created INTEGER := 0;
+BEGIN
+  WHILE v_start <= v_last LOOP
+    v_end := v_start + INTERVAL ''1 month'';
+    v_name := ''authority_archive_p'' || to_char(v_start, ''YYYYMM'');
+    IF to_regclass(v_name) IS NULL THEN
+      -- a partition can''t be created while the default partition has rows of its range, so they are moved
+      EXECUTE ''CREATE TEMPORARY TABLE authority_archive_moved (LIKE authority_archive) ON COMMIT DROP'';
+      EXECUTE ''WITH moved AS (DELETE FROM authority_archive_default
+                               WHERE updated_date >= $1 AND updated_date < $2 RETURNING *)
+               INSERT INTO authority_archive_moved SELECT * FROM moved'' USING v_start, v_end;
+      EXECUTE format(''CREATE TABLE %I PARTITION OF authority_archive FOR VALUES FROM (%L) TO (%L)'',
+                     v_name, v_start, v_end);
+      EXECUTE ''INSERT INTO authority_archive SELECT * FROM authority_archive_moved'';
+      EXECUTE ''DROP TABLE authority_archive_moved'';
+      v_created := v_created + 1;
+    END IF;
+    v_start := v_end;
+  END LOOP;
+
+  RETURN v_created;
+END;
+'
+LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION authority_archive_detach_partitions(p_till TIMESTAMP)
+  RETURNS SETOF TEXT
+  AS
+'
+DECLARE
+  v_name TEXT;
+  v_expired_name TEXT;
+BEGIN
+  FOR v_name IN
+    SELECT c.relname
+    FROM pg_inherits i
+      JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = ''authority_archive''::regclass
+      AND c.relname ~ ''^authority_archive_p[0-9]{6}$''
+      AND to_date(substr(c.relname, 20), ''YYYYMM'') + INTERVAL ''1 month'' <= p_till
+    ORDER BY c.relname
+  LOOP
+    v_expired_name := ''authority_archive_expired_'' || substr(v_name, 19);
+    EXECUTE format(''ALTER TABLE authority_archive DETACH PARTITION %I'', v_name);
+    EXECUTE format(''ALTER TABLE %I RENAME TO %I'', v_name, v_expired_name);
+    RETURN NEXT v_expired_name;
+  END LOOP;
+END;
+'
+LANGUAGE plpgsql;
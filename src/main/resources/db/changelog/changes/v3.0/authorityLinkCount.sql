@@ -0,0 +1,109 @@
+-- Keeps authority_link_count in sync with instance_authority_link.
+-- Counts are the number of distinct instances linked to an authority, so an (authority_id, instance_id) pair
+-- is counted only when it appears for the first time and discounted only when its last link is removed.
+-- Statement-level triggers with transition tables are used to process multi-row inserts/deletes in one pass.
+
+CREATE OR REPLACE FUNCTION authority_link_count_on_insert()
+  RETURNS TRIGGER
+  AS
+'
+BEGIN
+  INSERT INTO authority_link_count(authority_id, total_links)
+  SELECT n.authority_id, count(DISTINCT n.instance_id)
+  FROM new_links n
+  WHERE NOT EXISTS (
+    SELECT 1 FROM instance_authority_link l
+    WHERE l.instance_id = n.instance_id AND l.authority_id = n.authority_id
+      AND NOT EXISTS (SELECT 1 FROM new_links x WHERE x.id = l.id))
+  GROUP BY n.authority_id
+  ON CONFLICT (authority_id) DO UPDATE SET total_links = authority_link_count.total_links + EXCLUDED.total_links;
+
+  RETURN NULL;
+END;
+'
+LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION authority_link_count_on_delete()
+  RETURNS TRIGGER
+  AS
+'
+BEGIN
+  UPDATE authority_link_count c
+  SET total_links = c.total_links - r.total_links
+  FROM (
+    SELECT o.authority_id, count(DISTINCT o.instance_id) AS total_links
+    FROM old_links o
+    WHERE NOT EXISTS (
+      SELECT 1 FROM instance_authority_link l
+      WHERE l.instance_id = o.instance_id AND l.authority_id = o.authority_id)
+    GROUP BY o.authority_id) r
+  WHERE c.authority_id = r.authority_id;
+
+  DELETE FROM authority_link_count c
+  WHERE c.total_links <= 0 AND c.authority_id IN (SELECT authority_id FROM old_links);
+
+  RETURN NULL;
+END;
+'
+LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION authority_link_count_on_update()
+  RETURNS TRIGGER
+  AS
+'
+BEGIN
+  UPDATE authority_link_count c
+  SET total_links = c.total_links - r.total_links
+  FROM (
+    SELECT o.authority_id, count(DISTINCT o.instance_id) AS total_links
+    FROM old_links o
+    WHERE NOT EXISTS (
+      SELECT 1 FROM instance_authority_link l
+      WHERE l.instance_id = o.instance_id AND l.authority_id = o.authority_id)
+    GROUP BY o.authority_id) r
+  WHERE c.authority_id = r.authority_id;
+
+  INSERT INTO authority_link_count(authority_id, total_links)
+  SELECT n.authority_id, count(DISTINCT n.instance_id)
+  FROM new_links n
+  WHERE NOT EXISTS (
+      SELECT 1 FROM old_links o
+      WHERE o.instance_id = n.instance_id AND o.authority_id = n.authority_id)
+    AND NOT EXISTS (
+      SELECT 1 FROM instance_authority_link l
+      WHERE l.instance_id = n.instance_id AND l.authority_id = n.authority_id
+        AND NOT EXISTS (SELECT 1 FROM new_links x WHERE x.id = l.id))
+  GROUP BY n.authority_id
+  ON CONFLICT (authority_id) DO UPDATE SET total_links = authority_link_count.total_links + EXCLUDED.total_links;
+
+  DELETE FROM authority_link_count c
+  WHERE c.total_links <= 0 AND c.authority_id IN (SELECT authority_id FROM old_links);
+
+  RETURN NULL;
+END;
+'
+LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS authority_link_count_on_insert ON instance_authority_link CASCADE;
+CREATE TRIGGER authority_link_count_on_insert
+  AFTER INSERT
+  ON instance_authority_link
+  REFERENCING NEW TABLE AS new_links
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION authority_link_count_on_insert();
+
+DROP TRIGGER IF EXISTS authority_link_count_on_delete ON instance_authority_link CASCADE;
+CREATE TRIGGER authority_link_count_on_delete
+  AFTER DELETE
+  ON instance_authority_link
+  REFERENCING OLD TABLE AS old_links
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION authority_link_count_on_delete();
+
+DROP TRIGGER IF EXISTS authority_link_count_on_update ON instance_authority_link CASCADE;
+CREATE TRIGGER authority_link_count_on_update
+  AFTER UPDATE
+  ON instance_authority_link
+  REFERENCING OLD TABLE AS old_links NEW TABLE AS new_links
+  FOR EACH STATEMENT
+  EXECUTE FUNCTION authority_link_count_on_update();
@@ -0,0 +1,81 @@
+package org.folio.entlinks.config.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.folio.entlinks.config.properties.CacheSpecProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TenantCacheFactoryTest {
+
+  private static final String CACHE_NAME = "test-cache";
+  private static final String KEY = "tenant";
+
+  private final AtomicLong time = new AtomicLong();
+  private final List<Runnable> refreshes = new ArrayList<>();
+  private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+  private final CacheSpecProperties cacheSpecProperties = new CacheSpecProperties();
+
+  private @Mock FolioExecutionContext context;
+
+  private TenantCacheFactory cacheFactory;
+
+  @BeforeEach
+  void setUp() {
+    var spec = new CacheSpecProperties.CacheSpec();
+    spec.setRefreshAfter(Duration.ofMinutes(5));
+    spec.setTtl(Duration.ofHours(1));
+    cacheSpecProperties.setSpecs(Map.of(CACHE_NAME, spec));
+    cacheFactory = new TenantCacheFactory(cacheSpecProperties, context, cacheManager, new SimpleMeterRegistry(),
+      time::get, refreshes::add);
+  }
+
+  @Test
+  void create_positive_registerCacheInCacheManager() {
+    var cache = cacheFactory.create(CACHE_NAME, key -> key + "-value", (value, ttl) -> ttl);
+
+    assertThat(cache.get(KEY)).isEqualTo(KEY + "-value");
+    assertThat(cacheManager.getCache(CACHE_NAME).get(KEY)).isNotNull();
+  }
+
+  @Test
+  void create_positive_expireValuesAfterResolvedTtl() {
+    var loads = new AtomicInteger();
+    var cache = cacheFactory.create(CACHE_NAME, key -> loads.incrementAndGet(),
+      (value, ttl) -> value == 1 ? Duration.ofMinutes(1) : ttl);
+
+    assertThat(cache.get(KEY)).isEqualTo(1);
+    time.addAndGet(Duration.ofMinutes(2).toNanos());
+    assertThat(cache.get(KEY)).isEqualTo(2);
+    time.addAndGet(Duration.ofMinutes(4).toNanos());
+    assertThat(cache.get(KEY)).isEqualTo(2);
+  }
+
+  @Test
+  void create_positive_refreshInBackground() {
+    var loads = new AtomicInteger();
+    var cache = cacheFactory.create(CACHE_NAME, key -> loads.incrementAndGet(), (value, ttl) -> ttl);
+
+    cache.get(KEY);
+    time.addAndGet(Duration.ofMinutes(6).toNanos());
+
+    assertThat(cache.get(KEY)).isEqualTo(1);
+    refreshes.forEach(Runnable::run);
+    assertThat(cache.get(KEY)).isEqualTo(2);
+  }
+}
@@ -0,0 +1,37 @@
+package org.folio.entlinks.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class DataSourcePoolsTest {
+
+  private @Mock HikariDataSource restPool;
+  private @Mock HikariDataSource kafkaPool;
+
+  @Test
+  void getDefaultPool_positive() {
+    var pools = new DataSourcePools(Map.of(DataSourceWorkload.REST, restPool, DataSourceWorkload.KAFKA, kafkaPool));
+
+    assertThat(pools.getDefaultPool()).isSameAs(restPool);
+  }
+
+  @Test
+  void close_positive_closeAllPools() {
+    var pools = new DataSourcePools(Map.of(DataSourceWorkload.REST, restPool, DataSourceWorkload.KAFKA, kafkaPool));
+
+    pools.close();
+
+    verify(restPool).close();
+    verify(kafkaPool).close();
+  }
+}
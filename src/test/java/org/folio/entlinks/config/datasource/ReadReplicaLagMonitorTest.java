@@ -0,0 +1,77 @@
+package org.folio.entlinks.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entlinks.config.datasource.ReadReplicaLagMonitor.AVAILABLE_METRIC;
+import static org.folio.entlinks.config.datasource.ReadReplicaLagMonitor.LAG_METRIC;
+import static org.folio.entlinks.config.datasource.ReadReplicaLagMonitor.LAG_QUERY;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.folio.entlinks.config.properties.ReadReplicaProperties;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaLagMonitorTest {
+
+  private final ReadReplicaProperties properties = new ReadReplicaProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private @Mock JdbcTemplate jdbcTemplate;
+
+  private ReadReplicaLagMonitor monitor;
+
+  @BeforeEach
+  void setUp() {
+    properties.setMaxLag(Duration.ofSeconds(10));
+    monitor = new ReadReplicaLagMonitor(jdbcTemplate, properties, meterRegistry);
+  }
+
+  @Test
+  void isReplicaAvailable_negative_notChecked() {
+    assertThat(monitor.isReplicaAvailable()).isFalse();
+  }
+
+  @Test
+  void checkLag_positive_lagWithinMaxLag() {
+    when(jdbcTemplate.queryForObject(LAG_QUERY, Double.class)).thenReturn(2.5);
+
+    monitor.checkLag();
+
+    assertThat(monitor.isReplicaAvailable()).isTrue();
+    assertThat(meterRegistry.get(AVAILABLE_METRIC).gauge().value()).isEqualTo(1);
+    assertThat(meterRegistry.get(LAG_METRIC).gauge().value()).isEqualTo(2.5);
+  }
+
+  @Test
+  void checkLag_negative_lagExceedsMaxLag() {
+    when(jdbcTemplate.queryForObject(LAG_QUERY, Double.class)).thenReturn(0.0, 10.5);
+    monitor.checkLag();
+
+    monitor.checkLag();
+
+    assertThat(monitor.isReplicaAvailable()).isFalse();
+    assertThat(meterRegistry.get(AVAILABLE_METRIC).gauge().value()).isZero();
+  }
+
+  @Test
+  void checkLag_negative_checkFailed() {
+    when(jdbcTemplate.queryForObject(LAG_QUERY, Double.class))
+      .thenReturn(0.0)
+      .thenThrow(new DataAccessResourceFailureException("connection refused"));
+    monitor.checkLag();
+
+    monitor.checkLag();
+
+    assertThat(monitor.isReplicaAvailable()).isFalse();
+    assertThat(meterRegistry.get(LAG_METRIC).gauge().value()).isNaN();
+  }
+}
@@ -0,0 +1,64 @@
+package org.folio.entlinks.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+@UnitTest
+class ReadReplicaQueryAspectTest {
+
+  private final ReadReplicaQueryAspect queryAspect = new ReadReplicaQueryAspect();
+
+  private TestQueries queries;
+
+  @BeforeEach
+  void setUp() {
+    var proxyFactory = new AspectJProxyFactory(new TestQueries(queryAspect));
+    proxyFactory.setProxyTargetClass(true);
+    proxyFactory.addAspect(queryAspect);
+    queries = proxyFactory.getProxy();
+  }
+
+  @Test
+  void markReadReplicaQuery_positive_annotatedMethod() {
+    assertThat(queries.readReplicaQuery()).isTrue();
+    assertThat(queryAspect.isReadReplicaQuery()).isFalse();
+  }
+
+  @Test
+  void markReadReplicaQuery_positive_notAnnotatedMethod() {
+    assertThat(queries.primaryQuery()).isFalse();
+  }
+
+  @Test
+  void markReadReplicaQuery_positive_nestedAnnotatedMethod() {
+    assertThat(queries.nestedReadReplicaQuery(queries)).isTrue();
+    assertThat(queryAspect.isReadReplicaQuery()).isFalse();
+  }
+
+  static class TestQueries {
+
+    private final ReadReplicaQueryAspect queryAspect;
+
+    TestQueries(ReadReplicaQueryAspect queryAspect) {
+      this.queryAspect = queryAspect;
+    }
+
+    @ReadReplicaQuery
+    public boolean readReplicaQuery() {
+      return queryAspect.isReadReplicaQuery();
+    }
+
+    public boolean primaryQuery() {
+      return queryAspect.isReadReplicaQuery();
+    }
+
+    @ReadReplicaQuery
+    public boolean nestedReadReplicaQuery(TestQueries proxy) {
+      return proxy.readReplicaQuery() && queryAspect.isReadReplicaQuery();
+    }
+  }
+}
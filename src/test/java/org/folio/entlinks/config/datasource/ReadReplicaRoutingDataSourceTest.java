@@ -0,0 +1,60 @@
+package org.folio.entlinks.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import javax.sql.DataSource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.folio.entlinks.config.datasource.ReadReplicaRoutingDataSource.Route;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingDataSourceTest {
+
+  private final ReadReplicaQueryAspect queryAspect = new ReadReplicaQueryAspect();
+
+  private @Mock DataSource primary;
+  private @Mock DataSource replica;
+  private @Mock ReadReplicaLagMonitor lagMonitor;
+  private @Mock ProceedingJoinPoint joinPoint;
+
+  private ReadReplicaRoutingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws Throwable {
+    dataSource = new ReadReplicaRoutingDataSource(primary, replica, queryAspect, lagMonitor);
+    lenient().when(lagMonitor.isReplicaAvailable()).thenReturn(true);
+    lenient().when(joinPoint.proceed()).thenAnswer(invocation -> dataSource.determineCurrentLookupKey());
+  }
+
+  @Test
+  void determineCurrentLookupKey_positive_readReplicaQuery() throws Throwable {
+    assertThat(queryAspect.markReadReplicaQuery(joinPoint)).isEqualTo(Route.REPLICA);
+  }
+
+  @Test
+  void determineCurrentLookupKey_positive_notReadReplicaQuery() {
+    assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(Route.PRIMARY);
+  }
+
+  @Test
+  void determineCurrentLookupKey_positive_readReplicaQueryCompleted() throws Throwable {
+    queryAspect.markReadReplicaQuery(joinPoint);
+
+    assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(Route.PRIMARY);
+  }
+
+  @Test
+  void determineCurrentLookupKey_positive_replicaLagging() throws Throwable {
+    when(lagMonitor.isReplicaAvailable()).thenReturn(false);
+
+    assertThat(queryAspect.markReadReplicaQuery(joinPoint)).isEqualTo(Route.PRIMARY);
+  }
+}
@@ -0,0 +1,83 @@
+package org.folio.entlinks.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class WorkloadRoutingDataSourceTest {
+
+  private @Mock DataSource restPool;
+  private @Mock DataSource kafkaPool;
+  private @Mock Connection restConnection;
+  private @Mock Connection kafkaConnection;
+
+  private WorkloadRoutingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    lenient().when(restPool.getConnection()).thenReturn(restConnection);
+    lenient().when(kafkaPool.getConnection()).thenReturn(kafkaConnection);
+    dataSource = new WorkloadRoutingDataSource(Map.of(
+      DataSourceWorkload.REST, restPool,
+      DataSourceWorkload.KAFKA, kafkaPool));
+  }
+
+  @Test
+  void getConnection_positive_notMarkedThread() {
+    assertThat(getConnection()).isSameAs(restConnection);
+  }
+
+  @Test
+  void getConnection_positive_decoratedTask() {
+    var target = new AtomicReference<Connection>();
+
+    DataSourceWorkload.KAFKA.run(() -> target.set(getConnection()));
+
+    assertThat(target).hasValue(kafkaConnection);
+    assertThat(DataSourceWorkload.current()).isEqualTo(DataSourceWorkload.REST);
+  }
+
+  @Test
+  void getConnection_positive_workloadWithoutPool() {
+    var target = new AtomicReference<Connection>();
+
+    DataSourceWorkload.BACKGROUND.run(() -> target.set(getConnection()));
+
+    assertThat(target).hasValue(restConnection);
+  }
+
+  @Test
+  void decorate_positive_restorePreviousWorkload() {
+    var nested = new AtomicReference<DataSourceWorkload>();
+    var restored = new AtomicReference<DataSourceWorkload>();
+
+    DataSourceWorkload.KAFKA.run(() -> {
+      DataSourceWorkload.BACKGROUND.run(() -> nested.set(DataSourceWorkload.current()));
+      restored.set(DataSourceWorkload.current());
+    });
+
+    assertThat(nested).hasValue(DataSourceWorkload.BACKGROUND);
+    assertThat(restored).hasValue(DataSourceWorkload.KAFKA);
+  }
+
+  private Connection getConnection() {
+    try {
+      return dataSource.getConnection();
+    } catch (SQLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -23,6 +23,7 @@ import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.folio.support.base.TestConstants.USER_ID;
 import static org.folio.support.base.TestConstants.authorityEndpoint;
 import static org.folio.support.base.TestConstants.authorityExpireEndpoint;
+import static org.folio.support.base.TestConstants.authorityExpireJobEndpoint;
 import static org.folio.support.base.TestConstants.authoritySourceFilesEndpoint;
 import static org.folio.support.base.TestConstants.authorityTopic;
 import static org.hamcrest.CoreMatchers.containsString;
@@ -54,6 +55,7 @@ import lombok.SneakyThrows;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.domain.dto.AuthorityDtoCollection;
+import org.folio.entlinks.domain.dto.AuthorityExpireJobDto;
 import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.AuthorityArchive;
 import org.folio.entlinks.domain.entity.AuthoritySourceFile;
@@ -646,7 +648,8 @@ class AuthorityControllerIT extends IntegrationTestBase {
     databaseHelper.updateAuthorityArchiveUpdateDate(TENANT_ID, authority1.getId(), dateInPast);
     databaseHelper.updateAuthorityArchiveUpdateDate(TENANT_ID, authority2.getId(), dateInPast);
 
-    doPost(authorityExpireEndpoint(), null);
+    var job = doPostAndReturn(authorityExpireEndpoint(), null, AuthorityExpireJobDto.class);
+    assertNotNull(job.getId());
 
     getConsumedEvent();
     var consumedEvent = getConsumedEvent();
@@ -660,6 +663,11 @@ class AuthorityControllerIT extends IntegrationTestBase {
 
     verifyConsumedAuthorityEvent(consumedEvent, DELETE, dto);
     assertEquals(AuthorityDeleteEventSubType.HARD_DELETE, consumedEvent.value().getDeleteEventSubType());
+    awaitUntilAsserted(() -> {
+      var completedJob = doGetAndReturn(authorityExpireJobEndpoint(job.getId()), AuthorityExpireJobDto.class);
+      assertEquals(AuthorityExpireJobDto.JobStatusEnum.COMPLETED, completedJob.getJobStatus());
+      assertEquals(2, completedJob.getExpired());
+    });
     assertEquals(0, databaseHelper.countRows(AUTHORITY_ARCHIVE_TABLE, TENANT_ID));
   }
 
@@ -680,7 +688,7 @@ class AuthorityControllerIT extends IntegrationTestBase {
 
     doPost(authorityExpireEndpoint(), null);
 
-    assertEquals(0, databaseHelper.countRows(AUTHORITY_ARCHIVE_TABLE, TENANT_ID));
+    awaitUntilAsserted(() -> assertEquals(0, databaseHelper.countRows(AUTHORITY_ARCHIVE_TABLE, TENANT_ID)));
   }
 
   @Test
@@ -16,7 +16,9 @@ import static org.folio.support.TestDataUtils.linksDto;
 import static org.folio.support.TestDataUtils.linksDtoCollection;
 import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.folio.support.base.TestConstants.authoritiesLinksCountEndpoint;
+import static org.folio.support.base.TestConstants.authoritiesLinksCountReconcileEndpoint;
 import static org.folio.support.base.TestConstants.linksInstanceEndpoint;
+import static org.folio.support.base.TestConstants.linksInstancesBulkEndpoint;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
@@ -62,6 +64,7 @@ import org.springframework.test.web.servlet.ResultMatcher;
 @IntegrationTest
 @DatabaseCleanup(tables = {
   DatabaseHelper.INSTANCE_AUTHORITY_LINK_TABLE,
+  DatabaseHelper.AUTHORITY_LINK_COUNT_TABLE,
   DatabaseHelper.AUTHORITY_TABLE,
   DatabaseHelper.AUTHORITY_SOURCE_FILE_CODE_TABLE,
   DatabaseHelper.AUTHORITY_SOURCE_FILE_TABLE})
@@ -349,6 +352,28 @@ class InstanceAuthorityLinksIT extends IntegrationTestBase {
       .andExpect(linksMatch(hasSize(0)));
   }
 
+  @Test
+  @SneakyThrows
+  void reconcileLinksCount_positive_restoreDriftedCounts() {
+    var authorityId = TestDataUtils.AUTHORITY_IDS[0];
+    databaseHelper.saveAuthority(TENANT_ID, authority(0, 0));
+    var instanceId = randomUUID();
+    doPut(linksInstanceEndpoint(), linksDtoCollection(linksDto(instanceId,
+      new Link(authorityId, TAGS[1]),
+      new Link(authorityId, TAGS[2])
+    )), instanceId);
+    databaseHelper.deleteFromTable(DatabaseHelper.AUTHORITY_LINK_COUNT_TABLE, TENANT_ID);
+
+    doPost(authoritiesLinksCountReconcileEndpoint(), null)
+      .andExpect(status().isAccepted());
+
+    var requestBody = new UuidCollection(List.of(authorityId));
+    doPost(authoritiesLinksCountEndpoint(), requestBody)
+      .andExpect(status().isOk())
+      .andExpect(linksMatch(hasSize(1)))
+      .andExpect(jsonPath("$.links.[0].totalLinks", is(1)));
+  }
+
   @Test
   @SneakyThrows
   void countNumberOfTitles_negative_whenRequestBodyInvalidThenThrowsValidationException() {
@@ -360,6 +385,39 @@ class InstanceAuthorityLinksIT extends IntegrationTestBase {
       .andExpect(errorCodeMatch(is(ErrorType.VALIDATION_ERROR.getValue())));
   }
 
+  @Test
+  @SneakyThrows
+  void getInstancesLinks_positive_returnLinksGroupedByInstanceInRequestOrder() {
+    var authorityId = TestDataUtils.AUTHORITY_IDS[0];
+    databaseHelper.saveAuthority(TENANT_ID, authority(0, 0));
+    var instanceId = randomUUID();
+    doPut(linksInstanceEndpoint(), linksDtoCollection(linksDto(instanceId,
+      new Link(authorityId, TAGS[1]),
+      new Link(authorityId, TAGS[2])
+    )), instanceId);
+    var emptyInstanceId = randomUUID();
+
+    var requestBody = new UuidCollection(List.of(emptyInstanceId, instanceId));
+    doPost(linksInstancesBulkEndpoint(), requestBody)
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRecords", is(2)))
+      .andExpect(jsonPath("$.instances[0].instanceId", is(emptyInstanceId.toString())))
+      .andExpect(jsonPath("$.instances[0].links", empty()))
+      .andExpect(jsonPath("$.instances[1].instanceId", is(instanceId.toString())))
+      .andExpect(jsonPath("$.instances[1].links", hasSize(2)))
+      .andExpect(jsonPath("$.instances[1].links[0].authorityNaturalId", is(NATURAL_IDS[0])));
+  }
+
+  @Test
+  @SneakyThrows
+  void getInstancesLinks_positive_whenRequestBodyIsEmptyThenReturnEmptyList() {
+    var requestBody = new UuidCollection(List.of());
+    doPost(linksInstancesBulkEndpoint(), requestBody)
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.totalRecords", is(0)))
+      .andExpect(jsonPath("$.instances", empty()));
+  }
+
   static Stream<Arguments> requiredFieldMissingProvider() {
     return Stream.of(
       arguments("instanceId",
@@ -1,29 +1,22 @@
 package org.folio.entlinks.controller.delegate;
 
-import static org.folio.entlinks.client.SettingsClient.AuthoritiesExpirationSettingValue;
-import static org.folio.entlinks.integration.SettingsService.AUTHORITIES_EXPIRE_SETTING_KEY;
-import static org.folio.entlinks.integration.SettingsService.AUTHORITIES_EXPIRE_SETTING_SCOPE;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import java.sql.Timestamp;
-import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Stream;
-import org.folio.entlinks.client.SettingsClient;
-import org.folio.entlinks.config.properties.AuthorityArchiveProperties;
-import org.folio.entlinks.controller.converter.AuthorityMapper;
-import org.folio.entlinks.domain.dto.AuthorityDto;
-import org.folio.entlinks.domain.entity.AuthorityArchive;
-import org.folio.entlinks.domain.repository.AuthorityArchiveRepository;
-import org.folio.entlinks.integration.SettingsService;
-import org.folio.entlinks.service.authority.AuthorityArchiveService;
-import org.folio.entlinks.service.authority.AuthorityDomainEventPublisher;
+import org.folio.entlinks.controller.converter.AuthorityArchiveExpireJobMapper;
+import org.folio.entlinks.domain.dto.AuthorityExpireJobDto;
+import org.folio.entlinks.domain.entity.AuthorityArchiveExpireJob;
+import org.folio.entlinks.service.authority.AuthorityArchiveExpireJobRunner;
+import org.folio.entlinks.service.authority.AuthorityArchiveExpireJobService;
+import org.folio.entlinks.service.authority.AuthorityArchiveExpireJobService.ExpireJobStart;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,69 +28,62 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class AuthorityArchiveServiceDelegateTest {
 
-  @Mock
-  private AuthorityArchiveService authorityArchiveService;
-
-  @Mock
-  private SettingsService settingsService;
+  private static final String TENANT_ID = "test";
 
   @Mock
-  private AuthorityArchiveRepository authorityArchiveRepository;
+  private AuthorityArchiveExpireJobService expireJobService;
 
   @Mock
-  private AuthorityArchiveProperties authorityArchiveProperties;
+  private AuthorityArchiveExpireJobRunner expireJobRunner;
 
   @Mock
-  private AuthorityDomainEventPublisher eventPublisher;
+  private AuthorityArchiveExpireJobMapper expireJobMapper;
 
   @Mock
-  private AuthorityMapper authorityMapper;
+  private FolioExecutionContext context;
 
   @InjectMocks
   private AuthorityArchiveServiceDelegate delegate;
 
   @Test
-  void shouldNotExpireAuthorityArchivesWhenOperationDisabledBySettings() {
-    var setting = new SettingsClient.SettingEntry(UUID.randomUUID(), AUTHORITIES_EXPIRE_SETTING_SCOPE,
-        AUTHORITIES_EXPIRE_SETTING_KEY, new AuthoritiesExpirationSettingValue(false, null));
-    when(settingsService.getAuthorityExpireSetting()).thenReturn(Optional.of(setting));
+  void shouldNotExpireAuthorityArchivesWhenOperationDisabled() {
+    when(expireJobService.getExpirationTillDate()).thenReturn(Optional.empty());
 
-    delegate.expire();
+    var actual = delegate.expire();
 
-    verifyNoInteractions(authorityArchiveService);
-    verifyNoInteractions(authorityArchiveRepository);
+    assertThat(actual).isEmpty();
+    verify(expireJobService, never()).findRunningOrStartJob(any());
+    verifyNoInteractions(expireJobRunner);
   }
 
   @Test
-  void shouldExpireAuthorityArchivesWithDefaultRetentionPeriod() {
-    var archive = new AuthorityArchive();
-    var dto = new AuthorityDto();
-    archive.setUpdatedDate(Timestamp.from(Instant.now().minus(10, ChronoUnit.DAYS)));
-    when(authorityMapper.toDto(archive)).thenReturn(dto);
-    when(settingsService.getAuthorityExpireSetting()).thenReturn(Optional.empty());
-    when(authorityArchiveProperties.getRetentionPeriodInDays()).thenReturn(7);
-    when(authorityArchiveRepository.streamByUpdatedTillDate(any(LocalDateTime.class))).thenReturn(Stream.of(archive));
-
-    delegate.expire();
-
-    verify(authorityArchiveService).delete(archive);
-    verify(eventPublisher).publishHardDeleteEvent(dto);
+  void shouldStartExpireJob() {
+    var tillDate = LocalDateTime.now().minusDays(7);
+    var job = new AuthorityArchiveExpireJob().withId(UUID.randomUUID());
+    var dto = new AuthorityExpireJobDto().id(job.getId());
+    when(expireJobService.getExpirationTillDate()).thenReturn(Optional.of(tillDate));
+    when(expireJobService.findRunningOrStartJob(tillDate)).thenReturn(new ExpireJobStart(job, true));
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(expireJobMapper.toDto(job)).thenReturn(dto);
+
+    var actual = delegate.expire();
+
+    assertThat(actual).contains(dto);
+    verify(expireJobRunner).run(TENANT_ID, job.getId());
   }
 
   @Test
-  void shouldExpireAuthorityArchivesWithRetentionPeriodFromSettings() {
-    var archive = new AuthorityArchive();
-    var dto = new AuthorityDto();
-    var setting = new SettingsClient.SettingEntry(UUID.randomUUID(), AUTHORITIES_EXPIRE_SETTING_SCOPE,
-        AUTHORITIES_EXPIRE_SETTING_KEY, new AuthoritiesExpirationSettingValue(true, 1));
-    archive.setUpdatedDate(Timestamp.from(Instant.now().minus(2, ChronoUnit.DAYS)));
-    when(authorityMapper.toDto(archive)).thenReturn(dto);
-    when(settingsService.getAuthorityExpireSetting()).thenReturn(Optional.of(setting));
-    when(authorityArchiveRepository.streamByUpdatedTillDate(any(LocalDateTime.class))).thenReturn(Stream.of(archive));
-
-    delegate.expire();
-
-    verify(authorityArchiveService).delete(archive);
-    verify(eventPublisher).publishHardDeleteEvent(dto);
+  void shouldReturnRunningExpireJobWithoutStartingNewOne() {
+    var job = new AuthorityArchiveExpireJob().withId(UUID.randomUUID());
+    var dto = new AuthorityExpireJobDto().id(job.getId());
+    var tillDate = LocalDateTime.now();
+    when(expireJobService.getExpirationTillDate()).thenReturn(Optional.of(tillDate));
+    when(expireJobService.findRunningOrStartJob(tillDate)).thenReturn(new ExpireJobStart(job, false));
+    when(expireJobMapper.toDto(job)).thenReturn(dto);
+
+    var actual = delegate.expire();
+
+    assertThat(actual).contains(dto);
+    verifyNoInteractions(expireJobRunner);
   }
 }
@@ -7,7 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
@@ -15,6 +15,7 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,9 +28,9 @@ import org.folio.entlinks.domain.entity.AuthorityDataStatAction;
 import org.folio.entlinks.domain.entity.AuthoritySourceFile;
 import org.folio.entlinks.domain.entity.AuthoritySourceFileCode;
 import org.folio.entlinks.domain.repository.AuthoritySourceFileRepository;
+import org.folio.entlinks.integration.internal.UsersService;
 import org.folio.entlinks.service.links.AuthorityDataStatService;
-import org.folio.spring.client.UsersClient;
-import org.folio.spring.model.ResultList;
+import org.folio.entlinks.utils.DateUtils;
 import org.folio.spring.testing.type.UnitTest;
 import org.folio.support.TestDataUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -57,14 +58,15 @@ class InstanceAuthorityStatServiceDelegateTest {
   private @Mock AuthorityDataStatService statService;
   private @Mock AuthoritySourceFileRepository sourceFileRepository;
   private @Mock DataStatsMapper mapper;
-  private @Mock UsersClient usersClient;
+  private @Mock UsersService usersService;
   private @InjectMocks InstanceAuthorityStatServiceDelegate delegate;
 
   private AuthoritySourceFile sourceFile;
+  private List<AuthorityDataStat> statData;
 
   @BeforeEach
   void setUp() {
-    delegate = new InstanceAuthorityStatServiceDelegate(statService, mapper, usersClient, sourceFileRepository);
+    delegate = new InstanceAuthorityStatServiceDelegate(statService, mapper, usersService, sourceFileRepository);
     sourceFile = new AuthoritySourceFile();
     sourceFile.setId(TEST_ID);
     sourceFile.setBaseUrl(INPUT_BASE_URL);
@@ -73,18 +75,19 @@ class InstanceAuthorityStatServiceDelegateTest {
     sourceFileCode.setCode("e1");
     sourceFile.addCode(sourceFileCode);
 
-    var statData = List.of(
+    statData = List.of(
       TestDataUtils.authorityDataStat(USER_ID_1, TEST_ID, AuthorityDataStatAction.UPDATE_HEADING),
       TestDataUtils.authorityDataStat(USER_ID_2, TEST_ID, AuthorityDataStatAction.UPDATE_HEADING)
     );
     var users = TestDataUtils.usersList(List.of(USER_ID_1, USER_ID_2));
 
-    when(statService.fetchDataStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, 3)).thenReturn(statData);
-    when(usersClient.query(anyString())).thenReturn(users);
+    when(statService.fetchDataStats(FROM_DATE, TO_DATE, null, DATA_STAT_ACTION, 3)).thenReturn(statData);
+    var userList = users.getResult();
+    when(usersService.getUsersByIds(anyList()))
+      .thenReturn(Map.of(USER_ID_1, userList.get(0), USER_ID_2, userList.get(1)));
 
     AuthorityDataStat authorityDataStat1 = statData.get(0);
     AuthorityDataStat authorityDataStat2 = statData.get(1);
-    var userList = users.getResult();
     when(mapper.convertToDto(authorityDataStat1))
       .thenReturn(TestDataUtils.getStatDataDto(authorityDataStat1, userList.get(0)));
     when(mapper.convertToDto(authorityDataStat2))
@@ -96,7 +99,7 @@ class InstanceAuthorityStatServiceDelegateTest {
     //  WHEN
     when(sourceFileRepository.findById(any(UUID.class))).thenReturn(Optional.of(sourceFile));
     var authorityChangeStatDtoCollection = delegate
-      .fetchAuthorityLinksStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, LIMIT_SIZE);
+      .fetchAuthorityLinksStats(FROM_DATE, TO_DATE, null, DATA_STAT_ACTION, LIMIT_SIZE);
 
     //  THEN
     assertNotNull(authorityChangeStatDtoCollection);
@@ -134,14 +137,31 @@ class InstanceAuthorityStatServiceDelegateTest {
     assertThat(List.of(USER_ID_1, USER_ID_2)).containsAll(resultUserIds);
   }
 
+  @Test
+  void fetchStats_withNext() {
+    //  WHEN
+    var nextStat = TestDataUtils.authorityDataStat(USER_ID_1, TEST_ID, AuthorityDataStatAction.UPDATE_HEADING);
+    var statDataWithNext = List.of(statData.get(0), statData.get(1), nextStat);
+    when(statService.fetchDataStats(FROM_DATE, TO_DATE, null, DATA_STAT_ACTION, 3)).thenReturn(statDataWithNext);
+    when(sourceFileRepository.findById(any(UUID.class))).thenReturn(Optional.of(sourceFile));
+
+    var authorityChangeStatDtoCollection = delegate
+      .fetchAuthorityLinksStats(FROM_DATE, TO_DATE, null, DATA_STAT_ACTION, LIMIT_SIZE);
+
+    //  THEN
+    assertEquals(LIMIT_SIZE, authorityChangeStatDtoCollection.getStats().size());
+    assertEquals(DateUtils.fromTimestamp(nextStat.getStartedAt()), authorityChangeStatDtoCollection.getNext());
+    assertEquals(nextStat.getId(), authorityChangeStatDtoCollection.getNextId());
+  }
+
   @Test
   void fetchStats_whenUpdatedUserIsNull() {
     //  WHEN
     when(sourceFileRepository.findById(any(UUID.class))).thenReturn(Optional.of(sourceFile));
-    when(usersClient.query(anyString())).thenReturn(ResultList.of(0, null));
+    when(usersService.getUsersByIds(anyList())).thenReturn(Map.of());
 
     var authorityChangeStatDtoCollection = delegate
-      .fetchAuthorityLinksStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, LIMIT_SIZE);
+      .fetchAuthorityLinksStats(FROM_DATE, TO_DATE, null, DATA_STAT_ACTION, LIMIT_SIZE);
 
     //  THEN
     assertNotNull(authorityChangeStatDtoCollection);
@@ -177,7 +197,7 @@ class InstanceAuthorityStatServiceDelegateTest {
     when(sourceFileRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
 
     var authorityChangeStatDtoCollection = delegate
-      .fetchAuthorityLinksStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, LIMIT_SIZE);
+      .fetchAuthorityLinksStats(FROM_DATE, TO_DATE, null, DATA_STAT_ACTION, LIMIT_SIZE);
 
     //  THEN
     assertNotNull(authorityChangeStatDtoCollection);
@@ -197,10 +217,10 @@ class InstanceAuthorityStatServiceDelegateTest {
   @Test
   void fetchStats_withoutMetadata() {
     //  WHEN
-    when(usersClient.query(anyString())).thenReturn(null);
+    when(usersService.getUsersByIds(anyList())).thenReturn(Map.of());
 
     var authorityChangeStatDtoCollection = delegate
-      .fetchAuthorityLinksStats(FROM_DATE, TO_DATE, DATA_STAT_ACTION, LIMIT_SIZE);
+      .fetchAuthorityLinksStats(FROM_DATE, TO_DATE, null, DATA_STAT_ACTION, LIMIT_SIZE);
 
     //  THEN
     assertNotNull(authorityChangeStatDtoCollection);
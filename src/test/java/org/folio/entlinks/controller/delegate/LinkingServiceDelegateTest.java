@@ -1,5 +1,6 @@
 package org.folio.entlinks.controller.delegate;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -20,6 +21,7 @@ import static org.mockito.Mockito.when;
 import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -28,11 +30,15 @@ import org.apache.commons.lang3.RandomStringUtils;
 import org.folio.entlinks.controller.converter.DataStatsMapper;
 import org.folio.entlinks.controller.converter.InstanceAuthorityLinkMapper;
 import org.folio.entlinks.domain.dto.BibStatsDtoCollection;
+import org.folio.entlinks.domain.dto.InstanceLinkDto;
 import org.folio.entlinks.domain.dto.InstanceLinkDtoCollection;
+import org.folio.entlinks.domain.dto.InstanceLinksGroupDto;
 import org.folio.entlinks.domain.dto.LinkStatus;
 import org.folio.entlinks.domain.dto.LinksCountDto;
 import org.folio.entlinks.domain.dto.UuidCollection;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
+import org.folio.entlinks.domain.entity.projection.InstanceLinkView;
 import org.folio.entlinks.exception.RequestBodyValidationException;
 import org.folio.entlinks.integration.internal.InstanceStorageService;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumAuthorityPropagationService;
@@ -102,9 +108,10 @@ class LinkingServiceDelegateTest {
       .toList();
     var instanceTitles = instanceIds.stream()
       .collect(Collectors.toMap(id -> id, id -> RandomStringUtils.randomAlphanumeric(5)));
-    var nextLinkTime = fromTimestamp(linksMock.get(linksMock.size() - 1).getUpdatedAt());
+    var nextLink = linksMock.get(linksMock.size() - 1);
 
-    testGetLinkedBibUpdateStats_positive(linksMock, linksForStats, instanceIds, instanceTitles, nextLinkTime);
+    testGetLinkedBibUpdateStats_positive(linksMock, linksForStats, instanceIds, instanceTitles,
+      fromTimestamp(nextLink.getUpdatedAt()), nextLink.getId());
   }
 
   @Test
@@ -117,7 +124,7 @@ class LinkingServiceDelegateTest {
     var instanceTitles = instanceIds.stream()
       .collect(Collectors.toMap(id -> id, id -> RandomStringUtils.randomAlphanumeric(5)));
 
-    testGetLinkedBibUpdateStats_positive(linksMock, linksMock, instanceIds, instanceTitles, null);
+    testGetLinkedBibUpdateStats_positive(linksMock, linksMock, instanceIds, instanceTitles, null, null);
   }
 
   @Test
@@ -129,7 +136,7 @@ class LinkingServiceDelegateTest {
     var instanceTitles = Map.of(instanceId.toString(), instanceTitle);
 
     testGetLinkedBibUpdateStats_positive(linksMock, linksMock,
-      singletonList(instanceId.toString()), instanceTitles, null);
+      singletonList(instanceId.toString()), instanceTitles, null, null);
   }
 
   @Test
@@ -141,7 +148,7 @@ class LinkingServiceDelegateTest {
       .toList();
     var instanceTitles = Map.of(instanceIds.get(0), RandomStringUtils.randomAlphanumeric(5));
 
-    testGetLinkedBibUpdateStats_positive(linksMock, linksMock, instanceIds, instanceTitles, null);
+    testGetLinkedBibUpdateStats_positive(linksMock, linksMock, instanceIds, instanceTitles, null, null);
   }
 
   @Test
@@ -152,7 +159,7 @@ class LinkingServiceDelegateTest {
     var limit = 2;
 
     var exception = Assertions.assertThrows(RequestBodyValidationException.class,
-      () -> delegate.getLinkedBibUpdateStats(fromDate, toDate, status, limit));
+      () -> delegate.getLinkedBibUpdateStats(fromDate, toDate, null, status, limit));
 
     assertThat(exception)
       .hasMessage("'to' date should be not less than 'from' date.")
@@ -235,18 +242,39 @@ class LinkingServiceDelegateTest {
       .containsExactlyInAnyOrder(tuple(ids.get(0), 2), tuple(ids.get(1), 1), tuple(ids.get(2), 0));
   }
 
+  @Test
+  void getLinksByInstanceIds_positive() {
+    var ids = List.of(randomUUID(), randomUUID());
+    var linkView = new InstanceLinkView(1L, ids.get(1), randomUUID(), "naturalId", 1,
+      InstanceAuthorityLinkStatus.ACTUAL, null);
+    var linkDto = new InstanceLinkDto().id(1).instanceId(ids.get(1));
+
+    when(linkingService.getLinksByInstanceIds(new LinkedHashSet<>(ids)))
+      .thenReturn(Map.of(ids.get(1), List.of(linkView)));
+    when(mapper.convertToDto(linkView)).thenReturn(linkDto);
+    when(mapper.convertToGroupDto(anyMap())).thenCallRealMethod();
+
+    var actual = delegate.getLinks(new UuidCollection().ids(ids));
+
+    assertThat(actual.getTotalRecords()).isEqualTo(ids.size());
+    assertThat(actual.getInstances())
+      .extracting(InstanceLinksGroupDto::getInstanceId, InstanceLinksGroupDto::getLinks)
+      .containsExactly(tuple(ids.get(0), emptyList()), tuple(ids.get(1), List.of(linkDto)));
+  }
+
   private void testGetLinkedBibUpdateStats_positive(List<InstanceAuthorityLink> linksMock,
                                                     List<InstanceAuthorityLink> linksForStats,
                                                     List<String> instanceIds,
                                                     Map<String, String> instanceTitles,
-                                                    OffsetDateTime next) {
+                                                    OffsetDateTime next, Long nextId) {
     var status = LinkStatus.ACTUAL;
     var fromDate = OffsetDateTime.now();
     var toDate = fromDate.plus(1, ChronoUnit.DAYS);
+    var toId = 10L;
     var limit = 2;
     var expectedStats = stats(linksForStats);
 
-    when(linkingService.getLinks(status, fromDate, toDate, limit + 1))
+    when(linkingService.getLinks(status, fromDate, toDate, toId, limit + 1))
       .thenReturn(linksMock);
     when(statsMapper.convertToDto(linksForStats))
       .thenReturn(expectedStats);
@@ -258,11 +286,12 @@ class LinkingServiceDelegateTest {
       bibStatsDto.setInstanceTitle(instanceTitles.get(instanceId.toString()));
     });
 
-    var actual = delegate.getLinkedBibUpdateStats(fromDate, toDate, status, limit);
+    var actual = delegate.getLinkedBibUpdateStats(fromDate, toDate, toId, status, limit);
 
     assertThat(actual)
       .isEqualTo(new BibStatsDtoCollection()
         .stats(expectedStats)
-        .next(next));
+        .next(next)
+        .nextId(nextId));
   }
 }
@@ -32,6 +32,7 @@ import org.folio.entlinks.domain.repository.AuthorityRepository;
 import org.folio.entlinks.service.consortium.ConsortiumTenantExecutor;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingRulesService;
 import org.folio.entlinks.service.links.LinksSuggestionService;
+import org.folio.entlinks.service.links.model.LinkingRuleIndex;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -73,7 +74,7 @@ class LinksSuggestionsServiceDelegateTest {
 
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(Set.of(NATURAL_ID)))
         .thenReturn(List.of(authority1, authority2));
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(rules));
     when(linkingRulesService.getMinAuthorityField()).thenReturn(MIN_AUTHORITY_FIELD);
     when(linkingRulesService.getMaxAuthorityField()).thenReturn(MAX_AUTHORITY_FIELD);
     when(sourceStorageClient
@@ -101,7 +102,7 @@ class LinksSuggestionsServiceDelegateTest {
     var fetchRequest = getBatchFetchRequestForAuthority(AUTHORITY_ID);
     var rules = List.of(getRule("100"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(rules));
     when(linkingRulesService.getMinAuthorityField()).thenReturn(MIN_AUTHORITY_FIELD);
     when(linkingRulesService.getMaxAuthorityField()).thenReturn(MAX_AUTHORITY_FIELD);
 
@@ -132,7 +133,7 @@ class LinksSuggestionsServiceDelegateTest {
     var fetchRequest = getBatchFetchRequestForAuthority(AUTHORITY_ID);
     var rules = List.of(getRule("100"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(rules));
     when(linkingRulesService.getMinAuthorityField()).thenReturn(MIN_AUTHORITY_FIELD);
     when(linkingRulesService.getMaxAuthorityField()).thenReturn(MAX_AUTHORITY_FIELD);
 
@@ -157,7 +158,7 @@ class LinksSuggestionsServiceDelegateTest {
     var record = new ParsedRecordContent(emptyList(), "record without naturalId");
     var rules = List.of(getRule("110"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(rules));
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(emptySet())).thenReturn(emptyList());
 
     var parsedContentCollection = new ParsedRecordContentCollection().records(List.of(record));
@@ -172,7 +173,7 @@ class LinksSuggestionsServiceDelegateTest {
     var records = List.of(getRecord("100"));
     var rules = List.of(getRule("110"));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(rules));
 
     var parsedContentCollection = new ParsedRecordContentCollection().records(records);
     serviceDelegate.suggestLinksForMarcRecords(parsedContentCollection, false);
@@ -186,7 +187,7 @@ class LinksSuggestionsServiceDelegateTest {
     var record = getRecord("100", Map.of("0", "test"));
     var rules = List.of(getRule("100", false));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(rules);
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(rules));
     when(authorityRepository.findByNaturalIdInAndDeletedFalse(emptySet())).thenReturn(emptyList());
 
     var parsedContentCollection = new ParsedRecordContentCollection().records(List.of(record));
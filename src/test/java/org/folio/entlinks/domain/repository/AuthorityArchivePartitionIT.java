@@ -0,0 +1,237 @@
+package org.folio.entlinks.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.support.DatabaseHelper.AUTHORITY_ARCHIVE_TABLE;
+import static org.folio.support.TestDataUtils.AuthorityTestData.authority;
+import static org.folio.support.TestDataUtils.AuthorityTestData.authorityArchive;
+import static org.folio.support.TestDataUtils.AuthorityTestData.authoritySourceFile;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+
+import java.sql.DriverManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import lombok.SneakyThrows;
+import org.folio.entlinks.domain.entity.AuthorityArchive;
+import org.folio.entlinks.domain.entity.projection.AuthorityIdDto;
+import org.folio.entlinks.service.authority.AuthorityArchiveService;
+import org.folio.entlinks.service.authority.AuthorityService;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.spring.testing.extension.DatabaseCleanup;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.folio.support.DatabaseHelper;
+import org.folio.support.base.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+@DatabaseCleanup(tables = {
+  DatabaseHelper.AUTHORITY_ARCHIVE_TABLE,
+  DatabaseHelper.AUTHORITY_TABLE,
+  DatabaseHelper.AUTHORITY_SOURCE_FILE_CODE_TABLE,
+  DatabaseHelper.AUTHORITY_SOURCE_FILE_TABLE})
+class AuthorityArchivePartitionIT extends IntegrationTestBase {
+
+  private static final String UPGRADE_TENANT_ID = "archive_upgrade";
+  private static final String CHANGELOG = "db/changelog/changelog-master.xml";
+  private static final String PARTITION_FUNCTIONS_CHANGESET = "MODELINKS@@add-authority_archive-partition-functions";
+  private static final String DEFAULT_PARTITION = "authority_archive_default";
+  private static final DateTimeFormatter PARTITION_MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+  @Autowired
+  private AuthorityArchiveService archiveService;
+  @Autowired
+  private AuthorityArchiveRepository archiveRepository;
+  @Autowired
+  private AuthorityService authorityService;
+  @Autowired
+  private FolioModuleMetadata moduleMetadata;
+  @Autowired
+  private DataSourceProperties dataSourceProperties;
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeAll
+  static void prepare() {
+    setUpTenant();
+  }
+
+  @BeforeEach
+  void setup() {
+    databaseHelper.saveAuthoritySourceFile(TENANT_ID, authoritySourceFile(0));
+  }
+
+  @Test
+  void upgrade_positive_partitionExistingArchives() {
+    var schema = moduleMetadata.getDBSchemaName(UPGRADE_TENANT_ID);
+    var expired = archive(0, LocalDateTime.now().minusMonths(14));
+    var actual = archive(1, LocalDateTime.now());
+    jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE; CREATE SCHEMA " + schema);
+    try {
+      upgradeSchema(schema, () -> {
+        databaseHelper.saveAuthorityArchive(UPGRADE_TENANT_ID, expired);
+        databaseHelper.saveAuthorityArchive(UPGRADE_TENANT_ID, actual);
+      });
+
+      assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM pg_partitioned_table WHERE partrelid = "
+        + "to_regclass(?)", Integer.class, schema + "." + AUTHORITY_ARCHIVE_TABLE)).isEqualTo(1);
+      assertThat(partitionOf(UPGRADE_TENANT_ID, expired.getId())).isEqualTo(partition(expired));
+      assertThat(partitionOf(UPGRADE_TENANT_ID, actual.getId())).isEqualTo(partition(actual));
+      assertThat(databaseHelper.countRows(AUTHORITY_ARCHIVE_TABLE, UPGRADE_TENANT_ID)).isEqualTo(2);
+    } finally {
+      jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+    }
+  }
+
+  @Test
+  void createPartitions_positive_moveArchivesFromDefaultPartition() {
+    var archive = archive(0, LocalDateTime.now().plusYears(2));
+    databaseHelper.saveAuthorityArchive(TENANT_ID, archive);
+    assertThat(partitionOf(TENANT_ID, archive.getId())).isEqualTo(DEFAULT_PARTITION);
+
+    inTenant(() -> {
+      archiveService.createPartitions(24);
+      return null;
+    });
+
+    assertThat(partitionOf(TENANT_ID, archive.getId())).isEqualTo(partition(archive));
+    assertThat(databaseHelper.countRows(DEFAULT_PARTITION, TENANT_ID)).isZero();
+  }
+
+  @Test
+  void deleteExpired_positive_detachDrainAndDropExpiredPartitions() {
+    var expiredDate = LocalDateTime.now().minusMonths(14);
+    inTenant(() -> new TransactionTemplate(transactionManager)
+      .execute(status -> archiveRepository.createPartitions(expiredDate, 0)));
+    var expired = archive(0, expiredDate);
+    var actual = archive(1, LocalDateTime.now());
+    databaseHelper.saveAuthorityArchive(TENANT_ID, expired);
+    databaseHelper.saveAuthorityArchive(TENANT_ID, actual);
+    var detachedPartition = partition(expired).replace("authority_archive_p", "authority_archive_expired_p");
+    var tillDate = LocalDateTime.now().minusDays(7);
+
+    inTenant(() -> {
+      archiveService.detachExpiredPartitions(tillDate);
+      return null;
+    });
+
+    assertThat(inTenant(archiveRepository::findDetachedPartitions)).contains(detachedPartition);
+    assertThat(databaseHelper.countRows(detachedPartition, TENANT_ID)).isEqualTo(1);
+
+    var deleted = inTenant(() -> deleteAllExpired(tillDate));
+
+    assertThat(deleted).extracting(AuthorityArchive::getId).containsExactly(expired.getId());
+    assertThat(inTenant(archiveRepository::findDetachedPartitions)).isEmpty();
+    assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class,
+      databaseHelper.getDbPath(TENANT_ID, detachedPartition))).isNull();
+    assertThat(partitionOf(TENANT_ID, actual.getId())).isEqualTo(partition(actual));
+  }
+
+  @Test
+  void deleteById_positive_archiveSoftDeletedAuthorityAndFindItByCql() {
+    var authority = authority(0, 0);
+    databaseHelper.saveAuthority(TENANT_ID, authority);
+
+    inTenant(() -> {
+      authorityService.deleteById(authority.getId());
+      return null;
+    });
+
+    var query = "naturalId=" + authority.getNaturalId();
+    var archives = inTenant(() -> archiveService.findAll(0, 10, query).getContent());
+    assertThat(archives).extracting(AuthorityArchive::getId).containsExactly(authority.getId());
+    assertThat(partitionOf(TENANT_ID, authority.getId())).isEqualTo(partition(archives.get(0)));
+    assertThat(inTenant(() -> archiveService.findAllIds(0, 10, query).getContent()))
+      .extracting(AuthorityIdDto::id)
+      .containsExactly(authority.getId());
+  }
+
+  @Test
+  void deleteById_positive_replacePreviousArchiveOfAuthority() {
+    var authority = authority(0, 0);
+    databaseHelper.saveAuthority(TENANT_ID, authority);
+    databaseHelper.saveAuthorityArchive(TENANT_ID, archive(0, LocalDateTime.now().minusMonths(2)));
+
+    inTenant(() -> {
+      authorityService.deleteById(authority.getId());
+      return null;
+    });
+
+    var archives = inTenant(() -> archiveService.findAll(0, 10, "naturalId=" + authority.getNaturalId()).getContent());
+    assertThat(archives).extracting(AuthorityArchive::getId).containsExactly(authority.getId());
+    assertThat(partitionOf(TENANT_ID, authority.getId())).isEqualTo(partition(archives.get(0)));
+  }
+
+  @SneakyThrows
+  private void upgradeSchema(String schema, Runnable beforePartitioning) {
+    var connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+      dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    var database = DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
+    database.setDefaultSchemaName(schema);
+    try (var liquibase = new Liquibase(CHANGELOG, new ClassLoaderResourceAccessor(), database)) {
+      var changeSets = liquibase.getDatabaseChangeLog().getChangeSets();
+      var changeSetsBeforePartitioning = 0;
+      while (!changeSets.get(changeSetsBeforePartitioning).getId().equals(PARTITION_FUNCTIONS_CHANGESET)) {
+        changeSetsBeforePartitioning++;
+      }
+      liquibase.update(changeSetsBeforePartitioning, new Contexts(), new LabelExpression());
+      beforePartitioning.run();
+      liquibase.update(new Contexts(), new LabelExpression());
+    }
+  }
+
+  private List<AuthorityArchive> deleteAllExpired(LocalDateTime tillDate) {
+    var deleted = new ArrayList<AuthorityArchive>();
+    List<AuthorityArchive> chunk;
+    do {
+      chunk = archiveService.deleteExpired(tillDate, 10);
+      deleted.addAll(chunk);
+    } while (!chunk.isEmpty());
+    return deleted;
+  }
+
+  private String partitionOf(String tenantId, UUID archiveId) {
+    return jdbcTemplate.queryForObject("SELECT c.relname FROM " + databaseHelper.getDbPath(tenantId,
+      AUTHORITY_ARCHIVE_TABLE) + " a JOIN pg_class c ON c.oid = a.tableoid WHERE a.id = ?", String.class, archiveId);
+  }
+
+  private static String partition(AuthorityArchive archive) {
+    return "authority_archive_p" + archive.getUpdatedDate().toLocalDateTime().format(PARTITION_MONTH_FORMAT);
+  }
+
+  private static AuthorityArchive archive(int authorityIdNum, LocalDateTime updatedDate) {
+    var archive = authorityArchive(authorityIdNum, 0);
+    archive.setAuthoritySourceFile(null);
+    archive.setUpdatedDate(Timestamp.valueOf(updatedDate));
+    return archive;
+  }
+
+  private <T> T inTenant(Supplier<T> action) {
+    Map<String, Collection<String>> headers = Map.of(XOkapiHeaders.TENANT, List.of(TENANT_ID));
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, headers)) {
+      return action.get();
+    }
+  }
+}
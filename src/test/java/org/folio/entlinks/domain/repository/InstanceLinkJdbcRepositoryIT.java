@@ -0,0 +1,139 @@
+package org.folio.entlinks.domain.repository;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.support.TestDataUtils.AUTHORITY_IDS;
+import static org.folio.support.TestDataUtils.AuthorityTestData.authority;
+import static org.folio.support.TestDataUtils.AuthorityTestData.authoritySourceFile;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.extern.log4j.Log4j2;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.spring.testing.extension.DatabaseCleanup;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.folio.support.DatabaseHelper;
+import org.folio.support.TestDataUtils.Link;
+import org.folio.support.base.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Log4j2
+@IntegrationTest
+@DatabaseCleanup(tables = {
+  DatabaseHelper.INSTANCE_AUTHORITY_LINK_TABLE,
+  DatabaseHelper.AUTHORITY_LINK_COUNT_TABLE,
+  DatabaseHelper.AUTHORITY_TABLE,
+  DatabaseHelper.AUTHORITY_SOURCE_FILE_CODE_TABLE,
+  DatabaseHelper.AUTHORITY_SOURCE_FILE_TABLE})
+class InstanceLinkJdbcRepositoryIT extends IntegrationTestBase {
+
+  private static final int LINKS_COUNT = 5000;
+
+  @Autowired
+  private InstanceLinkRepository repository;
+  @Autowired
+  private FolioModuleMetadata moduleMetadata;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeAll
+  static void prepare() {
+    setUpTenant();
+  }
+
+  @BeforeEach
+  void setup() {
+    setUpTenant();
+    databaseHelper.saveAuthoritySourceFile(TENANT_ID, authoritySourceFile(0));
+    for (int i = 0; i < AUTHORITY_IDS.length; i++) {
+      databaseHelper.saveAuthority(TENANT_ID, authority(i, 0));
+    }
+  }
+
+  @Test
+  void upsertAll_positive_insertsOnlyMissingLinks() {
+    var links = links();
+
+    var inserted = inTenant(() -> repository.upsertAll(links));
+    var insertedAgain = inTenant(() -> repository.upsertAll(links));
+
+    assertThat(inserted).isEqualTo(LINKS_COUNT);
+    assertThat(insertedAgain).isZero();
+    assertThat(databaseHelper.countRows(DatabaseHelper.INSTANCE_AUTHORITY_LINK_TABLE, TENANT_ID))
+      .isEqualTo(LINKS_COUNT);
+    var saved = inTenant(() -> repository.findByInstanceId(links.get(0).getInstanceId()));
+    assertThat(saved).singleElement()
+      .satisfies(link -> assertThat(link.isSameLink(links.get(0))).isTrue())
+      .satisfies(link -> assertThat(link.getStatus()).isEqualTo(links.get(0).getStatus()));
+  }
+
+  @Test
+  void deleteByInstanceIdExcept_positive_deletesOnlyNotGivenLinks() {
+    var instanceId = randomUUID();
+    var links = List.of(Link.of(0, 0).toEntity(instanceId), Link.of(1, 1).toEntity(instanceId),
+      Link.of(2, 2).toEntity(instanceId));
+    inTenant(() -> repository.upsertAll(links));
+
+    var deleted = inTenant(() -> repository.deleteByInstanceIdExcept(instanceId, links.subList(0, 1)));
+
+    assertThat(deleted).isEqualTo(2);
+    var saved = inTenant(() -> repository.findByInstanceId(instanceId));
+    assertThat(saved).singleElement()
+      .satisfies(link -> assertThat(link.isSameLink(links.get(0))).isTrue());
+  }
+
+  /**
+   * Compares throughput of inserting new links with {@code saveAll} and with {@code upsertAll}.
+   * Not run by default, enabled with {@code -Dlinks-insert-benchmark=true}.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "links-insert-benchmark", matches = "true")
+  void upsertAll_benchmark_comparedToSaveAll() {
+    var saveAllRate = measure(repository::saveAll);
+    databaseHelper.deleteFromTable(DatabaseHelper.INSTANCE_AUTHORITY_LINK_TABLE, TENANT_ID);
+    var upsertAllRate = measure(repository::upsertAll);
+
+    log.info("Links insert throughput [saveAll: {} links/s, upsertAll: {} links/s]", saveAllRate, upsertAllRate);
+    assertThat(databaseHelper.countRows(DatabaseHelper.INSTANCE_AUTHORITY_LINK_TABLE, TENANT_ID))
+      .isEqualTo(LINKS_COUNT);
+  }
+
+  private long measure(Consumer<List<InstanceAuthorityLink>> writer) {
+    var links = links();
+    var transactionTemplate = new TransactionTemplate(transactionManager);
+    var start = System.nanoTime();
+    inTenant(() -> transactionTemplate.execute(status -> {
+      writer.accept(links);
+      return null;
+    }));
+    var nanos = System.nanoTime() - start;
+    return LINKS_COUNT * 1_000_000_000L / nanos;
+  }
+
+  private <T> T inTenant(Supplier<T> action) {
+    Map<String, Collection<String>> headers = Map.of(XOkapiHeaders.TENANT, List.of(TENANT_ID));
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, headers)) {
+      return action.get();
+    }
+  }
+
+  private List<InstanceAuthorityLink> links() {
+    return IntStream.range(0, LINKS_COUNT)
+      .mapToObj(i -> Link.of(i % AUTHORITY_IDS.length, i % Link.TAGS.length).toEntity(randomUUID()))
+      .toList();
+  }
+}
@@ -0,0 +1,139 @@
+package org.folio.entlinks.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entlinks.integration.CachedSettingsService.SETTINGS_CACHE;
+import static org.folio.entlinks.integration.SettingsService.AUTHORITIES_EXPIRE_SETTING_KEY;
+import static org.folio.entlinks.integration.SettingsService.AUTHORITIES_EXPIRE_SETTING_SCOPE;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.folio.entlinks.client.SettingsClient;
+import org.folio.entlinks.client.SettingsClient.AuthoritiesExpirationSettingValue;
+import org.folio.entlinks.config.cache.TenantCacheFactory;
+import org.folio.entlinks.config.properties.CacheSpecProperties;
+import org.folio.entlinks.config.properties.SettingsCacheProperties;
+import org.folio.entlinks.exception.FolioIntegrationException;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class CachedSettingsServiceTest {
+
+  private static final AuthoritiesExpirationSettingValue SETTING_VALUE = new AuthoritiesExpirationSettingValue(true, 3);
+  private static final AuthoritiesExpirationSettingValue UPDATED_VALUE = new AuthoritiesExpirationSettingValue(true, 5);
+
+  private final AtomicLong time = new AtomicLong();
+  private final List<Runnable> refreshes = new ArrayList<>();
+  private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+  private final SettingsCacheProperties properties = new SettingsCacheProperties();
+  private final CacheSpecProperties cacheSpecProperties = new CacheSpecProperties();
+
+  private @Mock SettingsService settingsService;
+  private @Mock FolioExecutionContext context;
+
+  private CachedSettingsService service;
+
+  @BeforeEach
+  void setUp() {
+    var spec = new CacheSpecProperties.CacheSpec();
+    spec.setRefreshAfter(Duration.ofMinutes(5));
+    spec.setTtl(Duration.ofHours(1));
+    cacheSpecProperties.setSpecs(Map.of(SETTINGS_CACHE, spec));
+    properties.setFailureTtl(Duration.ofMinutes(1));
+    var cacheFactory = new TenantCacheFactory(cacheSpecProperties, context, cacheManager, new SimpleMeterRegistry(),
+      time::get, refreshes::add);
+    service = new CachedSettingsService(settingsService, context, properties, cacheFactory);
+    lenient().when(context.getTenantId()).thenReturn(TENANT_ID);
+  }
+
+  @Test
+  void getAuthoritiesExpirationSetting_positive_cacheSetting() {
+    when(settingsService.getAuthorityExpireSetting()).thenReturn(setting(SETTING_VALUE));
+
+    assertThat(service.getAuthoritiesExpirationSetting()).contains(SETTING_VALUE);
+    assertThat(service.getAuthoritiesExpirationSetting()).contains(SETTING_VALUE);
+
+    verify(settingsService).getAuthorityExpireSetting();
+    assertThat(cacheManager.getCacheNames()).contains(SETTINGS_CACHE);
+  }
+
+  @Test
+  void getAuthoritiesExpirationSetting_positive_returnStaleValueWhileRefreshing() {
+    when(settingsService.getAuthorityExpireSetting())
+      .thenReturn(setting(SETTING_VALUE))
+      .thenReturn(setting(UPDATED_VALUE));
+
+    service.getAuthoritiesExpirationSetting();
+    time.addAndGet(Duration.ofMinutes(6).toNanos());
+
+    assertThat(service.getAuthoritiesExpirationSetting()).contains(SETTING_VALUE);
+    refreshes.forEach(Runnable::run);
+    assertThat(service.getAuthoritiesExpirationSetting()).contains(UPDATED_VALUE);
+    verify(settingsService, times(2)).getAuthorityExpireSetting();
+  }
+
+  @Test
+  void getAuthoritiesExpirationSetting_positive_returnLastKnownValueWhenFetchFailed() {
+    when(settingsService.getAuthorityExpireSetting())
+      .thenReturn(setting(SETTING_VALUE))
+      .thenThrow(new FolioIntegrationException("Failed to fetch settings"));
+
+    service.getAuthoritiesExpirationSetting();
+    time.addAndGet(Duration.ofHours(2).toNanos());
+
+    assertThat(service.getAuthoritiesExpirationSetting()).contains(SETTING_VALUE);
+    assertThat(service.getAuthoritiesExpirationSetting()).contains(SETTING_VALUE);
+    verify(settingsService, times(2)).getAuthorityExpireSetting();
+  }
+
+  @Test
+  void getAuthoritiesExpirationSetting_negative_cacheFailureForFailureTtl() {
+    when(settingsService.getAuthorityExpireSetting())
+      .thenThrow(new FolioIntegrationException("Failed to fetch settings"))
+      .thenReturn(setting(SETTING_VALUE));
+
+    assertThat(service.getAuthoritiesExpirationSetting()).isEmpty();
+    assertThat(service.getAuthoritiesExpirationSetting()).isEmpty();
+    verify(settingsService).getAuthorityExpireSetting();
+
+    time.addAndGet(Duration.ofMinutes(2).toNanos());
+
+    assertThat(service.getAuthoritiesExpirationSetting()).contains(SETTING_VALUE);
+    verify(settingsService, times(2)).getAuthorityExpireSetting();
+  }
+
+  @Test
+  void invalidate_positive_fetchSettingAgain() {
+    when(settingsService.getAuthorityExpireSetting())
+      .thenReturn(setting(SETTING_VALUE))
+      .thenReturn(Optional.empty());
+
+    service.getAuthoritiesExpirationSetting();
+    service.invalidate(TENANT_ID);
+
+    assertThat(service.getAuthoritiesExpirationSetting()).isEmpty();
+  }
+
+  private static Optional<SettingsClient.SettingEntry> setting(AuthoritiesExpirationSettingValue value) {
+    return Optional.of(new SettingsClient.SettingEntry(UUID.randomUUID(), AUTHORITIES_EXPIRE_SETTING_SCOPE,
+      AUTHORITIES_EXPIRE_SETTING_KEY, value));
+  }
+}
@@ -4,9 +4,13 @@ import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
+import static org.folio.entlinks.config.constants.CacheNames.INSTANCE_TITLES_CACHE;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -16,13 +20,15 @@ import org.folio.entlinks.client.InstanceStorageClient.InventoryInstanceDto;
 import org.folio.entlinks.client.InstanceStorageClient.InventoryInstanceDtoCollection;
 import org.folio.entlinks.config.properties.InstanceStorageProperties;
 import org.folio.entlinks.exception.FolioIntegrationException;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -30,11 +36,15 @@ class InstanceStorageServiceTest {
 
   private @Mock InstanceStorageClient client;
   private @Mock InstanceStorageProperties instanceStorageProperties;
-  private @InjectMocks InstanceStorageService service;
+  private @Mock FolioExecutionContext context;
+  private InstanceStorageService service;
 
   @BeforeEach
   public void setUp() {
-    when(instanceStorageProperties.getBatchSize()).thenReturn(2);
+    service = new InstanceStorageService(instanceStorageProperties, client,
+      new ConcurrentMapCacheManager(INSTANCE_TITLES_CACHE), context, new SyncTaskExecutor());
+    lenient().when(instanceStorageProperties.getBatchSize()).thenReturn(2);
+    lenient().when(context.getTenantId()).thenReturn("tenant");
   }
 
   @Test
@@ -98,6 +108,53 @@ class InstanceStorageServiceTest {
       .contains(entry(e1.id(), e1.title()), entry(e2.id(), e2.title()), entry(e3.id(), e3.title()));
   }
 
+  @Test
+  void getInstanceTitles_positive_cachedTitles() {
+    var e1 = new InventoryInstanceDto(UUID.randomUUID().toString(), "title1");
+    var e2 = new InventoryInstanceDto(UUID.randomUUID().toString(), "title2");
+
+    when(client.getInstanceStorageInstances(anyString(), anyInt()))
+      .thenReturn(new InventoryInstanceDtoCollection(singletonList(e1)))
+      .thenReturn(new InventoryInstanceDtoCollection(singletonList(e2)));
+
+    service.getInstanceTitles(singletonList(e1.id()));
+    var actual = service.getInstanceTitles(List.of(e1.id(), e2.id()));
+
+    assertThat(actual)
+      .hasSize(2)
+      .contains(entry(e1.id(), e1.title()), entry(e2.id(), e2.title()));
+    verify(client).getInstanceStorageInstances(String.format("id==(%s)", e1.id()), 1);
+    verify(client).getInstanceStorageInstances(String.format("id==(%s)", e2.id()), 1);
+    verifyNoMoreInteractions(client);
+  }
+
+  @Test
+  void getInstanceTitles_positive_cacheIsTenantScoped() {
+    var e1 = new InventoryInstanceDto(UUID.randomUUID().toString(), "title1");
+
+    when(client.getInstanceStorageInstances(anyString(), anyInt()))
+      .thenReturn(new InventoryInstanceDtoCollection(singletonList(e1)));
+
+    service.getInstanceTitles(singletonList(e1.id()));
+    when(context.getTenantId()).thenReturn("otherTenant");
+    service.getInstanceTitles(singletonList(e1.id()));
+
+    verify(client, times(2)).getInstanceStorageInstances(String.format("id==(%s)", e1.id()), 1);
+  }
+
+  @Test
+  void getInstanceTitles_negative_clientExceptionInBatches() {
+    var cause = new IllegalArgumentException("test message");
+    when(client.getInstanceStorageInstances(anyString(), anyInt())).thenThrow(cause);
+
+    var instanceIds = List.of(UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+      UUID.randomUUID().toString());
+    assertThatThrownBy(() -> service.getInstanceTitles(instanceIds))
+      .isInstanceOf(FolioIntegrationException.class)
+      .hasCauseExactlyInstanceOf(cause.getClass())
+      .hasMessage("Failed to fetch instances");
+  }
+
   @Test
   void getInstanceTitles_negative_clientException() {
     var cause = new IllegalArgumentException("test message");
@@ -10,6 +10,7 @@ import java.util.Map;
 import org.folio.entlinks.client.MappingRulesClient;
 import org.folio.entlinks.client.MappingRulesClient.MappingRule;
 import org.folio.entlinks.exception.FolioIntegrationException;
+import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeField;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,25 +26,27 @@ class MappingRulesServiceTest {
   private @InjectMocks MappingRulesService service;
 
   @Test
-  void getFieldTargetsMappingRelations_positive() {
+  void getAuthorityMappingRules_positive() {
     when(client.fetchAuthorityMappingRules()).thenReturn(Map.of(
-      "100", List.of(new MappingRule("a1"), new MappingRule("a2")),
+      "100", List.of(new MappingRule("a1"), new MappingRule("personalName")),
       "101", List.of(new MappingRule("a3"))
     ));
 
-    var actual = service.getFieldTargetsMappingRelations();
+    var actual = service.getAuthorityMappingRules();
 
-    assertThat(actual)
+    assertThat(actual.fieldTargets())
       .hasSize(2)
-      .contains(entry("100", List.of("a1", "a2")), entry("101", List.of("a3")));
+      .contains(entry("100", List.of("a1", "personalName")), entry("101", List.of("a3")));
+    assertThat(actual.fieldTags())
+      .containsExactly(entry(AuthorityChangeField.PERSONAL_NAME, "100"));
   }
 
   @Test
-  void getFieldTargetsMappingRelations_negative_clientException() {
+  void getAuthorityMappingRules_negative_clientException() {
     var cause = new IllegalArgumentException("test");
     when(client.fetchAuthorityMappingRules()).thenThrow(cause);
 
-    assertThatThrownBy(() -> service.getFieldTargetsMappingRelations())
+    assertThatThrownBy(() -> service.getAuthorityMappingRules())
       .isInstanceOf(FolioIntegrationException.class)
       .hasCauseExactlyInstanceOf(cause.getClass())
       .hasMessage("Failed to fetch authority mapping rules");
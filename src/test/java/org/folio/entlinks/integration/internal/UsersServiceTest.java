@@ -0,0 +1,113 @@
+package org.folio.entlinks.integration.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.folio.entlinks.config.constants.CacheNames.USERS_CACHE;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.client.UsersClient;
+import org.folio.spring.model.ResultList;
+import org.folio.spring.testing.type.UnitTest;
+import org.folio.support.TestDataUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class UsersServiceTest {
+
+  private static final UUID USER_ID_1 = UUID.randomUUID();
+  private static final UUID USER_ID_2 = UUID.randomUUID();
+
+  private @Mock UsersClient usersClient;
+  private @Mock FolioExecutionContext context;
+
+  private UsersService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new UsersService(usersClient, new ConcurrentMapCacheManager(USERS_CACHE), context);
+    lenient().when(context.getTenantId()).thenReturn("tenant");
+  }
+
+  @Test
+  void getUsersByIds_positive_fetchMissingUsersInSingleQuery() {
+    var users = TestDataUtils.usersList(List.of(USER_ID_1, USER_ID_2));
+    when(usersClient.query(anyString())).thenReturn(users);
+
+    var actual = service.getUsersByIds(Arrays.asList(USER_ID_1, null, USER_ID_2, USER_ID_1));
+
+    assertThat(actual).containsOnly(entry(USER_ID_1, users.getResult().get(0)),
+      entry(USER_ID_2, users.getResult().get(1)));
+    verify(usersClient).query("id=(" + USER_ID_1 + " or " + USER_ID_2 + ")");
+  }
+
+  @Test
+  void getUsersByIds_positive_servedFromCache() {
+    var users = TestDataUtils.usersList(List.of(USER_ID_1, USER_ID_2));
+    when(usersClient.query(anyString())).thenReturn(users);
+    service.getUsersByIds(List.of(USER_ID_1, USER_ID_2));
+
+    var actual = service.getUsersByIds(List.of(USER_ID_2, USER_ID_1));
+
+    assertThat(actual).containsOnlyKeys(USER_ID_1, USER_ID_2);
+    verify(usersClient).query(anyString());
+    verifyNoMoreInteractions(usersClient);
+  }
+
+  @Test
+  void getUsersByIds_positive_queryOnlyMissingUsers() {
+    var users = TestDataUtils.usersList(List.of(USER_ID_1, USER_ID_2));
+    when(usersClient.query("id=(" + USER_ID_1 + ")")).thenReturn(ResultList.of(1, List.of(users.getResult().get(0))));
+    when(usersClient.query("id=(" + USER_ID_2 + ")")).thenReturn(ResultList.of(1, List.of(users.getResult().get(1))));
+    service.getUsersByIds(List.of(USER_ID_1));
+
+    var actual = service.getUsersByIds(List.of(USER_ID_1, USER_ID_2));
+
+    assertThat(actual).containsOnlyKeys(USER_ID_1, USER_ID_2);
+  }
+
+  @Test
+  void getUsersByIds_positive_notExistingUserIsCached() {
+    when(usersClient.query(anyString())).thenReturn(ResultList.empty());
+    service.getUsersByIds(List.of(USER_ID_1));
+
+    var actual = service.getUsersByIds(List.of(USER_ID_1));
+
+    assertThat(actual).isEmpty();
+    verify(usersClient).query(anyString());
+    verifyNoMoreInteractions(usersClient);
+  }
+
+  @Test
+  void getUsersByIds_positive_nullResponseIsNotCached() {
+    when(usersClient.query(anyString())).thenReturn(null);
+    service.getUsersByIds(List.of(USER_ID_1));
+
+    var actual = service.getUsersByIds(List.of(USER_ID_1));
+
+    assertThat(actual).isEmpty();
+    verify(usersClient, times(2)).query(anyString());
+  }
+
+  @Test
+  void getUsersByIds_positive_emptyIds() {
+    var actual = service.getUsersByIds(List.of());
+
+    assertThat(actual).isEmpty();
+    verifyNoMoreInteractions(usersClient);
+  }
+}
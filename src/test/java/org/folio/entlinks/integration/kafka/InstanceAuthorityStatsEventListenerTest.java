@@ -6,14 +6,18 @@ import static org.folio.support.MockingTestUtils.mockBatchFailedHandling;
 import static org.folio.support.MockingTestUtils.mockBatchSuccessHandling;
 import static org.folio.support.TestDataUtils.report;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import org.folio.entlinks.config.properties.InstanceAuthorityStatsProperties;
 import org.folio.entlinks.service.links.AuthorityDataStatService;
 import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.folio.spring.testing.type.UnitTest;
@@ -24,7 +28,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.support.Acknowledgment;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -36,19 +43,25 @@ class InstanceAuthorityStatsEventListenerTest {
   private AuthorityDataStatService dataStatService;
   @Mock
   private MessageBatchProcessor messageBatchProcessor;
+  @Mock
+  private Acknowledgment acknowledgment;
+  @Spy
+  private InstanceAuthorityStatsProperties statsProperties = new InstanceAuthorityStatsProperties();
 
   @InjectMocks
   private InstanceAuthorityStatsEventListener listener;
 
   @BeforeEach
   void setUp() {
-    when(executionService.executeSystemUserScoped(any(), any())).thenAnswer(invocation -> {
+    statsProperties.setMaxSize(1);
+    statsProperties.setMaxWait(Duration.ofMinutes(1));
+    lenient().when(executionService.executeSystemUserScoped(any(), any())).thenAnswer(invocation -> {
       var argument = invocation.getArgument(1, Callable.class);
       return argument.call();
     });
   }
 
-  // Test that multiple tenants processed in different batches and jobIds in different sub-batches
+  // Test that multiple tenants processed in different batches
   @Test
   void shouldHandleEvent_positive() {
     var tenant1 = randomAlphabetic(10);
@@ -65,17 +78,90 @@ class InstanceAuthorityStatsEventListenerTest {
 
     mockBatchSuccessHandling(messageBatchProcessor);
 
-    listener.handleEvents(consumerRecords);
+    listener.handleEvents(consumerRecords, acknowledgment);
 
     verify(messageBatchProcessor, times(2))
       .consumeBatchWithFallback(any(), any(), any(), any());
 
     verify(dataStatService)
-      .updateForReports(job1Id, singletonList(reports.get(0)));
-    verify(dataStatService)
-      .updateForReports(job2Id, singletonList(reports.get(1)));
+      .updateForReports(List.of(reports.get(0), reports.get(1)));
     verify(dataStatService)
-      .updateForReports(job1Id, List.of(reports.get(2), reports.get(3)));
+      .updateForReports(List.of(reports.get(2), reports.get(3)));
+    verify(acknowledgment).acknowledge();
+  }
+
+  @Test
+  void shouldCoalesceReportsAcrossPolls_untilMaxSizeReached() {
+    statsProperties.setMaxSize(3);
+    var tenant = randomAlphabetic(10);
+    var jobId = UUID.randomUUID();
+    var firstPoll = List.of(report(tenant, jobId), report(tenant, jobId));
+
+    mockBatchSuccessHandling(messageBatchProcessor);
+
+    listener.handleEvents(KafkaTestUtils.consumerRecords(firstPoll), acknowledgment);
+
+    verifyNoInteractions(dataStatService, acknowledgment);
+
+    var secondPoll = List.of(report(tenant, jobId));
+    var secondAcknowledgment = mock(Acknowledgment.class);
+    listener.handleEvents(KafkaTestUtils.consumerRecords(secondPoll), secondAcknowledgment);
+
+    verify(dataStatService).updateForReports(List.of(firstPoll.get(0), firstPoll.get(1), secondPoll.get(0)));
+    verify(acknowledgment).acknowledge();
+    verify(secondAcknowledgment).acknowledge();
+  }
+
+  @Test
+  void shouldFlushBufferedReports_whenMaxWaitExpired() {
+    statsProperties.setMaxSize(10);
+    statsProperties.setMaxWait(Duration.ZERO);
+    var reports = List.of(report(randomAlphabetic(10), UUID.randomUUID()));
+
+    mockBatchSuccessHandling(messageBatchProcessor);
+
+    listener.handleEvents(KafkaTestUtils.consumerRecords(reports), acknowledgment);
+
+    verify(dataStatService).updateForReports(reports);
+    verify(acknowledgment).acknowledge();
+  }
+
+  @Test
+  void shouldFlushBufferedReports_whenContainerIsIdle() {
+    statsProperties.setMaxSize(10);
+    var reports = List.of(report(randomAlphabetic(10), UUID.randomUUID()));
+
+    mockBatchSuccessHandling(messageBatchProcessor);
+
+    listener.handleEvents(KafkaTestUtils.consumerRecords(reports), acknowledgment);
+    verify(acknowledgment, never()).acknowledge();
+
+    listener.handleIdleEvent(mock(ListenerContainerIdleEvent.class));
+
+    verify(dataStatService).updateForReports(reports);
+    verify(acknowledgment).acknowledge();
+  }
+
+  @Test
+  void shouldFlushBufferedReports_whenPartitionsRevoked() {
+    statsProperties.setMaxSize(10);
+    var reports = List.of(report(randomAlphabetic(10), UUID.randomUUID()));
+
+    mockBatchSuccessHandling(messageBatchProcessor);
+
+    listener.handleEvents(KafkaTestUtils.consumerRecords(reports), acknowledgment);
+    listener.onPartitionsRevokedBeforeCommit(null, List.of());
+
+    verify(dataStatService).updateForReports(reports);
+    verify(acknowledgment).acknowledge();
+  }
+
+  @Test
+  void shouldNotFlush_whenBufferIsEmpty() {
+    listener.handleIdleEvent(mock(ListenerContainerIdleEvent.class));
+    listener.onPartitionsRevokedBeforeCommit(null, List.of());
+
+    verifyNoInteractions(executionService, messageBatchProcessor, dataStatService);
   }
 
   @Test
@@ -85,9 +171,10 @@ class InstanceAuthorityStatsEventListenerTest {
 
     mockBatchFailedHandling(messageBatchProcessor, new RuntimeException("test message"));
 
-    listener.handleEvents(consumerRecords);
+    listener.handleEvents(consumerRecords, acknowledgment);
 
     verifyNoInteractions(dataStatService);
+    verify(acknowledgment).acknowledge();
   }
 
 }
@@ -0,0 +1,90 @@
+package org.folio.entlinks.service.authority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class AuthorityArchiveExpireJobRunnerTest {
+
+  private static final UUID JOB_ID = UUID.randomUUID();
+
+  @Mock
+  private AuthorityArchiveExpireJobService jobService;
+
+  @Mock
+  private SystemUserScopedExecutionService executionService;
+
+  @InjectMocks
+  private AuthorityArchiveExpireJobRunner runner;
+
+  @Test
+  void expire_positive_expireChunksUntilNothingLeft() {
+    when(jobService.expireChunk(JOB_ID)).thenReturn(2, 1, 0);
+
+    var actual = runner.expire(JOB_ID, null, 0);
+
+    assertThat(actual).isEqualTo(3);
+    var inOrder = inOrder(jobService);
+    inOrder.verify(jobService, times(3)).expireChunk(JOB_ID);
+    inOrder.verify(jobService).completeJob(JOB_ID);
+    verify(jobService, never()).failJob(any(), any());
+  }
+
+  @Test
+  void expire_positive_limitChunksRate() {
+    when(jobService.expireChunk(JOB_ID)).thenReturn(2, 1, 0);
+
+    var startedAt = System.nanoTime();
+    runner.expire(JOB_ID, null, 50);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(40));
+    verify(jobService).completeJob(JOB_ID);
+  }
+
+  @Test
+  void expire_positive_pauseJobWhenTimeBudgetExhausted() {
+    var actual = runner.expire(JOB_ID, Duration.ZERO, 0);
+
+    assertThat(actual).isZero();
+    verify(jobService).pauseJob(JOB_ID);
+    verifyNoMoreInteractions(jobService);
+  }
+
+  @Test
+  void expire_negative_failJobWhenChunkFailed() {
+    var exception = new IllegalStateException("error");
+    when(jobService.expireChunk(JOB_ID)).thenReturn(2).thenThrow(exception);
+
+    var actual = runner.expire(JOB_ID, null, 0);
+
+    assertThat(actual).isEqualTo(2);
+    verify(jobService, times(2)).expireChunk(JOB_ID);
+    verify(jobService).failJob(JOB_ID, exception);
+    verify(jobService, never()).completeJob(any());
+  }
+
+  @Test
+  void run_positive_executeInTenantScope() {
+    runner.run("tenant", JOB_ID);
+
+    verify(executionService).executeSystemUserScoped(eq("tenant"), any());
+  }
+}
@@ -0,0 +1,329 @@
+package org.folio.entlinks.service.authority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.folio.entlinks.client.SettingsClient.AuthoritiesExpirationSettingValue;
+import static org.folio.entlinks.domain.entity.AuthorityArchiveExpireJobStatus.COMPLETED;
+import static org.folio.entlinks.domain.entity.AuthorityArchiveExpireJobStatus.FAILED;
+import static org.folio.entlinks.domain.entity.AuthorityArchiveExpireJobStatus.IN_PROGRESS;
+import static org.folio.entlinks.domain.entity.AuthorityArchiveExpireJobStatus.PAUSED;
+import static org.folio.entlinks.service.authority.AuthorityArchiveExpireJobService.START_LOCK_NAMESPACE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.folio.entlinks.config.properties.AuthorityArchiveProperties;
+import org.folio.entlinks.controller.converter.AuthorityMapper;
+import org.folio.entlinks.domain.dto.AuthorityDto;
+import org.folio.entlinks.domain.entity.AuthorityArchive;
+import org.folio.entlinks.domain.entity.AuthorityArchiveExpireJob;
+import org.folio.entlinks.domain.entity.AuthorityArchiveExpireJobStatus;
+import org.folio.entlinks.domain.repository.AdvisoryLockRepository;
+import org.folio.entlinks.domain.repository.AuthorityArchiveExpireJobRepository;
+import org.folio.entlinks.exception.AuthorityArchiveExpireJobNotFoundException;
+import org.folio.entlinks.integration.CachedSettingsService;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class AuthorityArchiveExpireJobServiceTest {
+
+  private static final int CHUNK_SIZE = 2;
+  private static final String TENANT_ID = "test";
+
+  @Mock
+  private AuthorityArchiveExpireJobRepository repository;
+
+  @Mock
+  private AuthorityArchiveService authorityArchiveService;
+
+  @Mock
+  private AuthorityDomainEventPublisher eventPublisher;
+
+  @Mock
+  private AuthorityMapper authorityMapper;
+
+  @Mock
+  private AuthorityArchiveProperties properties;
+
+  @Mock
+  private CachedSettingsService settingsService;
+
+  @Mock
+  private AdvisoryLockRepository lockRepository;
+
+  @Mock
+  private FolioExecutionContext context;
+
+  @InjectMocks
+  private AuthorityArchiveExpireJobService service;
+
+  @Captor
+  private ArgumentCaptor<AuthorityArchiveExpireJob> jobCaptor;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(properties.getChunkSize()).thenReturn(CHUNK_SIZE);
+    lenient().when(properties.getStalledJobTimeout()).thenReturn(Duration.ofMinutes(30));
+    lenient().when(repository.save(any(AuthorityArchiveExpireJob.class))).thenAnswer(inv -> inv.getArgument(0));
+  }
+
+  @Test
+  void getExpirationTillDate_positive_defaultRetention() {
+    when(settingsService.getAuthoritiesExpirationSetting()).thenReturn(Optional.empty());
+    when(properties.getRetentionPeriodInDays()).thenReturn(7);
+
+    var actual = service.getExpirationTillDate();
+
+    assertThat(actual).hasValueSatisfying(tillDate ->
+      assertThat(tillDate).isCloseTo(LocalDateTime.now().minusDays(7), within(1, ChronoUnit.MINUTES)));
+  }
+
+  @Test
+  void getExpirationTillDate_positive_retentionFromSettings() {
+    when(settingsService.getAuthoritiesExpirationSetting())
+      .thenReturn(Optional.of(new AuthoritiesExpirationSettingValue(true, 1)));
+
+    var actual = service.getExpirationTillDate();
+
+    assertThat(actual).hasValueSatisfying(tillDate ->
+      assertThat(tillDate).isCloseTo(LocalDateTime.now().minusDays(1), within(1, ChronoUnit.MINUTES)));
+  }
+
+  @Test
+  void getExpirationTillDate_positive_defaultRetentionWhenNotSetInSettings() {
+    when(settingsService.getAuthoritiesExpirationSetting())
+      .thenReturn(Optional.of(new AuthoritiesExpirationSettingValue(true, null)));
+    when(properties.getRetentionPeriodInDays()).thenReturn(7);
+
+    assertThat(service.getExpirationTillDate()).isPresent();
+  }
+
+  @Test
+  void getExpirationTillDate_negative_disabledBySettings() {
+    when(settingsService.getAuthoritiesExpirationSetting())
+      .thenReturn(Optional.of(new AuthoritiesExpirationSettingValue(false, null)));
+
+    assertThat(service.getExpirationTillDate()).isEmpty();
+  }
+
+  @Test
+  void getById_negative_notFound() {
+    var id = UUID.randomUUID();
+    when(repository.findById(id)).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> service.getById(id)).isInstanceOf(AuthorityArchiveExpireJobNotFoundException.class);
+  }
+
+  @Test
+  void findRunningJob_positive_inProgressJob() {
+    var job = job(IN_PROGRESS).withUpdatedDate(OffsetDateTime.now().minusMinutes(1));
+    when(repository.findFirstByOrderByStartedDateDesc()).thenReturn(Optional.of(job));
+
+    assertThat(service.findRunningJob()).contains(job);
+  }
+
+  @Test
+  void findRunningJob_negative_stalledJob() {
+    var job = job(IN_PROGRESS).withUpdatedDate(OffsetDateTime.now().minusHours(1));
+    when(repository.findFirstByOrderByStartedDateDesc()).thenReturn(Optional.of(job));
+
+    assertThat(service.findRunningJob()).isEmpty();
+  }
+
+  @Test
+  void findRunningJob_negative_completedJob() {
+    var job = job(COMPLETED).withUpdatedDate(OffsetDateTime.now());
+    when(repository.findFirstByOrderByStartedDateDesc()).thenReturn(Optional.of(job));
+
+    assertThat(service.findRunningJob()).isEmpty();
+  }
+
+  @Test
+  void findRunningOrStartJob_positive_returnRunningJobUnderLock() {
+    var job = job(IN_PROGRESS).withUpdatedDate(OffsetDateTime.now().minusMinutes(1));
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(repository.findFirstByOrderByStartedDateDesc()).thenReturn(Optional.of(job));
+
+    var actual = service.findRunningOrStartJob(LocalDateTime.now());
+
+    assertThat(actual.job()).isEqualTo(job);
+    assertThat(actual.started()).isFalse();
+    verify(lockRepository).lockForTransaction(START_LOCK_NAMESPACE, TENANT_ID);
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  void findRunningOrStartJob_positive_startJobUnderLockWhenNoneRunning() {
+    var tillDate = LocalDateTime.now();
+    when(context.getTenantId()).thenReturn(TENANT_ID);
+    when(repository.findFirstByOrderByStartedDateDesc()).thenReturn(Optional.of(job(COMPLETED)));
+
+    var actual = service.findRunningOrStartJob(tillDate);
+
+    assertThat(actual.started()).isTrue();
+    assertThat(actual.job().getJobStatus()).isEqualTo(IN_PROGRESS);
+    assertThat(actual.job().getTillDate()).isEqualTo(tillDate);
+    var inOrder = inOrder(lockRepository, repository);
+    inOrder.verify(lockRepository).lockForTransaction(START_LOCK_NAMESPACE, TENANT_ID);
+    inOrder.verify(repository).save(any());
+  }
+
+  @Test
+  void startJob_positive_newJobWhenLatestCompleted() {
+    var tillDate = LocalDateTime.now();
+    when(repository.findFirstByOrderByStartedDateDesc()).thenReturn(Optional.of(job(COMPLETED)));
+
+    var actual = service.startJob(tillDate);
+
+    assertThat(actual.getId()).isNull();
+    assertThat(actual.getJobStatus()).isEqualTo(IN_PROGRESS);
+    assertThat(actual.getTillDate()).isEqualTo(tillDate);
+    assertThat(actual.getExpired()).isZero();
+    assertThat(actual.getStartedDate()).isNotNull();
+  }
+
+  @Test
+  void startJob_positive_resumeFailedJob() {
+    var tillDate = LocalDateTime.now().minusDays(10);
+    var failed = job(FAILED).withTillDate(tillDate).withExpired(5).withFailureCause("error");
+    when(repository.findFirstByOrderByStartedDateDesc()).thenReturn(Optional.of(failed));
+
+    var actual = service.startJob(LocalDateTime.now());
+
+    assertThat(actual.getId()).isEqualTo(failed.getId());
+    assertThat(actual.getJobStatus()).isEqualTo(IN_PROGRESS);
+    assertThat(actual.getTillDate()).isEqualTo(tillDate);
+    assertThat(actual.getExpired()).isEqualTo(5);
+    assertThat(actual.getFailureCause()).isNull();
+    verify(authorityArchiveService).createPartitions(properties.getPartitionsAhead());
+    verify(authorityArchiveService).detachExpiredPartitions(tillDate);
+  }
+
+  @Test
+  void expireChunk_positive_checkpointsJob() {
+    var job = job(IN_PROGRESS).withTillDate(LocalDateTime.now()).withExpired(3);
+    var archive1 = new AuthorityArchive();
+    var archive2 = new AuthorityArchive();
+    var dto1 = new AuthorityDto().id(UUID.randomUUID());
+    var dto2 = new AuthorityDto().id(UUID.randomUUID());
+    when(repository.findById(job.getId())).thenReturn(Optional.of(job));
+    when(authorityArchiveService.deleteExpired(job.getTillDate(), CHUNK_SIZE))
+      .thenReturn(List.of(archive1, archive2));
+    when(authorityMapper.toDto(archive1)).thenReturn(dto1);
+    when(authorityMapper.toDto(archive2)).thenReturn(dto2);
+    when(eventPublisher.publishHardDeleteEvents(List.of(dto1, dto2)))
+      .thenReturn(CompletableFuture.completedFuture(null));
+
+    var actual = service.expireChunk(job.getId());
+
+    assertThat(actual).isEqualTo(2);
+    verify(repository).save(jobCaptor.capture());
+    assertThat(jobCaptor.getValue().getExpired()).isEqualTo(5);
+    assertThat(jobCaptor.getValue().getUpdatedDate()).isNotNull();
+  }
+
+  @Test
+  void expireChunk_positive_nothingToExpire() {
+    var job = job(IN_PROGRESS).withTillDate(LocalDateTime.now());
+    when(repository.findById(job.getId())).thenReturn(Optional.of(job));
+    when(authorityArchiveService.deleteExpired(job.getTillDate(), CHUNK_SIZE)).thenReturn(List.of());
+
+    var actual = service.expireChunk(job.getId());
+
+    assertThat(actual).isZero();
+    verifyNoInteractions(eventPublisher);
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  void expireChunk_negative_publishingFailed() {
+    var job = job(IN_PROGRESS).withTillDate(LocalDateTime.now());
+    var archive = new AuthorityArchive();
+    var dto = new AuthorityDto().id(UUID.randomUUID());
+    when(repository.findById(job.getId())).thenReturn(Optional.of(job));
+    when(authorityArchiveService.deleteExpired(job.getTillDate(), CHUNK_SIZE)).thenReturn(List.of(archive));
+    when(authorityMapper.toDto(archive)).thenReturn(dto);
+    when(eventPublisher.publishHardDeleteEvents(List.of(dto)))
+      .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("kafka is down")));
+
+    var jobId = job.getId();
+    assertThatThrownBy(() -> service.expireChunk(jobId)).hasRootCauseMessage("kafka is down");
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  void completeJob_positive() {
+    var job = job(IN_PROGRESS);
+    when(repository.findById(job.getId())).thenReturn(Optional.of(job));
+
+    service.completeJob(job.getId());
+
+    verify(repository).save(jobCaptor.capture());
+    assertThat(jobCaptor.getValue().getJobStatus()).isEqualTo(COMPLETED);
+  }
+
+  @Test
+  void pauseJob_positive() {
+    var job = job(IN_PROGRESS);
+    when(repository.findById(job.getId())).thenReturn(Optional.of(job));
+
+    service.pauseJob(job.getId());
+
+    verify(repository).save(jobCaptor.capture());
+    assertThat(jobCaptor.getValue().getJobStatus()).isEqualTo(PAUSED);
+  }
+
+  @Test
+  void startJob_positive_resumePausedJob() {
+    var paused = job(PAUSED).withTillDate(LocalDateTime.now().minusDays(3)).withExpired(10);
+    when(repository.findFirstByOrderByStartedDateDesc()).thenReturn(Optional.of(paused));
+
+    var actual = service.startJob(LocalDateTime.now());
+
+    assertThat(actual.getId()).isEqualTo(paused.getId());
+    assertThat(actual.getJobStatus()).isEqualTo(IN_PROGRESS);
+    assertThat(actual.getExpired()).isEqualTo(10);
+  }
+
+  @Test
+  void failJob_positive() {
+    var job = job(IN_PROGRESS);
+    when(repository.findById(job.getId())).thenReturn(Optional.of(job));
+
+    service.failJob(job.getId(), new IllegalStateException("error"));
+
+    verify(repository).save(jobCaptor.capture());
+    assertThat(jobCaptor.getValue().getJobStatus()).isEqualTo(FAILED);
+    assertThat(jobCaptor.getValue().getFailureCause()).isEqualTo("error");
+  }
+
+  private static AuthorityArchiveExpireJob job(AuthorityArchiveExpireJobStatus status) {
+    return new AuthorityArchiveExpireJob()
+      .withId(UUID.randomUUID())
+      .withJobStatus(status)
+      .withStartedDate(OffsetDateTime.now());
+  }
+}
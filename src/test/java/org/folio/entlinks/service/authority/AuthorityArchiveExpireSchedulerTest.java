@@ -0,0 +1,135 @@
+package org.folio.entlinks.service.authority;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entlinks.service.authority.AuthorityArchiveExpireScheduler.DURATION_METRIC;
+import static org.folio.entlinks.service.authority.AuthorityArchiveExpireScheduler.EXPIRED_METRIC;
+import static org.folio.entlinks.service.authority.AuthorityArchiveExpireScheduler.LOCK_NAMESPACE;
+import static org.folio.entlinks.service.authority.AuthorityArchiveExpireScheduler.TENANT_TAG;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import org.folio.entlinks.config.properties.AuthorityArchiveProperties;
+import org.folio.entlinks.domain.entity.AuthorityArchiveExpireJob;
+import org.folio.entlinks.domain.repository.AdvisoryLockRepository;
+import org.folio.entlinks.domain.repository.TenantSchemaRepository;
+import org.folio.entlinks.service.authority.AuthorityArchiveExpireJobService.ExpireJobStart;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class AuthorityArchiveExpireSchedulerTest {
+
+  private static final String TENANT_1 = "tenant1";
+  private static final String TENANT_2 = "tenant2";
+
+  private final AuthorityArchiveProperties properties = new AuthorityArchiveProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Mock
+  private TenantSchemaRepository tenantSchemaRepository;
+
+  @Mock
+  private AdvisoryLockRepository lockRepository;
+
+  @Mock
+  private AuthorityArchiveExpireJobService jobService;
+
+  @Mock
+  private AuthorityArchiveExpireJobRunner jobRunner;
+
+  @Mock
+  private SystemUserScopedExecutionService executionService;
+
+  private AuthorityArchiveExpireScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    properties.getScheduler().setTenantTimeBudget(Duration.ofMinutes(1));
+    properties.getScheduler().setMaxChunksPerSecond(3);
+    lenient().when(executionService.executeSystemUserScoped(any(), any())).thenAnswer(invocation ->
+      invocation.getArgument(1, Callable.class).call());
+    lenient().when(lockRepository.executeWithTryLock(eq(LOCK_NAMESPACE), any(), any())).thenAnswer(invocation -> {
+      invocation.getArgument(2, Runnable.class).run();
+      return true;
+    });
+    scheduler = new AuthorityArchiveExpireScheduler(tenantSchemaRepository, lockRepository, jobService, jobRunner,
+      executionService, properties, meterRegistry);
+  }
+
+  @Test
+  void expireAllTenants_positive_expireEachTenantUnderLock() {
+    var tillDate = LocalDateTime.now();
+    var job = new AuthorityArchiveExpireJob().withId(UUID.randomUUID());
+    when(tenantSchemaRepository.findTenantIdsWithTable("authority_archive")).thenReturn(List.of(TENANT_1, TENANT_2));
+    when(jobService.getExpirationTillDate()).thenReturn(Optional.of(tillDate));
+    when(jobService.findRunningOrStartJob(tillDate)).thenReturn(new ExpireJobStart(job, true));
+    when(jobRunner.expire(job.getId(), Duration.ofMinutes(1), 3)).thenReturn(5, 7);
+
+    scheduler.expireAllTenants();
+
+    verify(lockRepository).executeWithTryLock(eq(LOCK_NAMESPACE), eq(TENANT_1), any());
+    verify(lockRepository).executeWithTryLock(eq(LOCK_NAMESPACE), eq(TENANT_2), any());
+    verify(executionService).executeSystemUserScoped(eq(TENANT_1), any());
+    verify(executionService).executeSystemUserScoped(eq(TENANT_2), any());
+    var expired = meterRegistry.get(EXPIRED_METRIC).counters().stream().mapToDouble(Counter::count).sum();
+    assertThat(expired).isEqualTo(12);
+    assertThat(meterRegistry.get(DURATION_METRIC).tag(TENANT_TAG, TENANT_1).timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(DURATION_METRIC).tag(TENANT_TAG, TENANT_2).timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void expireAllTenants_positive_skipTenantLockedByAnotherInstance() {
+    when(tenantSchemaRepository.findTenantIdsWithTable("authority_archive")).thenReturn(List.of(TENANT_1));
+    when(lockRepository.executeWithTryLock(eq(LOCK_NAMESPACE), eq(TENANT_1), any())).thenReturn(false);
+
+    scheduler.expireAllTenants();
+
+    verify(executionService, never()).executeSystemUserScoped(any(), any());
+  }
+
+  @Test
+  void expireAllTenants_positive_skipTenantWithRunningJob() {
+    when(tenantSchemaRepository.findTenantIdsWithTable("authority_archive")).thenReturn(List.of(TENANT_1));
+    var tillDate = LocalDateTime.now();
+    when(jobService.getExpirationTillDate()).thenReturn(Optional.of(tillDate));
+    when(jobService.findRunningOrStartJob(tillDate))
+      .thenReturn(new ExpireJobStart(new AuthorityArchiveExpireJob(), false));
+
+    scheduler.expireAllTenants();
+
+    verify(jobRunner, never()).expire(any(), any(), anyInt());
+  }
+
+  @Test
+  void expireAllTenants_negative_continueWithNextTenantOnFailure() {
+    when(tenantSchemaRepository.findTenantIdsWithTable("authority_archive")).thenReturn(List.of(TENANT_1, TENANT_2));
+    when(jobService.getExpirationTillDate())
+      .thenThrow(new IllegalStateException("error"))
+      .thenReturn(Optional.empty());
+
+    scheduler.expireAllTenants();
+
+    verify(executionService).executeSystemUserScoped(eq(TENANT_1), any());
+    verify(executionService).executeSystemUserScoped(eq(TENANT_2), any());
+    verify(jobService, never()).findRunningOrStartJob(any());
+  }
+}
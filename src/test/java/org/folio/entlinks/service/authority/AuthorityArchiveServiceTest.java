@@ -1,7 +1,17 @@
 package org.folio.entlinks.service.authority;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import org.folio.entlinks.domain.entity.AuthorityArchive;
 import org.folio.entlinks.domain.repository.AuthorityArchiveRepository;
 import org.folio.spring.testing.type.UnitTest;
@@ -22,11 +32,66 @@ class AuthorityArchiveServiceTest {
   private AuthorityArchiveService service;
 
   @Test
-  void shouldDeleteAuthorityArchive() {
+  void shouldDeleteExpiredAuthorityArchivesChunk() {
     var archive = new AuthorityArchive();
+    var tillDate = LocalDateTime.now();
+    when(repository.deleteExpiredChunk(tillDate, 10)).thenReturn(List.of(archive));
 
-    service.delete(archive);
+    var actual = service.deleteExpired(tillDate, 10);
 
-    verify(repository).delete(archive);
+    assertThat(actual).containsExactly(archive);
+    verify(repository).deleteExpiredChunk(tillDate, 10);
+    verify(repository, never()).deleteDetachedPartitionChunk(anyString(), anyInt());
+  }
+
+  @Test
+  void shouldDrainDetachedPartitionBeforeAttachedArchives() {
+    var archive = new AuthorityArchive();
+    var partition = "authority_archive_expired_p202401";
+    when(repository.findDetachedPartitions()).thenReturn(List.of(partition));
+    when(repository.deleteDetachedPartitionChunk(partition, 10)).thenReturn(List.of(archive));
+
+    var actual = service.deleteExpired(LocalDateTime.now(), 10);
+
+    assertThat(actual).containsExactly(archive);
+    verify(repository, never()).dropDetachedPartition(anyString());
+    verify(repository, never()).deleteExpiredChunk(any(), anyInt());
+  }
+
+  @Test
+  void shouldDropDrainedDetachedPartitions() {
+    var archive = new AuthorityArchive();
+    var tillDate = LocalDateTime.now();
+    var drained = "authority_archive_expired_p202401";
+    var next = "authority_archive_expired_p202402";
+    when(repository.findDetachedPartitions()).thenReturn(List.of(drained, next));
+    when(repository.deleteDetachedPartitionChunk(drained, 10)).thenReturn(List.of());
+    when(repository.deleteDetachedPartitionChunk(next, 10)).thenReturn(List.of());
+    when(repository.deleteExpiredChunk(tillDate, 10)).thenReturn(List.of(archive));
+
+    var actual = service.deleteExpired(tillDate, 10);
+
+    assertThat(actual).containsExactly(archive);
+    verify(repository).dropDetachedPartition(drained);
+    verify(repository).dropDetachedPartition(next);
+  }
+
+  @Test
+  void shouldCreateUpcomingPartitions() {
+    var from = LocalDateTime.now();
+
+    service.createPartitions(3);
+
+    verify(repository).createPartitions(argThat(date -> !date.isBefore(from)), eq(3));
+  }
+
+  @Test
+  void shouldDetachExpiredPartitions() {
+    var tillDate = LocalDateTime.now();
+    when(repository.detachExpiredPartitions(tillDate)).thenReturn(List.of("authority_archive_expired_p202401"));
+
+    service.detachExpiredPartitions(tillDate);
+
+    verify(repository).detachExpiredPartitions(tillDate);
   }
 }
@@ -1,13 +1,18 @@
 package org.folio.entlinks.service.authority;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import org.folio.entlinks.domain.dto.AuthorityDto;
 import org.folio.entlinks.integration.dto.event.AuthorityDeleteEventSubType;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
@@ -149,6 +154,33 @@ class AuthorityDomainEventPublisherTest {
     assertEquals(TENANT_ID, deleteEventCaptor.getValue().getTenant());
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldSendHardDeletedEventsBatch() {
+    // given
+    var dto = new AuthorityDto().id(UUID.randomUUID()).source("source");
+    var future = CompletableFuture.<Void>completedFuture(null);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(eventProducer.sendMessages(anyList(), any(), eq(DOMAIN_EVENT_TYPE_HEADER), eq(DomainEventType.DELETE)))
+      .thenReturn(future);
+    var eventsCaptor = ArgumentCaptor.forClass(List.class);
+    var keyMapperCaptor = ArgumentCaptor.forClass(Function.class);
+
+    // when
+    var actual = eventPublisher.publishHardDeleteEvents(List.of(dto, new AuthorityDto()));
+
+    // then
+    assertEquals(future, actual);
+    verify(eventProducer).sendMessages(eventsCaptor.capture(), keyMapperCaptor.capture(),
+        eq(DOMAIN_EVENT_TYPE_HEADER), eq(DomainEventType.DELETE));
+    assertEquals(1, eventsCaptor.getValue().size());
+    var event = (AuthorityDomainEvent) eventsCaptor.getValue().get(0);
+    assertEquals(dto, event.getOldEntity());
+    assertEquals(AuthorityDeleteEventSubType.HARD_DELETE, event.getDeleteEventSubType());
+    assertEquals(TENANT_ID, event.getTenant());
+    assertEquals(dto.getId().toString(), keyMapperCaptor.getValue().apply(event));
+  }
+
   @Test
   void shouldNotSendReindexEventWhenIdIsNull() {
     // when
@@ -281,4 +281,93 @@ class AuthorityServiceTest {
 
     verify(repository).deleteAllByIdInBatch(anyIterable());
   }
+
+  @Test
+  void shouldBatchCreateAuthorities() {
+    var sourceFile = new AuthoritySourceFile();
+    sourceFile.setId(UUID.randomUUID());
+    var newEntity = new Authority();
+    newEntity.setAuthoritySourceFile(sourceFile);
+    var existing = Authority.builder().id(UUID.randomUUID()).deleted(true).build();
+    var duplicate = Authority.builder().id(existing.getId()).heading("new").build();
+
+    when(sourceFileRepository.existsById(sourceFile.getId())).thenReturn(true);
+    when(repository.findAllById(List.of(existing.getId()))).thenReturn(List.of(existing));
+
+    var rejectedIds = service.batchCreate(List.of(newEntity, duplicate));
+
+    assertThat(rejectedIds).containsExactly(existing.getId());
+    assertThat(newEntity.getId()).isNotNull();
+    assertThat(newEntity.isNew()).isTrue();
+    assertThat(existing.isDeleted()).isTrue();
+    verify(repository).saveAll(List.of(newEntity));
+  }
+
+  @Test
+  void shouldBatchUpdateAuthorities() {
+    var sourceFile = new AuthoritySourceFile();
+    sourceFile.setId(UUID.randomUUID());
+    var existing = Authority.builder().id(UUID.randomUUID()).heading("old").version(1).build();
+    var modified = Authority.builder().id(existing.getId()).heading("new").version(1)
+      .authoritySourceFile(sourceFile).build();
+    var outdatedExisting = Authority.builder().id(UUID.randomUUID()).heading("old").version(2).build();
+    var outdated = Authority.builder().id(outdatedExisting.getId()).heading("new").version(1).build();
+    var missing = Authority.builder().id(UUID.randomUUID()).heading("new").build();
+    var ids = List.of(existing.getId(), outdated.getId(), missing.getId());
+
+    when(sourceFileRepository.existsById(sourceFile.getId())).thenReturn(true);
+    when(repository.findAllByIdInAndDeletedFalse(ids)).thenReturn(List.of(existing, outdatedExisting));
+
+    var rejectedIds = service.batchUpdate(List.of(modified, outdated, missing));
+
+    assertThat(rejectedIds).containsExactlyInAnyOrder(outdated.getId(), missing.getId());
+    assertThat(existing.getHeading()).isEqualTo("new");
+    assertThat(existing.getVersion()).isEqualTo(2);
+    assertThat(outdatedExisting.getHeading()).isEqualTo("old");
+    verify(repository).saveAll(List.of(existing));
+    verify(sourceFileRepository).existsById(sourceFile.getId());
+  }
+
+  @Test
+  void shouldNotUpdateSoftDeletedAuthorityInSingleAndBatchUpdate() {
+    var deleted = Authority.builder().id(UUID.randomUUID()).heading("old").version(1).deleted(true).build();
+    var modified = Authority.builder().id(deleted.getId()).heading("new").version(1).build();
+    var id = deleted.getId();
+    when(repository.findByIdAndDeletedFalse(id)).thenReturn(Optional.empty());
+    when(repository.findAllByIdInAndDeletedFalse(List.of(id))).thenReturn(List.of());
+
+    assertThrows(AuthorityNotFoundException.class, () -> service.update(id, modified));
+    var rejectedIds = service.batchUpdate(List.of(modified));
+
+    assertThat(rejectedIds).containsExactly(id);
+    assertThat(deleted.isDeleted()).isTrue();
+    assertThat(deleted.getHeading()).isEqualTo("old");
+    verify(repository).saveAll(List.of());
+  }
+
+  @Test
+  void shouldNotBatchUpdateAuthoritiesIfSourceFileDoesNotExist() {
+    var sourceFile = new AuthoritySourceFile();
+    sourceFile.setId(UUID.randomUUID());
+    var modified = Authority.builder().id(UUID.randomUUID()).authoritySourceFile(sourceFile).build();
+    var authorities = List.of(modified);
+    when(sourceFileRepository.existsById(sourceFile.getId())).thenReturn(false);
+
+    assertThrows(AuthoritySourceFileNotFoundException.class, () -> service.batchUpdate(authorities));
+
+    verifyNoInteractions(repository);
+  }
+
+  @Test
+  void shouldSoftDeleteAuthoritiesByIds() {
+    var authority = Authority.builder().id(UUID.randomUUID()).build();
+    var ids = List.of(authority.getId(), UUID.randomUUID());
+    when(repository.findAllByIdInAndDeletedFalse(ids)).thenReturn(List.of(authority));
+
+    var rejectedIds = service.batchSoftDeleteByIds(ids);
+
+    assertThat(rejectedIds).containsExactly(ids.get(1));
+    assertThat(authority.isDeleted()).isTrue();
+    verify(repository).saveAll(List.of(authority));
+  }
 }
@@ -5,21 +5,36 @@ import static org.folio.support.base.TestConstants.AUTHORITY_CONSORTIUM_SOURCE;
 import static org.folio.support.base.TestConstants.AUTHORITY_SOURCE;
 import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import org.folio.entlinks.config.properties.ConsortiumPropagationProperties;
 import org.folio.entlinks.domain.entity.Authority;
+import org.folio.entlinks.exception.AuthorityNotFoundException;
 import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.service.authority.AuthorityService;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumAuthorityPropagationService;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationScheduler;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.Propagation;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.PropagationType;
 import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -31,8 +46,12 @@ class ConsortiumAuthorityPropagationServiceTest {
 
   private @Mock AuthorityService authorityService;
   private @Mock ConsortiumTenantsService tenantsService;
-  private @Mock SystemUserScopedExecutionService executionService;
+  private @Mock ConsortiumPropagationScheduler propagationScheduler;
   private @InjectMocks ConsortiumAuthorityPropagationService propagationService;
+  private @Mock SystemUserScopedExecutionService executionService;
+  private @Captor ArgumentCaptor<List<Authority>> authoritiesCaptor;
+
+  private final List<Runnable> workers = new ArrayList<>();
 
   @Test
   void testPropagateCreate() throws FolioIntegrationException {
@@ -43,33 +62,31 @@ class ConsortiumAuthorityPropagationServiceTest {
 
     assertThat(authority.getSource()).isEqualTo(AUTHORITY_CONSORTIUM_SOURCE);
     verify(tenantsService).getConsortiumTenants(TENANT_ID);
-    verify(executionService, times(3)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(3)).schedule(any(), any());
     verify(authorityService, times(3)).create(authority);
   }
 
   @Test
   void testPropagateUpdate() throws FolioIntegrationException {
     var authority = authority();
-    authority.setId(UUID.randomUUID());
     doMocks();
     propagationService.propagate(authority, ConsortiumAuthorityPropagationService.PropagationType.UPDATE, TENANT_ID);
 
     assertThat(authority.getSource()).isEqualTo(AUTHORITY_CONSORTIUM_SOURCE);
     verify(tenantsService, times(1)).getConsortiumTenants(any());
-    verify(executionService, times(3)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(3)).schedule(any(), any());
     verify(authorityService, times(3)).update(authority.getId(), authority);
   }
 
   @Test
   void testPropagateDelete() throws FolioIntegrationException {
     var authority = authority();
-    authority.setId(UUID.randomUUID());
     doMocks();
     propagationService.propagate(authority, ConsortiumAuthorityPropagationService.PropagationType.DELETE, TENANT_ID);
 
     assertThat(authority.getSource()).isEqualTo(AUTHORITY_CONSORTIUM_SOURCE);
     verify(tenantsService, times(1)).getConsortiumTenants(any());
-    verify(executionService, times(3)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(3)).schedule(any(), any());
     verify(authorityService, times(3)).deleteById(authority.getId());
   }
 
@@ -81,22 +98,97 @@ class ConsortiumAuthorityPropagationServiceTest {
     propagationService.propagate(authority, ConsortiumAuthorityPropagationService.PropagationType.CREATE, TENANT_ID);
 
     verify(tenantsService, times(1)).getConsortiumTenants(any());
-    verify(executionService, times(0)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(0)).schedule(any(), any());
     verify(authorityService, times(0)).create(any());
   }
 
+  @Test
+  void testPropagateBatchUpdateThroughScheduler() {
+    var authorities = List.of(authority(), authority());
+
+    when(tenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of("t1"));
+    var service = serviceWithScheduler();
+    authorities.forEach(authority -> service.propagate(authority, PropagationType.UPDATE, TENANT_ID));
+    runWorkers();
+
+    verify(executionService).executeSystemUserScoped(eq("t1"), any());
+    verify(authorityService).batchUpdate(authoritiesCaptor.capture());
+    assertThat(authoritiesCaptor.getValue())
+      .hasSize(2)
+      .allSatisfy(shadowCopy -> assertThat(shadowCopy.getSource()).isEqualTo(AUTHORITY_CONSORTIUM_SOURCE));
+    assertThat(authorities).allSatisfy(authority -> assertThat(authority.getSource()).isEqualTo(AUTHORITY_SOURCE));
+    verify(authorityService, never()).update(any(), any());
+  }
+
+  @Test
+  void testPropagateBatchDeleteThroughScheduler() {
+    var authorities = List.of(authority(), authority());
+
+    when(tenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of("t1"));
+    var service = serviceWithScheduler();
+    authorities.forEach(authority -> service.propagate(authority, PropagationType.DELETE, TENANT_ID));
+    runWorkers();
+
+    verify(authorityService).batchSoftDeleteByIds(authorities.stream().map(Authority::getId).toList());
+    verify(authorityService, never()).deleteById(any());
+  }
+
+  @Test
+  void testPropagateOneByOneThroughSchedulerWhenBatchFailed() {
+    var authorities = List.of(authority(), authority());
+
+    when(tenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of("t1"));
+    doThrow(new IllegalStateException("test")).when(authorityService).batchCreate(anyList());
+    var service = serviceWithScheduler();
+    authorities.forEach(authority -> service.propagate(authority, PropagationType.CREATE, TENANT_ID));
+    runWorkers();
+
+    authorities.forEach(authority -> verify(authorityService).create(authority));
+  }
+
+  @Test
+  void testPropagateRejectedByBatchUpdateOneByOneThroughScheduler() {
+    var authorities = List.of(authority(), authority());
+    var deleted = authorities.get(1);
+
+    when(tenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of("t1"));
+    when(authorityService.batchUpdate(anyList())).thenReturn(Set.of(deleted.getId()));
+    doThrow(new AuthorityNotFoundException(deleted.getId())).when(authorityService).update(deleted.getId(), deleted);
+    var service = serviceWithScheduler();
+    authorities.forEach(authority -> service.propagate(authority, PropagationType.UPDATE, TENANT_ID));
+    runWorkers();
+
+    verify(authorityService).update(deleted.getId(), deleted);
+    verify(authorityService, never()).update(authorities.get(0).getId(), authorities.get(0));
+  }
+
   private Authority authority() {
     var authority = new Authority();
+    authority.setId(UUID.randomUUID());
     authority.setSource(AUTHORITY_SOURCE);
     return authority;
   }
 
+  private ConsortiumAuthorityPropagationService serviceWithScheduler() {
+    when(executionService.executeSystemUserScoped(any(), any())).thenAnswer(invocation ->
+      invocation.getArgument(1, Callable.class).call());
+    var scheduler = new ConsortiumPropagationScheduler(executionService, workers::add,
+      new ConsortiumPropagationProperties(), new SimpleMeterRegistry());
+    return new ConsortiumAuthorityPropagationService(authorityService, tenantsService, scheduler);
+  }
+
+  private void runWorkers() {
+    var toRun = new ArrayList<>(workers);
+    workers.clear();
+    toRun.forEach(Runnable::run);
+  }
+
   private void doMocks() {
     when(tenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of("t1", "t2", "t3"));
     doAnswer(invocation -> {
-      ((Runnable) invocation.getArgument(1)).run();
+      invocation.getArgument(1, Propagation.class).run();
       return null;
-    }).when(executionService).executeAsyncSystemUserScoped(any(), any());
+    }).when(propagationScheduler).schedule(any(), any());
   }
 
 }
@@ -16,7 +16,8 @@ import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.service.authority.AuthoritySourceFileService;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumAuthorityPropagationService;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumAuthoritySourceFilePropagationService;
-import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationScheduler;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.Propagation;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,7 +32,7 @@ class ConsortiumAuthoritySourceFilePropagationServiceTest {
 
   private @Mock AuthoritySourceFileService authorityService;
   private @Mock ConsortiumTenantsService tenantsService;
-  private @Mock SystemUserScopedExecutionService executionService;
+  private @Mock ConsortiumPropagationScheduler propagationScheduler;
   private @InjectMocks ConsortiumAuthoritySourceFilePropagationService propagationService;
 
   @Test
@@ -42,7 +43,7 @@ class ConsortiumAuthoritySourceFilePropagationServiceTest {
 
     assertThat(sourceFile.getSource()).isEqualTo(CONSORTIUM);
     verify(tenantsService).getConsortiumTenants(TENANT_ID);
-    verify(executionService, times(3)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(3)).schedule(any(), any());
     verify(authorityService, times(3)).create(sourceFile);
   }
 
@@ -55,7 +56,7 @@ class ConsortiumAuthoritySourceFilePropagationServiceTest {
 
     assertThat(sourceFile.getSource()).isEqualTo(CONSORTIUM);
     verify(tenantsService, times(1)).getConsortiumTenants(any());
-    verify(executionService, times(3)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(3)).schedule(any(), any());
     verify(authorityService, times(3)).update(sourceFile.getId(), sourceFile);
   }
 
@@ -68,7 +69,7 @@ class ConsortiumAuthoritySourceFilePropagationServiceTest {
 
     assertThat(sourceFile.getSource()).isEqualTo(CONSORTIUM);
     verify(tenantsService, times(1)).getConsortiumTenants(any());
-    verify(executionService, times(3)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(3)).schedule(any(), any());
     verify(authorityService, times(3)).deleteById(sourceFile.getId());
   }
 
@@ -80,16 +81,16 @@ class ConsortiumAuthoritySourceFilePropagationServiceTest {
     propagationService.propagate(sourceFile, ConsortiumAuthorityPropagationService.PropagationType.CREATE, TENANT_ID);
 
     verify(tenantsService, times(1)).getConsortiumTenants(any());
-    verify(executionService, times(0)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(0)).schedule(any(), any());
     verify(authorityService, times(0)).create(any());
   }
 
   private void doMocks() {
     when(tenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of("t1", "t2", "t3"));
     doAnswer(invocation -> {
-      ((Runnable) invocation.getArgument(1)).run();
+      invocation.getArgument(1, Propagation.class).run();
       return null;
-    }).when(executionService).executeAsyncSystemUserScoped(any(), any());
+    }).when(propagationScheduler).schedule(any(), any());
   }
 
 }
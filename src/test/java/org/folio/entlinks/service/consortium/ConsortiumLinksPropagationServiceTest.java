@@ -17,9 +17,10 @@ import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumAuthorityPropagationService;
 import org.folio.entlinks.service.consortium.propagation.ConsortiumLinksPropagationService;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationScheduler;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.Propagation;
 import org.folio.entlinks.service.consortium.propagation.model.LinksPropagationData;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
-import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,7 +34,7 @@ class ConsortiumLinksPropagationServiceTest {
 
   private @Mock InstanceAuthorityLinkingService instanceAuthorityLinkingService;
   private @Mock ConsortiumTenantsService tenantsService;
-  private @Mock SystemUserScopedExecutionService executionService;
+  private @Mock ConsortiumPropagationScheduler propagationScheduler;
   private @InjectMocks ConsortiumLinksPropagationService propagationService;
 
   @Test
@@ -49,7 +50,7 @@ class ConsortiumLinksPropagationServiceTest {
         propagationData, ConsortiumAuthorityPropagationService.PropagationType.UPDATE, TENANT_ID);
 
     verify(tenantsService).getConsortiumTenants(TENANT_ID);
-    verify(executionService, times(3)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(3)).schedule(any(), any());
     verify(instanceAuthorityLinkingService, times(3)).updateLinks(instanceId, links);
   }
 
@@ -76,16 +77,16 @@ class ConsortiumLinksPropagationServiceTest {
         propagationData, ConsortiumAuthorityPropagationService.PropagationType.UPDATE, TENANT_ID);
 
     verify(tenantsService, times(1)).getConsortiumTenants(any());
-    verify(executionService, times(0)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(0)).schedule(any(), any());
     verify(instanceAuthorityLinkingService, times(0)).updateLinks(any(), any());
   }
 
   private void doMocks() {
     when(tenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of("t1", "t2", "t3"));
     doAnswer(invocation -> {
-      ((Runnable) invocation.getArgument(1)).run();
+      invocation.getArgument(1, Propagation.class).run();
       return null;
-    }).when(executionService).executeAsyncSystemUserScoped(any(), any());
+    }).when(propagationScheduler).schedule(any(), any());
   }
 }
 
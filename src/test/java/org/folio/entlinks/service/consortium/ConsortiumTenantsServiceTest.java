@@ -2,18 +2,27 @@ package org.folio.entlinks.service.consortium;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.folio.entlinks.client.ConsortiumTenantsClient;
+import org.folio.entlinks.config.cache.TenantCacheFactory;
+import org.folio.entlinks.config.properties.CacheSpecProperties;
+import org.folio.entlinks.config.properties.ConsortiumTopologyCacheProperties;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -25,7 +34,17 @@ public class ConsortiumTenantsServiceTest {
   public static final String TENANT = "tenant1";
   private @Mock ConsortiumTenantsClient tenantsClient;
   private @Mock UserTenantsService userTenantsService;
-  private @InjectMocks ConsortiumTenantsService consortiumTenantsService;
+  private @Mock FolioExecutionContext context;
+  private ConsortiumTenantsService consortiumTenantsService;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(context.getTenantId()).thenReturn(TEST_TENANT_ID);
+    var cacheFactory = new TenantCacheFactory(new CacheSpecProperties(), context, new ConcurrentMapCacheManager(),
+      new SimpleMeterRegistry());
+    var topologyCache = new ConsortiumTopologyCache(new ConsortiumTopologyCacheProperties(), cacheFactory, context);
+    consortiumTenantsService = new ConsortiumTenantsService(userTenantsService, tenantsClient, topologyCache);
+  }
 
 
   @Test
@@ -56,4 +75,30 @@ public class ConsortiumTenantsServiceTest {
 
     assertThat(result).isEmpty();
   }
+
+  @Test
+  void testGetConsortiumTenantsIsCached() {
+    var consortiumTenants = new ConsortiumTenantsClient.ConsortiumTenants(List.of(
+      new ConsortiumTenantsClient.ConsortiumTenant(TEST_TENANT_ID, true),
+      new ConsortiumTenantsClient.ConsortiumTenant(TENANT, false)));
+    when(userTenantsService.getConsortiumId(TEST_TENANT_ID)).thenReturn(Optional.of(TEST_CONSORTIUM_ID));
+    when(tenantsClient.getConsortiumTenants(TEST_CONSORTIUM_ID, DEFAULT_REQUEST_LIMIT)).thenReturn(consortiumTenants);
+
+    consortiumTenantsService.getConsortiumTenants(TEST_TENANT_ID);
+    var result = consortiumTenantsService.getConsortiumTenants(TEST_TENANT_ID);
+
+    assertThat(result).containsExactly(TENANT);
+    verify(tenantsClient).getConsortiumTenants(TEST_CONSORTIUM_ID, DEFAULT_REQUEST_LIMIT);
+  }
+
+  @Test
+  void testGetConsortiumTenantsFailureIsNotCached() {
+    doThrow(new RuntimeException("Simulated exception")).when(userTenantsService).getConsortiumId(TEST_TENANT_ID);
+
+    consortiumTenantsService.getConsortiumTenants(TEST_TENANT_ID);
+    var result = consortiumTenantsService.getConsortiumTenants(TEST_TENANT_ID);
+
+    assertThat(result).isEmpty();
+    verify(userTenantsService, times(2)).getConsortiumId(TEST_TENANT_ID);
+  }
 }
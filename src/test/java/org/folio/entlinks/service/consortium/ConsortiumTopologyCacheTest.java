@@ -0,0 +1,109 @@
+package org.folio.entlinks.service.consortium;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+import static org.mockito.Mockito.lenient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.folio.entlinks.config.cache.TenantCacheFactory;
+import org.folio.entlinks.config.properties.CacheSpecProperties;
+import org.folio.entlinks.config.properties.ConsortiumTopologyCacheProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ConsortiumTopologyCacheTest {
+
+  private static final String CACHE_NAME = "test-cache";
+  private static final String MEMBER_TENANT = "member";
+
+  private final AtomicLong time = new AtomicLong();
+  private final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+  private final ConsortiumTopologyCacheProperties properties = new ConsortiumTopologyCacheProperties();
+  private final CacheSpecProperties cacheSpecProperties = new CacheSpecProperties();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private @Mock FolioExecutionContext context;
+
+  private ConsortiumTopologyCache topologyCache;
+
+  @BeforeEach
+  void setUp() {
+    var spec = new CacheSpecProperties.CacheSpec();
+    spec.setRefreshAfter(Duration.ofHours(2));
+    spec.setTtl(Duration.ofHours(3));
+    cacheSpecProperties.setSpecs(Map.of(CACHE_NAME, spec));
+    properties.setNegativeTtl(Duration.ofMinutes(1));
+    var cacheFactory = new TenantCacheFactory(cacheSpecProperties, context, cacheManager, meterRegistry, time::get,
+      null);
+    topologyCache = new ConsortiumTopologyCache(properties, cacheFactory, context);
+    lenient().when(context.getTenantId()).thenReturn(TENANT_ID);
+  }
+
+  @Test
+  void create_positive_registerCacheInCacheManager() {
+    var cache = topologyCache.create(CACHE_NAME, tenantId -> Optional.of(tenantId + "-central"));
+
+    assertThat(cache.get(topologyCache.key(MEMBER_TENANT))).contains(MEMBER_TENANT + "-central");
+    assertThat(cacheManager.getCacheNames()).contains(CACHE_NAME);
+    assertThat(cacheManager.getCache(CACHE_NAME).get(TENANT_ID + ":" + MEMBER_TENANT)).isNotNull();
+  }
+
+  @Test
+  void create_positive_exposeCacheMetrics() {
+    var cache = topologyCache.create(CACHE_NAME, Optional::of);
+    var key = topologyCache.key(MEMBER_TENANT);
+
+    cache.get(key);
+    cache.get(key);
+
+    assertThat(meterRegistry.get("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+      .functionCounter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+      .functionCounter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void create_positive_expireEmptyValuesAfterNegativeTtl() {
+    var loads = new AtomicInteger();
+    var cache = topologyCache.create(CACHE_NAME, tenantId -> {
+      loads.incrementAndGet();
+      return MEMBER_TENANT.equals(tenantId) ? List.<String>of() : List.of("tenant");
+    });
+    var emptyKey = topologyCache.key(MEMBER_TENANT);
+    var key = topologyCache.key(TENANT_ID);
+
+    cache.get(emptyKey);
+    cache.get(key);
+    time.addAndGet(Duration.ofMinutes(2).toNanos());
+    cache.get(emptyKey);
+    cache.get(key);
+
+    assertThat(loads).hasValue(3);
+  }
+
+  @Test
+  void invalidate_positive_removeEntriesRequestedByOrForTenant() {
+    var cache = topologyCache.create(CACHE_NAME, Optional::of);
+    cache.put(TENANT_ID + ":" + MEMBER_TENANT, Optional.of("1"));
+    cache.put(MEMBER_TENANT + ":" + TENANT_ID, Optional.of("2"));
+    cache.put(TENANT_ID + ":other", Optional.of("3"));
+
+    topologyCache.invalidate(MEMBER_TENANT);
+
+    assertThat(cache.asMap()).containsOnlyKeys(TENANT_ID + ":other");
+  }
+}
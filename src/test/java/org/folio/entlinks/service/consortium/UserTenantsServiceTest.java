@@ -2,20 +2,28 @@ package org.folio.entlinks.service.consortium;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.folio.support.base.TestConstants.TENANT_ID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Optional;
 import org.folio.entlinks.client.UserTenantsClient;
+import org.folio.entlinks.config.cache.TenantCacheFactory;
+import org.folio.entlinks.config.properties.CacheSpecProperties;
+import org.folio.entlinks.config.properties.ConsortiumTopologyCacheProperties;
+import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -23,10 +31,20 @@ class UserTenantsServiceTest {
 
   @Mock
   private UserTenantsClient userTenantsClient;
+  @Mock
+  private FolioExecutionContext context;
 
-  @InjectMocks
   private UserTenantsService userTenantsService;
 
+  @BeforeEach
+  void setUp() {
+    lenient().when(context.getTenantId()).thenReturn(TENANT_ID);
+    var cacheFactory = new TenantCacheFactory(new CacheSpecProperties(), context, new ConcurrentMapCacheManager(),
+      new SimpleMeterRegistry());
+    var topologyCache = new ConsortiumTopologyCache(new ConsortiumTopologyCacheProperties(), cacheFactory, context);
+    userTenantsService = new UserTenantsService(userTenantsClient, topologyCache);
+  }
+
   @Test
   void testGetConsortiumIdWithBlankTenantId() {
     String tenantId = "";
@@ -130,4 +148,19 @@ class UserTenantsServiceTest {
     assertEquals(tenantId, consortiumCentralTenant.get());
     verify(userTenantsClient).getUserTenants(tenantId);
   }
+
+  @Test
+  void testGetCentralTenantIsCached() {
+    String tenantId = "memberTenant";
+    var userTenant = new UserTenantsClient.UserTenant("centralTenant", "consortium123");
+
+    when(userTenantsClient.getUserTenants(tenantId)).thenReturn(
+        new UserTenantsClient.UserTenants(singletonList(userTenant)));
+
+    userTenantsService.getCentralTenant(tenantId);
+    Optional<String> centralTenant = userTenantsService.getCentralTenant(tenantId);
+
+    assertEquals(Optional.of("centralTenant"), centralTenant);
+    verify(userTenantsClient).getUserTenants(tenantId);
+  }
 }
@@ -16,8 +16,8 @@ import java.util.List;
 import org.folio.entlinks.domain.entity.AuthorityDataStat;
 import org.folio.entlinks.exception.FolioIntegrationException;
 import org.folio.entlinks.service.consortium.ConsortiumTenantsService;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.Propagation;
 import org.folio.entlinks.service.links.AuthorityDataStatService;
-import org.folio.spring.service.SystemUserScopedExecutionService;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,7 +31,7 @@ class ConsortiumAuthorityDataStatsPropagationServiceTest {
 
   private @Mock AuthorityDataStatService authorityDataStatService;
   private @Mock ConsortiumTenantsService tenantsService;
-  private @Mock SystemUserScopedExecutionService executionService;
+  private @Mock ConsortiumPropagationScheduler propagationScheduler;
   private @InjectMocks ConsortiumAuthorityDataStatsPropagationService propagationService;
 
   @Test
@@ -42,7 +42,7 @@ class ConsortiumAuthorityDataStatsPropagationServiceTest {
     propagationService.propagate(stats, CREATE, TENANT_ID);
 
     verify(tenantsService).getConsortiumTenants(TENANT_ID);
-    verify(executionService, times(3)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(3)).schedule(any(), any());
     verify(authorityDataStatService, times(3)).createInBatch(stats);
   }
 
@@ -67,15 +67,15 @@ class ConsortiumAuthorityDataStatsPropagationServiceTest {
     propagationService.propagate(stats, CREATE, TENANT_ID);
 
     verify(tenantsService, times(1)).getConsortiumTenants(any());
-    verify(executionService, times(0)).executeAsyncSystemUserScoped(any(), any());
+    verify(propagationScheduler, times(0)).schedule(any(), any());
     verify(authorityDataStatService, times(0)).createInBatch(any());
   }
 
   private void doMocks() {
     when(tenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(List.of("t1", "t2", "t3"));
     doAnswer(invocation -> {
-      ((Runnable) invocation.getArgument(1)).run();
+      invocation.getArgument(1, Propagation.class).run();
       return null;
-    }).when(executionService).executeAsyncSystemUserScoped(any(), any());
+    }).when(propagationScheduler).schedule(any(), any());
   }
 }
@@ -0,0 +1,185 @@
+package org.folio.entlinks.service.consortium.propagation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationScheduler.LAG_METRIC;
+import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationScheduler.QUEUE_SIZE_METRIC;
+import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.PropagationType.CREATE;
+import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.PropagationType.DELETE;
+import static org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.PropagationType.UPDATE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import org.folio.entlinks.config.properties.ConsortiumPropagationProperties;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.Propagation;
+import org.folio.entlinks.service.consortium.propagation.ConsortiumPropagationService.PropagationType;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ConsortiumPropagationSchedulerTest {
+
+  private static final String TENANT_1 = "tenant1";
+  private static final String TENANT_2 = "tenant2";
+  private static final String AUTHORITY = "AuthorityPropagationService";
+  private static final String SOURCE_FILE = "SourceFilePropagationService";
+
+  private final List<Runnable> workers = new ArrayList<>();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ConsortiumPropagationProperties properties = new ConsortiumPropagationProperties();
+  private final TestPropagationService authorityService = new AuthorityPropagationService();
+  private final TestPropagationService sourceFileService = new SourceFilePropagationService();
+
+  private @Mock SystemUserScopedExecutionService executionService;
+
+  private ConsortiumPropagationScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    properties.setBatchSize(2);
+    lenient().when(executionService.executeSystemUserScoped(any(), any())).thenAnswer(invocation ->
+      invocation.getArgument(1, Callable.class).call());
+    scheduler = new ConsortiumPropagationScheduler(executionService, workers::add,
+      properties, meterRegistry);
+  }
+
+  @Test
+  void schedule_positive_limitWorkersPerTenant() {
+    scheduler.schedule(TENANT_1, propagation(authorityService, CREATE, "a1"));
+    scheduler.schedule(TENANT_1, propagation(authorityService, CREATE, "a2"));
+    scheduler.schedule(TENANT_2, propagation(authorityService, CREATE, "a3"));
+
+    assertThat(workers).hasSize(2);
+    assertThat(meterRegistry.get(QUEUE_SIZE_METRIC).gauge().value()).isEqualTo(3);
+  }
+
+  @Test
+  void schedule_positive_batchConsecutivePropagationsOfSameType() {
+    scheduler.schedule(TENANT_1, propagation(authorityService, UPDATE, "a1"));
+    scheduler.schedule(TENANT_1, propagation(authorityService, UPDATE, "a2"));
+    scheduler.schedule(TENANT_1, propagation(sourceFileService, UPDATE, "s1"));
+    scheduler.schedule(TENANT_1, propagation(authorityService, UPDATE, "a3"));
+    scheduler.schedule(TENANT_1, propagation(authorityService, DELETE, "a4"));
+
+    runWorkers();
+
+    assertThat(authorityService.executed).containsExactly("UPDATE[a1, a2]", "UPDATE:a3", "DELETE:a4");
+    assertThat(sourceFileService.executed).containsExactly("UPDATE:s1");
+    verify(executionService, times(4)).executeSystemUserScoped(eq(TENANT_1), any());
+    assertThat(meterRegistry.get(QUEUE_SIZE_METRIC).gauge().value()).isZero();
+    assertThat(meterRegistry.get(LAG_METRIC).tag("entityType", AUTHORITY).timer().count()).isEqualTo(4);
+    assertThat(meterRegistry.get(LAG_METRIC).tag("entityType", SOURCE_FILE).timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void schedule_positive_limitBatchSize() {
+    scheduler.schedule(TENANT_1, propagation(authorityService, UPDATE, "a1", "a2"));
+    scheduler.schedule(TENANT_1, propagation(authorityService, UPDATE, "a3"));
+
+    runWorkers();
+
+    assertThat(authorityService.executed).containsExactly("UPDATE[a1, a2]", "UPDATE:a3");
+    verify(executionService, times(2)).executeSystemUserScoped(eq(TENANT_1), any());
+  }
+
+  @Test
+  void schedule_positive_propagateOneByOneByDefault() {
+    scheduler.schedule(TENANT_1, propagation(sourceFileService, UPDATE, "s1"));
+    scheduler.schedule(TENANT_1, propagation(sourceFileService, UPDATE, "s2"));
+
+    runWorkers();
+
+    assertThat(sourceFileService.executed).containsExactly("UPDATE:s1", "UPDATE:s2");
+    verify(executionService).executeSystemUserScoped(eq(TENANT_1), any());
+  }
+
+  @Test
+  void schedule_positive_continueBatchWhenPropagationFailed() {
+    sourceFileService.failed.add("s1");
+    scheduler.schedule(TENANT_1, propagation(sourceFileService, UPDATE, "s1"));
+    scheduler.schedule(TENANT_1, propagation(sourceFileService, UPDATE, "s2"));
+
+    runWorkers();
+
+    assertThat(sourceFileService.executed).containsExactly("UPDATE:s1", "UPDATE:s2");
+  }
+
+  @Test
+  void schedule_positive_propagateOneByOneWhenBatchFailed() {
+    authorityService.failed.add("a1");
+    scheduler.schedule(TENANT_1, propagation(authorityService, CREATE, "a1"));
+    scheduler.schedule(TENANT_1, propagation(authorityService, CREATE, "a2"));
+
+    runWorkers();
+
+    assertThat(authorityService.executed).containsExactly("CREATE[a1, a2]", "CREATE:a1", "CREATE:a2");
+  }
+
+  @Test
+  void schedule_positive_startNewWorkerAfterPreviousFinished() {
+    scheduler.schedule(TENANT_1, propagation(authorityService, CREATE, "a1"));
+    runWorkers();
+
+    scheduler.schedule(TENANT_1, propagation(authorityService, CREATE, "a2"));
+
+    assertThat(workers).hasSize(1);
+  }
+
+  private static Propagation<String> propagation(TestPropagationService service, PropagationType propagationType,
+                                                 String... entities) {
+    return new Propagation<>(service, propagationType, List.of(entities));
+  }
+
+  private void runWorkers() {
+    var toRun = new ArrayList<>(workers);
+    workers.clear();
+    toRun.forEach(Runnable::run);
+  }
+
+  private static class TestPropagationService extends ConsortiumPropagationService<String> {
+
+    final List<String> executed = new ArrayList<>();
+    final Set<String> failed = new HashSet<>();
+
+    TestPropagationService() {
+      super(null, null);
+    }
+
+    @Override
+    protected void doPropagation(String entity, PropagationType propagationType) {
+      executed.add(propagationType + ":" + entity);
+      if (failed.contains(entity)) {
+        throw new IllegalStateException("test");
+      }
+    }
+  }
+
+  private static final class AuthorityPropagationService extends TestPropagationService {
+
+    @Override
+    protected void doBatchPropagation(Collection<String> entities, PropagationType propagationType) {
+      executed.add(propagationType + entities.toString());
+      if (entities.stream().anyMatch(failed::contains)) {
+        throw new IllegalStateException("test");
+      }
+    }
+  }
+
+  private static final class SourceFilePropagationService extends TestPropagationService {
+  }
+}
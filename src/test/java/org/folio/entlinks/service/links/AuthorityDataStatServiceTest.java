@@ -4,29 +4,33 @@ import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus.ACTUAL;
 import static org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus.ERROR;
+import static org.folio.support.TestDataUtils.report;
 import static org.folio.support.TestDataUtils.reports;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.sql.Timestamp;
+import java.time.OffsetDateTime;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Consumer;
-import org.assertj.core.api.SoftAssertions;
+import org.folio.entlinks.domain.dto.LinkAction;
 import org.folio.entlinks.domain.dto.LinkUpdateReport;
+import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.AuthorityDataStat;
-import org.folio.entlinks.domain.entity.AuthorityDataStatStatus;
-import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
-import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
+import org.folio.entlinks.domain.entity.AuthorityDataStatAction;
 import org.folio.entlinks.domain.repository.AuthorityDataStatRepository;
+import org.folio.entlinks.utils.DateUtils;
 import org.folio.spring.testing.type.UnitTest;
-import org.folio.support.TestDataUtils;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -34,6 +38,8 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -51,16 +57,35 @@ class AuthorityDataStatServiceTest {
   private AuthorityDataStatService service;
 
   @Captor
-  private ArgumentCaptor<List<InstanceAuthorityLink>> linksCaptor;
+  private ArgumentCaptor<List<Long>> linkIdsCaptor;
   @Captor
-  private ArgumentCaptor<AuthorityDataStat> dataStatCaptor;
-
-  @BeforeEach
-  void prepareMocks() {
-    when(linkingService.getLinksByIds(anyList()))
-      .thenReturn(emptyList());
-    when(statRepository.findById(any()))
-      .thenReturn(Optional.of(new AuthorityDataStat()));
+  private ArgumentCaptor<Timestamp> timestampCaptor;
+
+  @Test
+  void fetchDataStats_positive_seekFromId() {
+    var fromDate = OffsetDateTime.now().minusDays(1);
+    var toDate = OffsetDateTime.now();
+    var toId = UUID.randomUUID();
+    var pageable = PageRequest.of(0, 5, Sort.by(Sort.Order.desc("startedAt"), Sort.Order.desc("id")));
+    var expected = List.of(new AuthorityDataStat());
+    when(statRepository.findActualByActionAndDate(AuthorityDataStatAction.UPDATE_HEADING,
+      DateUtils.toTimestamp(fromDate), DateUtils.toTimestamp(toDate), toId, pageable)).thenReturn(expected);
+
+    var actual = service.fetchDataStats(fromDate, toDate, toId, LinkAction.UPDATE_HEADING, 5);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void fetchDataStats_positive_noSeekId() {
+    var fromDate = OffsetDateTime.now().minusDays(1);
+    var toDate = OffsetDateTime.now();
+
+    service.fetchDataStats(fromDate, toDate, null, LinkAction.UPDATE_HEADING, 5);
+
+    verify(statRepository).findActualByActionAndDate(eq(AuthorityDataStatAction.UPDATE_HEADING),
+      eq(DateUtils.toTimestamp(fromDate)), eq(DateUtils.toTimestamp(toDate)),
+      eq(UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff")), any());
   }
 
   @Test
@@ -68,19 +93,11 @@ class AuthorityDataStatServiceTest {
     var jobId = UUID.randomUUID();
     var reports = reports(jobId);
 
-    when(linkingService.getLinksByIds(anyList())).thenReturn(TestDataUtils.links(2, REPORT_ERROR));
-
-    service.updateForReports(jobId, reports);
-
-    verify(linkingService).saveAll(eq(reports.get(0).getInstanceId()), linksCaptor.capture());
-    var links = linksCaptor.getValue();
-    assertThat(links)
-      .anySatisfy(linkAsserter(ACTUAL, null));
+    service.updateForReports(reports);
 
-    verify(linkingService).saveAll(eq(reports.get(1).getInstanceId()), linksCaptor.capture());
-    links = linksCaptor.getValue();
-    assertThat(links)
-      .anySatisfy(linkAsserter(ACTUAL, null));
+    verify(linkingService).updateStatus(linkIdsCaptor.capture(), eq(ACTUAL), isNull());
+    assertThat(linkIdsCaptor.getValue())
+      .containsExactlyElementsOf(linkIds(reports));
   }
 
   @Test
@@ -88,124 +105,134 @@ class AuthorityDataStatServiceTest {
     var jobId = UUID.randomUUID();
     var reports = reports(jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR);
 
-    when(linkingService.getLinksByIds(anyList())).thenReturn(TestDataUtils.links(2));
+    service.updateForReports(reports);
 
-    service.updateForReports(jobId, reports);
-
-    verify(linkingService).saveAll(eq(reports.get(0).getInstanceId()), linksCaptor.capture());
-    var links = linksCaptor.getValue();
-    assertThat(links)
-      .anySatisfy(linkAsserter(ERROR, REPORT_ERROR));
-
-    verify(linkingService).saveAll(eq(reports.get(1).getInstanceId()), linksCaptor.capture());
-    links = linksCaptor.getValue();
-    assertThat(links)
-      .anySatisfy(linkAsserter(ERROR, REPORT_ERROR));
+    verify(linkingService).updateStatus(linkIdsCaptor.capture(), eq(ERROR), eq(REPORT_ERROR));
+    assertThat(linkIdsCaptor.getValue())
+      .containsExactlyElementsOf(linkIds(reports));
   }
 
   @Test
-  void updateForReports_positive_updateStatsData_inProgress() {
-    var jobId = UUID.randomUUID();
-    var failReports = reports(jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR);
-    var successReports = reports(jobId);
+  void updateForReports_positive_updateLinks_groupedAcrossJobs() {
+    var successReports = reports(UUID.randomUUID());
+    var failReports = reports(UUID.randomUUID(), LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR);
     var reports = new LinkedList<>(successReports);
     reports.addAll(failReports);
-
-    mockDataStat(reports.size() + 1);
-
-    service.updateForReports(jobId, reports);
-
-    verify(statRepository).save(dataStatCaptor.capture());
-    var dataStat = dataStatCaptor.getValue();
-
-    assertDataStat(dataStat,
-      successReports.size(), failReports.size(), AuthorityDataStatStatus.IN_PROGRESS);
+    var failedReportOfSuccessJob = report(successReports.get(0).getTenant(), successReports.get(0).getJobId(),
+      LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR);
+    reports.add(failedReportOfSuccessJob);
+
+    service.updateForReports(reports);
+
+    verify(linkingService).updateStatus(linkIdsCaptor.capture(), eq(ACTUAL), isNull());
+    assertThat(linkIdsCaptor.getValue())
+      .containsExactlyElementsOf(linkIds(successReports));
+    verify(linkingService).updateStatus(linkIdsCaptor.capture(), eq(ERROR), eq(REPORT_ERROR));
+    assertThat(linkIdsCaptor.getValue())
+      .containsExactlyElementsOf(linkIds(List.of(failReports.get(0), failReports.get(1), failedReportOfSuccessJob)));
   }
 
   @Test
-  void updateForReports_positive_updateStatsData_completeSuccess() {
+  void updateForReports_positive_updateLinks_latestReportWins() {
     var jobId = UUID.randomUUID();
-    var reports = reports(jobId);
-
-    mockDataStat(reports.size());
+    var successReport = reports(jobId).get(0);
+    var failReport = report(successReport.getTenant(), jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR)
+      .linkIds(successReport.getLinkIds());
 
-    service.updateForReports(jobId, reports);
+    service.updateForReports(List.of(successReport, failReport));
 
-    verify(statRepository).save(dataStatCaptor.capture());
-    var dataStat = dataStatCaptor.getValue();
+    verify(linkingService).updateStatus(linkIdsCaptor.capture(), eq(ERROR), eq(REPORT_ERROR));
+    assertThat(linkIdsCaptor.getValue())
+      .containsExactlyElementsOf(linkIds(List.of(successReport)));
+    verify(linkingService, never()).updateStatus(anyCollection(), eq(ACTUAL), any());
+  }
 
-    assertDataStat(dataStat, reports.size(), 0, AuthorityDataStatStatus.COMPLETED_SUCCESS);
+  @Test
+  void updateForReports_positive_updateAuthorityLinks_whenNoLinkIds() {
+    var jobId = UUID.randomUUID();
+    var authorityId = UUID.randomUUID();
+    var reports = reports(jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR).stream()
+      .map(report -> report.linkIds(emptyList()))
+      .toList();
+
+    when(statRepository.findById(jobId)).thenReturn(Optional.of(AuthorityDataStat.builder()
+      .id(jobId)
+      .authority(Authority.builder().id(authorityId).build())
+      .lbTotal(2)
+      .build()));
+
+    service.updateForReports(reports);
+
+    verify(linkingService).updateStatus(authorityId, ERROR, REPORT_ERROR);
+    verify(linkingService, never()).updateStatus(anyCollection(), any(), any());
+    verify(statRepository).incrementLinksCounters(eq(jobId), eq(0), eq(0), eq(true), any(Timestamp.class));
   }
 
   @Test
-  void updateForReports_positive_updateStatsData_completeWithErrors() {
+  void updateForReports_positive_updateStatsData_incrementCounters() {
     var jobId = UUID.randomUUID();
     var failReports = reports(jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR);
     var successReports = reports(jobId);
     var reports = new LinkedList<>(successReports);
     reports.addAll(failReports);
 
-    mockDataStat(reports.size());
+    service.updateForReports(reports);
 
-    service.updateForReports(jobId, reports);
+    verify(statRepository).incrementLinksCounters(eq(jobId), eq(successReports.size()), eq(failReports.size()),
+      eq(false), timestampCaptor.capture());
+    assertThat(timestampCaptor.getValue()).isAfterOrEqualTo(testStartTime);
+  }
+
+  @Test
+  void updateForReports_positive_updateStatsData_perJob() {
+    var job1Id = UUID.randomUUID();
+    var job2Id = UUID.randomUUID();
+    var reports = new LinkedList<>(reports(job1Id));
+    reports.addAll(reports(job2Id, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR));
 
-    verify(statRepository).save(dataStatCaptor.capture());
-    var dataStat = dataStatCaptor.getValue();
+    service.updateForReports(reports);
 
-    assertDataStat(dataStat,
-      successReports.size(), failReports.size(), AuthorityDataStatStatus.COMPLETED_WITH_ERRORS);
+    verify(statRepository).incrementLinksCounters(eq(job1Id), eq(2), eq(0), eq(false), any(Timestamp.class));
+    verify(statRepository).incrementLinksCounters(eq(job2Id), eq(0), eq(2), eq(false), any(Timestamp.class));
   }
 
   @Test
-  void updateForReports_positive_updateStatsData_completeFail() {
+  void updateForReports_positive_updateStatsData_skipWhenNothingToCount() {
     var jobId = UUID.randomUUID();
-    var reports = reports(jobId, LinkUpdateReport.StatusEnum.FAIL, REPORT_ERROR);
+    var reports = reports(jobId).stream()
+      .map(report -> report.linkIds(emptyList()))
+      .toList();
 
-    mockDataStat(reports.size());
+    when(statRepository.findById(jobId)).thenReturn(Optional.empty());
 
-    service.updateForReports(jobId, reports);
+    service.updateForReports(reports);
 
-    verify(statRepository).save(dataStatCaptor.capture());
-    var dataStat = dataStatCaptor.getValue();
-
-    assertDataStat(dataStat, 0, reports.size(), AuthorityDataStatStatus.FAILED);
+    verify(statRepository, never()).incrementLinksCounters(any(), anyInt(), anyInt(), anyBoolean(), any());
   }
 
-  private Consumer<InstanceAuthorityLink> linkAsserter(InstanceAuthorityLinkStatus status, String errorCause) {
-    return link -> {
-      assertThat(link.getStatus()).isEqualTo(status);
-      assertThat(link.getErrorCause()).isEqualTo(errorCause);
-    };
+  @Test
+  void updateProgress_positive() {
+    var jobId = UUID.randomUUID();
+
+    service.updateProgress(jobId, 5);
+
+    verify(statRepository).incrementDeletedCounter(eq(jobId), eq(5), any(Timestamp.class));
   }
 
-  private void assertDataStat(AuthorityDataStat dataStat, int updated, int failed, AuthorityDataStatStatus status) {
-    var softAssertions = new SoftAssertions();
-
-    softAssertions.assertThat(dataStat.getLbUpdated())
-      .isEqualTo(updated);
-    softAssertions.assertThat(dataStat.getLbFailed())
-      .isEqualTo(failed);
-    softAssertions.assertThat(dataStat.getFailCause())
-      .isBlank();
-    softAssertions.assertThat(dataStat.getStatus())
-      .isEqualTo(status);
-    if (status.equals(AuthorityDataStatStatus.IN_PROGRESS)) {
-      softAssertions.assertThat(dataStat.getCompletedAt())
-        .isNull();
-    } else {
-      softAssertions.assertThat(dataStat.getCompletedAt())
-        .isAfter(testStartTime);
-    }
-
-    softAssertions.assertAll();
+  @Test
+  void fail_positive_abbreviatesFailCause() {
+    var jobId = UUID.randomUUID();
+
+    service.fail(jobId, "e".repeat(300));
+
+    verify(statRepository).updateFailed(eq(jobId), argThat(cause -> cause.length() == 255), any(Timestamp.class));
   }
 
-  private void mockDataStat(int lbTotal) {
-    when(statRepository.findById(any()))
-      .thenReturn(Optional.of(AuthorityDataStat.builder()
-        .status(AuthorityDataStatStatus.IN_PROGRESS)
-        .lbTotal(lbTotal)
-        .build()));
+  private List<Long> linkIds(List<LinkUpdateReport> reports) {
+    return reports.stream()
+      .flatMap(report -> report.getLinkIds().stream())
+      .map(Integer::longValue)
+      .toList();
   }
 
 }
@@ -16,8 +16,10 @@ import org.folio.entlinks.domain.dto.SubfieldModification;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
 import org.folio.entlinks.domain.repository.LinkingRulesRepository;
 import org.folio.entlinks.exception.LinkingRuleNotFoundException;
+import org.folio.entlinks.service.links.model.LinkingRuleIndex;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -46,6 +48,11 @@ class InstanceAuthorityLinkingRulesServiceTest {
   private @Autowired InstanceAuthorityLinkingRulesService service;
   private @Autowired CacheManager cacheManager;
 
+  @BeforeEach
+  void setUp() {
+    getCache().clear();
+  }
+
   @Test
   void getLinkingRules_positive() {
     var rule = InstanceAuthorityLinkingRule.builder()
@@ -76,18 +83,37 @@ class InstanceAuthorityLinkingRulesServiceTest {
       .subfieldsExistenceValidations(Map.of("a", true))
       .subfieldModifications(List.of(new SubfieldModification().target("a").source("b")))
       .build();
+    var otherRule = InstanceAuthorityLinkingRule.builder()
+      .id(2)
+      .bibField("110")
+      .authorityField("110")
+      .authoritySubfields(new char[] {'a'})
+      .build();
 
-    when(repository.findByAuthorityField(authorityField)).thenReturn(List.of(rule));
+    when(repository.findAll(any(Sort.class))).thenReturn(List.of(rule, otherRule));
 
     var actual = service.getLinkingRulesByAuthorityField(authorityField);
 
     assertThat(actual)
-      .containsExactlyInAnyOrder(rule);
+      .containsExactly(rule);
+    assertThat(service.getLinkingRulesByAuthorityField("110"))
+      .containsExactly(otherRule);
 
-    assertThat(getCache().get(TENANT_ID + ":" + authorityField))
-      .as("Rule cached")
+    verify(repository).findAll(any(Sort.class));
+    assertThat(getCache().get(TENANT_ID))
+      .as("Rules index cached")
       .extracting(Cache.ValueWrapper::get)
-      .isEqualTo(actual);
+      .isInstanceOf(LinkingRuleIndex.class);
+  }
+
+  @Test
+  void getLinkingRuleIndex_negative_emptyRulesNotCached() {
+    when(repository.findAll(any(Sort.class))).thenReturn(Collections.emptyList());
+
+    var actual = service.getLinkingRuleIndex();
+
+    assertThat(actual.isEmpty()).isTrue();
+    assertThat(getCache().get(TENANT_ID)).as("Empty rules not cached").isNull();
   }
 
   @Test
@@ -0,0 +1,147 @@
+package org.folio.entlinks.service.links;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.support.TestDataUtils.AUTHORITY_IDS;
+import static org.folio.support.TestDataUtils.AuthorityTestData.authority;
+import static org.folio.support.TestDataUtils.AuthorityTestData.authoritySourceFile;
+import static org.folio.support.base.TestConstants.TENANT_ID;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.entlinks.domain.repository.AdvisoryLockRepository;
+import org.folio.entlinks.domain.repository.InstanceLinkRepository;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.integration.XOkapiHeaders;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.spring.testing.extension.DatabaseCleanup;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.folio.support.DatabaseHelper;
+import org.folio.support.TestDataUtils.Link;
+import org.folio.support.base.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@IntegrationTest
+@DatabaseCleanup(tables = {
+  DatabaseHelper.INSTANCE_AUTHORITY_LINK_TABLE,
+  DatabaseHelper.AUTHORITY_LINK_COUNT_TABLE,
+  DatabaseHelper.AUTHORITY_TABLE,
+  DatabaseHelper.AUTHORITY_SOURCE_FILE_CODE_TABLE,
+  DatabaseHelper.AUTHORITY_SOURCE_FILE_TABLE})
+class InstanceAuthorityLinkingServiceIT extends IntegrationTestBase {
+
+  private static final int CONCURRENT_UPDATES_COUNT = 20;
+
+  @Autowired
+  private InstanceAuthorityLinkingService linkingService;
+  @Autowired
+  private InstanceLinkRepository linkRepository;
+  @Autowired
+  private AdvisoryLockRepository lockRepository;
+  @Autowired
+  private FolioModuleMetadata moduleMetadata;
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeAll
+  static void prepare() {
+    setUpTenant();
+  }
+
+  @BeforeEach
+  void setup() {
+    setUpTenant();
+    databaseHelper.saveAuthoritySourceFile(TENANT_ID, authoritySourceFile(0));
+    for (int i = 0; i < AUTHORITY_IDS.length; i++) {
+      databaseHelper.saveAuthority(TENANT_ID, authority(i, 0));
+    }
+  }
+
+  @Test
+  void updateLinks_positive_concurrentUpdatesOfSameInstanceKeepOneOfLinkSets() throws Exception {
+    for (int i = 0; i < CONCURRENT_UPDATES_COUNT; i++) {
+      var instanceId = randomUUID();
+      var firstLinks = List.of(Link.of(0, 0).toEntity(instanceId), Link.of(1, 1).toEntity(instanceId));
+      var secondLinks = List.of(Link.of(2, 2).toEntity(instanceId), Link.of(3, 3).toEntity(instanceId));
+      var barrier = new CyclicBarrier(2);
+
+      var first = CompletableFuture.runAsync(() -> updateLinksAfter(barrier, instanceId, firstLinks));
+      var second = CompletableFuture.runAsync(() -> updateLinksAfter(barrier, instanceId, secondLinks));
+      CompletableFuture.allOf(first, second).get(30, TimeUnit.SECONDS);
+
+      var saved = authorityIds(inTenant(() -> linkRepository.findByInstanceId(instanceId)));
+      assertThat(saved).isIn(authorityIds(firstLinks), authorityIds(secondLinks));
+    }
+  }
+
+  @Test
+  void updateLinks_positive_waitForConcurrentUpdateOfSameInstance() throws Exception {
+    var instanceId = randomUUID();
+    var links = List.of(Link.of(0, 0).toEntity(instanceId));
+    var lockAcquired = new CyclicBarrier(2);
+    var lockReleased = new CompletableFuture<Void>();
+
+    final var lockHolder = CompletableFuture.runAsync(() -> inTenant(() ->
+      new TransactionTemplate(transactionManager).execute(status -> {
+        lockRepository.lockForTransaction("instance-links", instanceId.toString());
+        await(lockAcquired);
+        return lockReleased.join();
+      })));
+    await(lockAcquired);
+    var update = CompletableFuture.runAsync(() -> inTenant(() -> {
+      linkingService.updateLinks(instanceId, links);
+      return null;
+    }));
+
+    TimeUnit.MILLISECONDS.sleep(500);
+    assertThat(update).isNotDone();
+
+    lockReleased.complete(null);
+    CompletableFuture.allOf(lockHolder, update).get(30, TimeUnit.SECONDS);
+    assertThat(authorityIds(inTenant(() -> linkRepository.findByInstanceId(instanceId))))
+      .isEqualTo(authorityIds(links));
+  }
+
+  private void updateLinksAfter(CyclicBarrier barrier, UUID instanceId, List<InstanceAuthorityLink> links) {
+    inTenant(() -> {
+      await(barrier);
+      linkingService.updateLinks(instanceId, links);
+      return null;
+    });
+  }
+
+  private Set<UUID> authorityIds(List<InstanceAuthorityLink> links) {
+    return links.stream()
+      .map(link -> link.getAuthority().getId())
+      .collect(Collectors.toSet());
+  }
+
+  private <T> T inTenant(Supplier<T> action) {
+    Map<String, Collection<String>> headers = Map.of(XOkapiHeaders.TENANT, List.of(TENANT_ID));
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, headers)) {
+      return action.get();
+    }
+  }
+
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await(30, TimeUnit.SECONDS);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
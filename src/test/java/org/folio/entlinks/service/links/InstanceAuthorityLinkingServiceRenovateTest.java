@@ -20,7 +20,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -36,6 +36,7 @@ import org.folio.entlinks.exception.DeletedLinkingAuthorityException;
 import org.folio.entlinks.exception.RequestBodyValidationException;
 import org.folio.entlinks.integration.kafka.EventProducer;
 import org.folio.entlinks.service.authority.AuthorityService;
+import org.folio.entlinks.service.links.model.LinkingRuleIndex;
 import org.folio.spring.testing.type.UnitTest;
 import org.folio.support.TestDataUtils;
 import org.folio.support.TestDataUtils.Link;
@@ -85,9 +86,9 @@ class InstanceAuthorityLinkingServiceRenovateTest {
     final var existedLinks = Collections.<InstanceAuthorityLink>emptyList();
     final var incomingLinks = links(instanceId, Link.of(0, 0), Link.of(1, 1));
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(incomingLinks.stream()
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(incomingLinks.stream()
       .map(InstanceAuthorityLink::getLinkingRule)
-      .toList());
+      .toList()));
     mockAuthorities(incomingLinks);
     when(instanceLinkRepository.findByInstanceId(any(UUID.class))).thenReturn(existedLinks);
     doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
@@ -163,9 +164,9 @@ class InstanceAuthorityLinkingServiceRenovateTest {
       Link.of(3, 2)
     );
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(incomingLinks.stream()
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(incomingLinks.stream()
       .map(InstanceAuthorityLink::getLinkingRule)
-      .toList());
+      .toList()));
     mockAuthorities(incomingLinks);
     when(instanceLinkRepository.findByInstanceId(instanceId)).thenReturn(existedLinks);
     doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
@@ -207,9 +208,9 @@ class InstanceAuthorityLinkingServiceRenovateTest {
       Link.of(3, 3)
     );
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(incomingLinks.stream()
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(incomingLinks.stream()
       .map(InstanceAuthorityLink::getLinkingRule)
-      .toList());
+      .toList()));
     mockAuthorities(incomingLinks);
     when(instanceLinkRepository.findByInstanceId(instanceId)).thenReturn(existedLinks);
     doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
@@ -251,9 +252,9 @@ class InstanceAuthorityLinkingServiceRenovateTest {
       Link.of(3, 2)
     );
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(incomingLinks.stream()
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(incomingLinks.stream()
       .map(InstanceAuthorityLink::getLinkingRule)
-      .toList());
+      .toList()));
     mockAuthorities(incomingLinks);
     when(instanceLinkRepository.findByInstanceId(instanceId)).thenReturn(existedLinks);
     doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
@@ -297,9 +298,9 @@ class InstanceAuthorityLinkingServiceRenovateTest {
       Link.of(3, 2)
     );
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(incomingLinks.stream()
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(incomingLinks.stream()
       .map(InstanceAuthorityLink::getLinkingRule)
-      .toList());
+      .toList()));
     mockAuthorities(incomingLinks);
     when(sourceStorageClient.fetchParsedRecordsInBatch(any()))
         .thenReturn(getAuthorityRecordsCollection(incomingLinks.subList(0, 3)));
@@ -339,9 +340,8 @@ class InstanceAuthorityLinkingServiceRenovateTest {
       Link.of(2, 3),
       Link.of(3, 2)
     );
-    var existingAuthoritiesById = Map.of(TestDataUtils.AUTHORITY_IDS[0], new Authority(),
-        TestDataUtils.AUTHORITY_IDS[1], new Authority());
-    when(authorityService.getAllByIds(anyCollection())).thenReturn(existingAuthoritiesById);
+    when(authorityService.getNotDeletedIds(anyCollection()))
+      .thenReturn(Set.of(TestDataUtils.AUTHORITY_IDS[0], TestDataUtils.AUTHORITY_IDS[1]));
 
     var exception = Assertions.assertThrows(DeletedLinkingAuthorityException.class,
       () -> service.updateLinksWithRenovation(instanceId, incomingLinks));
@@ -371,9 +371,9 @@ class InstanceAuthorityLinkingServiceRenovateTest {
     var linksForInvalidAuthorities = incomingLinks.subList(0, 1);
     var authorityRecordsMock = getAuthorityRecordsCollection(linksForValidAuthorities, linksForInvalidAuthorities);
 
-    when(linkingRulesService.getLinkingRules()).thenReturn(incomingLinks.stream()
+    when(linkingRulesService.getLinkingRuleIndex()).thenReturn(LinkingRuleIndex.of(incomingLinks.stream()
       .map(InstanceAuthorityLink::getLinkingRule)
-      .toList());
+      .toList()));
     mockAuthorities(incomingLinks, authorityRecordsMock);
     when(instanceLinkRepository.findByInstanceId(instanceId)).thenReturn(existedLinks);
     doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
@@ -412,6 +412,7 @@ class InstanceAuthorityLinkingServiceRenovateTest {
       .map(InstanceAuthorityLink::getAuthority)
       .collect(Collectors.toMap(Authority::getId, Function.identity()));
 
+    when(authorityService.getNotDeletedIds(anyCollection())).thenReturn(authoritiesById.keySet());
     when(authorityService.getAllByIds(anyCollection())).thenReturn(authoritiesById);
     when(sourceStorageClient.fetchParsedRecordsInBatch(any())).thenReturn(authorityRecords);
   }
@@ -1,16 +1,19 @@
 package org.folio.entlinks.service.links;
 
-import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
+import static org.folio.support.TestDataUtils.AUTHORITY_IDS;
 import static org.folio.support.TestDataUtils.links;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,18 +21,22 @@ import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.folio.entlinks.domain.dto.LinkStatus;
-import org.folio.entlinks.domain.entity.Authority;
 import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkStatus;
 import org.folio.entlinks.domain.entity.projection.LinkCountView;
+import org.folio.entlinks.domain.repository.AdvisoryLockRepository;
+import org.folio.entlinks.domain.repository.AuthorityLinkCountRepository;
 import org.folio.entlinks.domain.repository.InstanceLinkRepository;
+import org.folio.entlinks.exception.DeletedLinkingAuthorityException;
 import org.folio.entlinks.service.authority.AuthorityService;
 import org.folio.spring.testing.type.UnitTest;
 import org.folio.support.TestDataUtils.Link;
+import org.folio.tenant.domain.dto.Parameter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -49,6 +56,12 @@ class InstanceAuthorityLinkingServiceTest {
   @Mock
   private InstanceLinkRepository instanceLinkRepository;
 
+  @Mock
+  private AuthorityLinkCountRepository authorityLinkCountRepository;
+
+  @Mock
+  private AdvisoryLockRepository lockRepository;
+
   @Mock
   private AuthorityService authorityService;
 
@@ -108,177 +121,52 @@ class InstanceAuthorityLinkingServiceTest {
   }
 
   @Test
-  void getLinksByIds_positive_foundWhenExist() {
-    var links = links(2);
-    var ids = links.stream()
-      .map(link -> link.getId().intValue())
-      .toList();
-    var longIds = links.stream()
-      .map(InstanceAuthorityLink::getId)
-      .toList();
-
-    when(instanceLinkRepository.findAllById(longIds)).thenReturn(links);
-
-    var result = service.getLinksByIds(ids);
-
-    assertThat(result)
-      .containsOnly(links.get(0), links.get(1));
-  }
-
-  @Test
-  void updateLinks_positive_saveIncomingLinks_whenAnyExist() {
-    final var instanceId = randomUUID();
-    final var existedLinks = Collections.<InstanceAuthorityLink>emptyList();
-    final var incomingLinks = links(instanceId, Link.of(0, 0), Link.of(1, 1));
-
-    when(instanceLinkRepository.findByInstanceId(any(UUID.class))).thenReturn(existedLinks);
-    doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
-    when(instanceLinkRepository.saveAll(any())).thenReturn(emptyList());
-    mockAuthorities(incomingLinks);
-
-    service.updateLinks(instanceId, incomingLinks);
-
-    var saveCaptor = linksCaptor();
-    var deleteCaptor = linksCaptor();
-    verify(instanceLinkRepository).saveAll(saveCaptor.capture());
-    verify(instanceLinkRepository).deleteAllInBatch(deleteCaptor.capture());
-
-    assertThat(saveCaptor.getValue()).hasSize(2)
-      .extracting(link -> link.getLinkingRule().getBibField())
-      .containsOnly(Link.TAGS[0], Link.TAGS[1]);
-
-    assertThat(deleteCaptor.getValue()).isEmpty();
-  }
-
-  @Test
-  void updateLinks_positive_deleteAllLinks_whenIncomingIsEmpty() {
-    final var instanceId = randomUUID();
-    final var existedLinks = links(instanceId, Link.of(0, 0), Link.of(1, 1));
-    final var incomingLinks = Collections.<InstanceAuthorityLink>emptyList();
-
-    when(instanceLinkRepository.findByInstanceId(any(UUID.class))).thenReturn(existedLinks);
-    doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
-    when(instanceLinkRepository.saveAll(any())).thenReturn(emptyList());
-
-    service.updateLinks(instanceId, incomingLinks);
-
-    var saveCaptor = linksCaptor();
-    var deleteCaptor = linksCaptor();
-    verify(instanceLinkRepository).saveAll(saveCaptor.capture());
-    verify(instanceLinkRepository).deleteAllInBatch(deleteCaptor.capture());
-
-    assertThat(saveCaptor.getValue()).isEmpty();
-
-    assertThat(deleteCaptor.getValue()).hasSize(2)
-      .extracting(link -> link.getLinkingRule().getBibField())
-      .containsOnly(Link.TAGS[0], Link.TAGS[1]);
-  }
-
-  @Test
-  void updateLinks_positive_deleteAllExistedAndSaveAllIncomingLinks() {
+  void updateLinks_positive_upsertIncomingAndDeleteOtherLinks() {
     final var instanceId = randomUUID();
-    final var existedLinks = links(instanceId,
+    final var incomingLinks = links(instanceId,
       Link.of(0, 0),
       Link.of(1, 1),
-      Link.of(2, 2),
-      Link.of(3, 3)
-    );
-    final var incomingLinks = links(instanceId,
-      Link.of(0, 1),
-      Link.of(1, 0),
       Link.of(2, 3),
       Link.of(3, 2)
     );
-
-    when(instanceLinkRepository.findByInstanceId(instanceId)).thenReturn(existedLinks);
-    doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
-    when(instanceLinkRepository.saveAll(any())).thenReturn(emptyList());
     mockAuthorities(incomingLinks);
 
     service.updateLinks(instanceId, incomingLinks);
 
-    var saveCaptor = linksCaptor();
-    var deleteCaptor = linksCaptor();
-    verify(instanceLinkRepository).saveAll(saveCaptor.capture());
-    verify(instanceLinkRepository).deleteAllInBatch(deleteCaptor.capture());
-
-    assertThat(saveCaptor.getValue()).hasSize(4)
-      .extracting(link -> link.getLinkingRule().getBibField())
-      .containsOnly(Link.TAGS[0], Link.TAGS[1], Link.TAGS[2], Link.TAGS[3]);
-
-    assertThat(deleteCaptor.getValue()).hasSize(4)
-      .extracting(link -> link.getLinkingRule().getBibField())
-      .containsOnly(Link.TAGS[0], Link.TAGS[1], Link.TAGS[2], Link.TAGS[3]);
+    var inOrder = inOrder(lockRepository, instanceLinkRepository);
+    inOrder.verify(lockRepository).lockForTransaction("instance-links", instanceId.toString());
+    inOrder.verify(instanceLinkRepository).deleteByInstanceIdExcept(instanceId, incomingLinks);
+    inOrder.verify(instanceLinkRepository).upsertAll(incomingLinks);
+    verify(instanceLinkRepository, never()).findByInstanceId(any(UUID.class));
   }
 
   @Test
-  void updateLinks_positive_saveOnlyNewLinks() {
+  void updateLinks_positive_deleteAllLinks_whenIncomingIsEmpty() {
     final var instanceId = randomUUID();
-    final var existedLinks = links(instanceId,
-      Link.of(0, 0),
-      Link.of(1, 1)
-    );
-    final var incomingLinks = links(instanceId,
-      Link.of(0, 0),
-      Link.of(1, 1),
-      Link.of(2, 2),
-      Link.of(3, 3)
-    );
-
-    when(instanceLinkRepository.findByInstanceId(instanceId)).thenReturn(existedLinks);
-    doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
-    when(instanceLinkRepository.saveAll(any())).thenReturn(emptyList());
-    mockAuthorities(incomingLinks);
+    final var incomingLinks = Collections.<InstanceAuthorityLink>emptyList();
 
     service.updateLinks(instanceId, incomingLinks);
 
-    var saveCaptor = linksCaptor();
-    var deleteCaptor = linksCaptor();
-    verify(instanceLinkRepository).saveAll(saveCaptor.capture());
-    verify(instanceLinkRepository).deleteAllInBatch(deleteCaptor.capture());
-
-    assertThat(saveCaptor.getValue()).hasSize(4)
-      .extracting(link -> link.getLinkingRule().getBibField())
-      .containsOnly(Link.TAGS[0], Link.TAGS[1], Link.TAGS[2], Link.TAGS[3]);
-
-    assertThat(deleteCaptor.getValue()).isEmpty();
+    verify(instanceLinkRepository).deleteByInstanceIdExcept(instanceId, incomingLinks);
+    verify(instanceLinkRepository).upsertAll(incomingLinks);
   }
 
   @Test
-  void updateLinks_positive_deleteAndSaveLinks_whenHaveDifference() {
+  void updateLinks_negative_whenAuthoritiesAreDeletedOrMissing() {
     final var instanceId = randomUUID();
-    final var existedLinks = links(instanceId,
-      Link.of(0, 0),
-      Link.of(1, 1),
-      Link.of(2, 2),
-      Link.of(3, 3)
-    );
-    final var incomingLinks = links(instanceId,
-      Link.of(0, 0),
-      Link.of(1, 1),
-      Link.of(2, 3),
-      Link.of(3, 2)
-    );
-
-    when(instanceLinkRepository.findByInstanceId(instanceId)).thenReturn(existedLinks);
-    doNothing().when(instanceLinkRepository).deleteAllInBatch(any());
-    when(instanceLinkRepository.saveAll(any())).thenReturn(emptyList());
-    mockAuthorities(incomingLinks);
-
-    service.updateLinks(instanceId, incomingLinks);
-
-    var saveCaptor = linksCaptor();
-    var deleteCaptor = linksCaptor();
-    verify(instanceLinkRepository).saveAll(saveCaptor.capture());
-    verify(instanceLinkRepository).deleteAllInBatch(deleteCaptor.capture());
-
-    assertThat(saveCaptor.getValue()).hasSize(4)
-      .extracting(link -> link.getLinkingRule().getBibField())
-      .containsOnly(Link.TAGS[0], Link.TAGS[1], Link.TAGS[2], Link.TAGS[3]);
-
-    assertThat(deleteCaptor.getValue()).hasSize(2)
-      .extracting(link -> link.getLinkingRule().getBibField())
-      .containsOnly(Link.TAGS[2], Link.TAGS[3]);
+    final var incomingLinks = links(instanceId, Link.of(0, 0), Link.of(1, 1), Link.of(2, 2));
+    var existingId = AUTHORITY_IDS[0];
+    var deletedId = AUTHORITY_IDS[1];
+    when(authorityService.getNotDeletedIds(anyCollection())).thenReturn(Set.of(existingId));
+
+    var exception = assertThrows(DeletedLinkingAuthorityException.class,
+      () -> service.updateLinks(instanceId, incomingLinks));
+
+    assertThat(exception.getInvalidParameters())
+      .extracting(Parameter::getValue)
+      .containsExactlyInAnyOrder(deletedId.toString(), AUTHORITY_IDS[2].toString());
+    verify(instanceLinkRepository, never()).upsertAll(anyList());
+    verify(lockRepository, never()).lockForTransaction(any(), any());
   }
 
   @Test
@@ -291,7 +179,7 @@ class InstanceAuthorityLinkingServiceTest {
       linkCountView(authorityId2, 15)
     );
 
-    when(instanceLinkRepository.countLinksByAuthorityIds(anySet())).thenReturn(resultSet);
+    when(authorityLinkCountRepository.findByAuthorityIds(anySet())).thenReturn(resultSet);
 
     var authorityIds = Set.of(authorityId1, authorityId2, authorityId3);
     var result = service.countLinksByAuthorityIds(authorityIds);
@@ -302,23 +190,52 @@ class InstanceAuthorityLinkingServiceTest {
   }
 
   @Test
-  void deleteByAuthorityIdIn_positive() {
+  void countLinksByTenantsAndAuthorityIds_positive() {
     var authorityId = randomUUID();
-    var authorityIds = Set.of(authorityId);
+    var tenants = List.of("tenant1", "tenant2");
+    var expected = Map.of("tenant1", Map.of(authorityId, 3));
+    when(authorityLinkCountRepository.countByTenantsAndAuthorityIds(tenants, Set.of(authorityId))).thenReturn(expected);
+
+    var result = service.countLinksByTenantsAndAuthorityIds(tenants, Set.of(authorityId));
+
+    assertThat(result).isEqualTo(expected);
+  }
 
-    service.deleteByAuthorityIdIn(authorityIds);
+  @Test
+  void updateStatus_positive_byLinkIds() {
+    var linkIds = List.of(1L, 2L);
+
+    service.updateStatus(linkIds, InstanceAuthorityLinkStatus.ERROR, " error ");
+
+    verify(instanceLinkRepository).updateStatusAndErrorCauseByIds(InstanceAuthorityLinkStatus.ERROR, "error", linkIds);
+  }
+
+  @Test
+  void reconcileLinksCount_positive() {
+    service.reconcileLinksCount();
 
-    verify(instanceLinkRepository).deleteByAuthorityIds(authorityIds);
+    verify(authorityLinkCountRepository).upsertDriftedCounts();
+    verify(authorityLinkCountRepository).deleteOrphanedCounts();
   }
 
   @Test
-  void saveAll_positive() {
-    var instanceId = UUID.randomUUID();
-    var links = links(2);
+  void deleteByIds_positive() {
+    var linkIds = List.of(1L, 2L);
+
+    service.deleteByIds(linkIds);
+
+    verify(instanceLinkRepository).deleteAllByIdInBatch(linkIds);
+  }
+
+  @Test
+  void getLinksByAuthorityId_positive_nextChunk() {
+    var authorityId = randomUUID();
+    var links = List.of(Link.of(0, 1).toEntity(randomUUID()));
+    when(instanceLinkRepository.findByAuthorityIdAfterId(authorityId, 10L, PageRequest.of(0, 5))).thenReturn(links);
 
-    service.saveAll(instanceId, links);
+    var actual = service.getLinksByAuthorityId(authorityId, 10L, 5);
 
-    verify(instanceLinkRepository).saveAll(links);
+    assertThat(actual).isEqualTo(links);
   }
 
   @Test
@@ -328,7 +245,7 @@ class InstanceAuthorityLinkingServiceTest {
     var fromDate = OffsetDateTime.now();
     var toDate = fromDate.plus(1, ChronoUnit.DAYS);
     var limit = 1;
-    var pageable = PageRequest.of(0, limit, Sort.by(Sort.Order.desc("updatedAt")));
+    var pageable = PageRequest.of(0, limit, Sort.by(Sort.Order.desc("updatedAt"), Sort.Order.desc("id")));
     var expectedLinks = singletonList(InstanceAuthorityLink.builder()
       .id(1L)
       .build());
@@ -336,7 +253,7 @@ class InstanceAuthorityLinkingServiceTest {
     when(instanceLinkRepository.findAll(any(Specification.class), eq(pageable)))
       .thenReturn(new PageImpl<>(expectedLinks, pageable, 0));
 
-    var links = service.getLinks(status, fromDate, toDate, limit);
+    var links = service.getLinks(status, fromDate, toDate, 2L, limit);
 
     assertThat(links)
       .isEqualTo(expectedLinks);
@@ -362,11 +279,11 @@ class InstanceAuthorityLinkingServiceTest {
   }
 
   private void mockAuthorities(List<InstanceAuthorityLink> links) {
-    var authoritiesById = links.stream()
-        .map(InstanceAuthorityLink::getAuthority)
-        .collect(Collectors.toMap(Authority::getId, Function.identity()));
+    var authorityIds = links.stream()
+        .map(link -> link.getAuthority().getId())
+        .collect(Collectors.toSet());
 
-    when(authorityService.getAllByIds(anyCollection())).thenReturn(authoritiesById);
+    when(authorityService.getNotDeletedIds(anyCollection())).thenReturn(authorityIds);
   }
 
 }
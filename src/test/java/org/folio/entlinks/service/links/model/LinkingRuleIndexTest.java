@@ -0,0 +1,84 @@
+package org.folio.entlinks.service.links.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.folio.entlinks.domain.dto.SubfieldModification;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLinkingRule;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class LinkingRuleIndexTest {
+
+  private static final InstanceAuthorityLinkingRule RULE_100 = rule(1, "100", new char[] {'a', 'b', 't'},
+    List.of(new SubfieldModification().source("t").target("a"), new SubfieldModification().source("t").target("b")));
+  private static final InstanceAuthorityLinkingRule RULE_240 = rule(2, "240", new char[] {'f', 'g'}, List.of());
+  private static final InstanceAuthorityLinkingRule RULE_600 = rule(3, "600", new char[] {'a'}, null);
+
+  @Test
+  void of_positive_indexesRules() {
+    var index = LinkingRuleIndex.of(List.of(RULE_600, RULE_100, RULE_240));
+
+    assertThat(index.isEmpty()).isFalse();
+    assertThat(index.getRules()).containsExactly(RULE_100, RULE_240, RULE_600);
+    assertThat(index.getRule(2)).isSameAs(RULE_240);
+    assertThat(index.getRule(4)).isNull();
+    assertThat(index.getRule(null)).isNull();
+    assertThat(index.getRulesByBibField())
+      .containsOnlyKeys("100", "240", "600")
+      .containsEntry("240", List.of(RULE_240));
+    assertThat(index.getRulesByAuthorityField("100")).containsExactly(RULE_100, RULE_240, RULE_600);
+    assertThat(index.getRulesByAuthorityField("110")).isEmpty();
+  }
+
+  @Test
+  void of_positive_indexIsImmutable() {
+    var index = LinkingRuleIndex.of(List.of(RULE_100));
+
+    var rules = index.getRules();
+    var rulesByBibField = index.getRulesByBibField();
+    assertThatThrownBy(() -> rules.add(RULE_240)).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> rulesByBibField.put("240", List.of(RULE_240)))
+      .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void getSubfields_positive_precomputedTables() {
+    var index = LinkingRuleIndex.of(List.of(RULE_100, RULE_600));
+
+    var subfields = index.getSubfields(RULE_100);
+
+    assertThat(index.getSubfields(RULE_100)).isSameAs(subfields);
+    assertThat(subfields.isControlled('a')).isTrue();
+    assertThat(subfields.isControlled('t')).isTrue();
+    assertThat(subfields.isControlled('d')).isFalse();
+    assertThat(subfields.isControlled('ä')).isFalse();
+    assertThat(subfields.getTargetCode('t')).as("First modification wins").isEqualTo('a');
+    assertThat(subfields.getTargetCode('b')).isEqualTo('b');
+    assertThat(subfields.getAuthoritySubfields()).containsExactly('a', 'b', 't');
+    assertThat(index.getSubfields(RULE_600).getTargetCode('a')).isEqualTo('a');
+  }
+
+  @Test
+  void getSubfields_positive_notIndexedRule() {
+    var index = LinkingRuleIndex.of(List.of(RULE_100));
+
+    var subfields = index.getSubfields(RULE_240);
+
+    assertThat(subfields.isControlled('f')).isTrue();
+    assertThat(subfields.isControlled('a')).isFalse();
+  }
+
+  private static InstanceAuthorityLinkingRule rule(Integer id, String bibField, char[] authoritySubfields,
+                                                   List<SubfieldModification> modifications) {
+    return InstanceAuthorityLinkingRule.builder()
+      .id(id)
+      .bibField(bibField)
+      .authorityField("100")
+      .authoritySubfields(authoritySubfields)
+      .subfieldModifications(modifications)
+      .build();
+  }
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.when;
 import java.util.List;
 import java.util.Map;
 import lombok.SneakyThrows;
+import org.folio.entlinks.integration.dto.AuthorityMappingRules;
 import org.folio.entlinks.integration.internal.MappingRulesService;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeField;
 import org.folio.spring.testing.type.UnitTest;
@@ -26,14 +27,31 @@ class AuthorityMappingRulesProcessingServiceTest {
   @Test
   @SneakyThrows
   void getTagByAuthorityChange_positive() {
-    when(mappingRulesService.getFieldTargetsMappingRelations()).thenReturn(Map.of(
+    when(mappingRulesService.getAuthorityMappingRules()).thenReturn(AuthorityMappingRules.of(Map.of(
       "100", List.of("corporateName", "personalName"),
       "200", emptyList()
-    ));
+    )));
 
     var actual = service.getTagByAuthorityChangeField(AuthorityChangeField.PERSONAL_NAME);
 
     assertEquals("100", actual);
   }
 
+  @Test
+  void getFieldTagRelations_positive() {
+    when(mappingRulesService.getAuthorityMappingRules()).thenReturn(AuthorityMappingRules.of(Map.of(
+      "110", List.of("corporateName", "personalName"),
+      "100", List.of("personalName", "personalNameTitle"),
+      "010", List.of("naturalId")
+    )));
+
+    var actual = service.getFieldTagRelations();
+
+    assertEquals(Map.of(
+      AuthorityChangeField.PERSONAL_NAME, "100",
+      AuthorityChangeField.PERSONAL_NAME_TITLE, "100",
+      AuthorityChangeField.CORPORATE_NAME, "110",
+      AuthorityChangeField.NATURAL_ID, "010"), actual);
+  }
+
 }
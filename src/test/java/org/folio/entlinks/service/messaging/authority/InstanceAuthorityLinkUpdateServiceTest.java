@@ -44,6 +44,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.dao.DataRetrievalFailureException;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -73,7 +75,7 @@ class InstanceAuthorityLinkUpdateServiceTest {
 
     service = new InstanceAuthorityLinkUpdateService(authorityDataStatService,
       mappingRulesProcessingService, linkingService, eventProducer, List.of(updateHandler, deleteHandler),
-      sourceRecordService, consortiumTenantsService, folioExecutionContext, executionService);
+      sourceRecordService, consortiumTenantsService, folioExecutionContext, executionService, new SyncTaskExecutor());
   }
 
   @Test
@@ -185,10 +187,9 @@ class InstanceAuthorityLinkUpdateServiceTest {
     final var memberTenants = List.of("tenant1", "tenant2");
 
     var expected = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.UPDATE);
-    when(linkingService.countLinksByAuthorityIds(Set.of(id)))
-      .thenReturn(Map.of(id, 1))
-      .thenReturn(Map.of(id, 2))
-      .thenReturn(Map.of(id, 3));
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
+    when(linkingService.countLinksByTenantsAndAuthorityIds(memberTenants, Set.of(id)))
+      .thenReturn(Map.of(memberTenants.get(0), Map.of(id, 2), memberTenants.get(1), Map.of(id, 3)));
     when(sourceRecordService.getAuthoritySourceRecordById(any())).thenReturn(sourceRecord);
     when(updateHandler.handle(changeHolderCaptor.capture())).thenReturn(List.of(expected));
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
@@ -215,6 +216,85 @@ class InstanceAuthorityLinkUpdateServiceTest {
     verify(authorityDataStatService, times(3)).createInBatch(anyList());
   }
 
+  @Test
+  void handleAuthoritiesChanges_positive_skipMemberTenantsWithoutLinks() {
+    final var id = UUID.randomUUID();
+    final var authorityEvents = List.of(
+      new AuthorityDomainEvent(id, null, new AuthorityDto().naturalId("new").personalName("test"),
+        DomainEventType.UPDATE, TENANT_ID));
+    final var memberTenants = List.of("tenant1", "tenant2");
+
+    var expected = new LinksChangeEvent().type(LinksChangeEvent.TypeEnum.UPDATE);
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Collections.emptyMap());
+    when(linkingService.countLinksByTenantsAndAuthorityIds(memberTenants, Set.of(id)))
+      .thenReturn(Map.of(memberTenants.get(1), Map.of(id, 2)));
+    when(sourceRecordService.getAuthoritySourceRecordById(any())).thenReturn(null);
+    when(updateHandler.handle(changeHolderCaptor.capture())).thenReturn(List.of(expected));
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(consortiumTenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(memberTenants);
+    mockExecutionService();
+
+    service.handleAuthoritiesChanges(authorityEvents);
+
+    verify(executionService, never()).executeSystemUserScoped(eq(memberTenants.get(0)), any());
+    verify(executionService).executeSystemUserScoped(eq(memberTenants.get(1)), any());
+    verify(eventProducer).sendMessages(List.of(expected));
+    verify(authorityDataStatService, times(2)).createInBatch(anyList());
+    assertThat(changeHolderCaptor.getValue())
+      .extracting(AuthorityChangeHolder::getNumberOfLinks)
+      .containsExactly(2);
+  }
+
+  @Test
+  void handleAuthoritiesChanges_positive_deleteShadowAuthoritiesInMemberTenantsWithoutLinks() {
+    final var id = UUID.randomUUID();
+    final var authorityEvents = List.of(
+      new AuthorityDomainEvent(id, new AuthorityDto().naturalId("old"), null, DomainEventType.DELETE,
+        AuthorityDeleteEventSubType.SOFT_DELETE, TENANT_ID));
+    final var memberTenants = List.of("tenant1");
+
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Collections.emptyMap());
+    when(linkingService.countLinksByTenantsAndAuthorityIds(memberTenants, Set.of(id)))
+      .thenReturn(Collections.emptyMap());
+    when(deleteHandler.handle(changeHolderCaptor.capture())).thenReturn(List.of(new LinksChangeEvent()));
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(consortiumTenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(memberTenants);
+    mockExecutionService();
+
+    service.handleAuthoritiesChanges(authorityEvents);
+
+    verify(executionService).executeSystemUserScoped(eq(memberTenants.get(0)), any());
+    verify(deleteHandler, times(2)).handle(anyList());
+    verify(authorityDataStatService, times(2)).createInBatch(anyList());
+    verify(linkingService).countLinksByAuthorityIds(Set.of(id));
+    assertThat(changeHolderCaptor.getValue())
+      .extracting(AuthorityChangeHolder::getNumberOfLinks)
+      .containsExactly(0);
+  }
+
+  @Test
+  void handleAuthoritiesChanges_positive_countLinksPerMemberTenantWhenCrossTenantCountFailed() {
+    final var id = UUID.randomUUID();
+    final var authorityEvents = List.of(
+      new AuthorityDomainEvent(id, new AuthorityDto().naturalId("old"), null, DomainEventType.DELETE,
+        AuthorityDeleteEventSubType.SOFT_DELETE, TENANT_ID));
+    final var memberTenants = List.of("tenant1");
+
+    when(linkingService.countLinksByAuthorityIds(Set.of(id))).thenReturn(Map.of(id, 1));
+    when(linkingService.countLinksByTenantsAndAuthorityIds(memberTenants, Set.of(id)))
+      .thenThrow(new DataRetrievalFailureException("test"));
+    when(deleteHandler.handle(any())).thenReturn(List.of(new LinksChangeEvent()));
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_ID);
+    when(consortiumTenantsService.getConsortiumTenants(TENANT_ID)).thenReturn(memberTenants);
+    mockExecutionService();
+
+    service.handleAuthoritiesChanges(authorityEvents);
+
+    verify(linkingService, times(2)).countLinksByAuthorityIds(Set.of(id));
+    verify(executionService).executeSystemUserScoped(eq(memberTenants.get(0)), any());
+    verify(eventProducer, times(2)).sendMessages(anyList());
+  }
+
   @SuppressWarnings("unchecked")
   private void mockExecutionService() {
     doAnswer(invocationOnMock -> ((Callable<Object>) invocationOnMock.getArgument(1)).call())
@@ -3,39 +3,50 @@ package org.folio.entlinks.service.messaging.authority.handler;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.folio.entlinks.domain.dto.LinksChangeEvent.TypeEnum;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
-import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.folio.entlinks.config.properties.InstanceAuthorityChangeProperties;
 import org.folio.entlinks.domain.dto.ChangeTarget;
 import org.folio.entlinks.domain.dto.ChangeTargetLink;
 import org.folio.entlinks.domain.dto.LinksChangeEvent;
+import org.folio.entlinks.domain.entity.InstanceAuthorityLink;
 import org.folio.entlinks.integration.dto.event.AuthorityDomainEvent;
+import org.folio.entlinks.integration.kafka.EventProducer;
 import org.folio.entlinks.service.authority.AuthorityService;
+import org.folio.entlinks.service.links.AuthorityDataStatService;
 import org.folio.entlinks.service.links.InstanceAuthorityLinkingService;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeHolder;
 import org.folio.entlinks.service.messaging.authority.model.AuthorityChangeType;
 import org.folio.spring.testing.type.UnitTest;
 import org.folio.support.TestDataUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -44,8 +55,20 @@ class DeleteAuthorityChangeHandlerTest {
   private @Mock InstanceAuthorityLinkingService linkingService;
   private @Mock InstanceAuthorityChangeProperties properties;
   private @Mock AuthorityService authorityService;
+  private @Mock AuthorityDataStatService dataStatService;
+  private @Mock EventProducer<LinksChangeEvent> eventProducer;
+  private @Mock PlatformTransactionManager transactionManager;
   private @InjectMocks DeleteAuthorityChangeHandler handler;
 
+  private @Captor ArgumentCaptor<List<LinksChangeEvent>> eventsCaptor;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(properties.getNumPartitions()).thenReturn(2);
+    lenient().when(eventProducer.sendMessages(anyList()))
+      .thenReturn(CompletableFuture.completedFuture(null));
+  }
+
   @Test
   void getReplyEventType_positive() {
     var actual = handler.getReplyEventType();
@@ -61,42 +84,76 @@ class DeleteAuthorityChangeHandlerTest {
   }
 
   @Test
-  void handle_positive() {
-    var eventIds = Set.of(UUID.randomUUID(), UUID.randomUUID());
-    var events = eventIds.stream()
-      .map(uuid -> new AuthorityChangeHolder(new AuthorityDomainEvent(uuid), emptyMap(), emptyMap(), 1))
-      .toList();
+  void handle_positive_deletesLinksInChunks() {
+    var change1 = change(3);
+    var change2 = change(1);
     var instanceId1 = UUID.randomUUID();
     var instanceId2 = UUID.randomUUID();
     var instanceId3 = UUID.randomUUID();
+    var instanceId4 = UUID.randomUUID();
     var link1 = TestDataUtils.Link.of(1, 1);
-    var link2 = TestDataUtils.Link.of(0, 2);
-    var link3 = TestDataUtils.Link.of(2, 1);
-
-    doNothing().when(linkingService).deleteByAuthorityIdIn(anySet());
-    when(properties.getNumPartitions()).thenReturn(1);
-    when(linkingService.getLinksByAuthorityId(eq(events.get(0).getAuthorityId()), any())).thenReturn(
-      new PageImpl<>(List.of(link1.toEntity(instanceId1)), Pageable.ofSize(1), 2)
-    ).thenReturn(
-      new PageImpl<>(List.of(link2.toEntity(instanceId2)))
-    );
-    when(linkingService.getLinksByAuthorityId(eq(events.get(1).getAuthorityId()), any())).thenReturn(
-      new PageImpl<>(List.of(link3.toEntity(instanceId3)))
-    );
-
-    var actual = handler.handle(events);
-
-    verify(linkingService).deleteByAuthorityIdIn(eventIds);
-
-    assertThat(actual)
-      .hasSize(3)
-      .extracting(LinksChangeEvent::getAuthorityId, LinksChangeEvent::getType, LinksChangeEvent::getUpdateTargets)
-      .contains(
-        tuple(events.get(0).getAuthorityId(), TypeEnum.DELETE, List.of(changeTarget(instanceId1, link1))),
-        tuple(events.get(0).getAuthorityId(), TypeEnum.DELETE, List.of(changeTarget(instanceId2, link2))),
-        tuple(events.get(1).getAuthorityId(), TypeEnum.DELETE, List.of(changeTarget(instanceId3, link3)))
-      );
-    verify(authorityService).batchDeleteByIds(anyCollection());
+    var link2 = TestDataUtils.Link.of(0, 1);
+    var link3 = TestDataUtils.Link.of(1, 1);
+    var link4 = TestDataUtils.Link.of(2, 1);
+    when(linkingService.getLinksByAuthorityId(change1.getAuthorityId(), 0L, 2))
+      .thenReturn(List.of(entity(link1, instanceId1, 1L), entity(link2, instanceId2, 3L)));
+    when(linkingService.getLinksByAuthorityId(change1.getAuthorityId(), 3L, 2))
+      .thenReturn(List.of(entity(link3, instanceId3, 7L)));
+    when(linkingService.getLinksByAuthorityId(change2.getAuthorityId(), 0L, 2))
+      .thenReturn(List.of(entity(link4, instanceId4, 2L)));
+
+    var actual = handler.handle(List.of(change1, change2));
+
+    assertThat(actual).isEmpty();
+    verify(linkingService).deleteByIds(List.of(1L, 3L));
+    verify(linkingService).deleteByIds(List.of(7L));
+    verify(linkingService).deleteByIds(List.of(2L));
+    verify(dataStatService).updateProgress(change1.getAuthorityDataStatId(), 2);
+    verify(dataStatService).updateProgress(change1.getAuthorityDataStatId(), 1);
+    verify(dataStatService).updateProgress(change2.getAuthorityDataStatId(), 1);
+    verify(eventProducer, times(3)).sendMessages(eventsCaptor.capture());
+    assertThat(eventsCaptor.getAllValues())
+      .flatExtracting(events -> events)
+      .extracting(LinksChangeEvent::getJobId, LinksChangeEvent::getAuthorityId, LinksChangeEvent::getType,
+        LinksChangeEvent::getUpdateTargets)
+      .containsExactly(
+        tuple(change1.getAuthorityDataStatId(), change1.getAuthorityId(), TypeEnum.DELETE,
+          List.of(new ChangeTarget().field(link1.tag()).links(List.of(
+            new ChangeTargetLink().linkId(1L).instanceId(instanceId1),
+            new ChangeTargetLink().linkId(3L).instanceId(instanceId2))))),
+        tuple(change1.getAuthorityDataStatId(), change1.getAuthorityId(), TypeEnum.DELETE,
+          List.of(changeTarget(link3.tag(), instanceId3, 7L))),
+        tuple(change2.getAuthorityDataStatId(), change2.getAuthorityId(), TypeEnum.DELETE,
+          List.of(changeTarget(link4.tag(), instanceId4, 2L))));
+    verify(authorityService).batchDeleteByIds(List.of(change1.getAuthorityId(), change2.getAuthorityId()));
+  }
+
+  @Test
+  void handle_positive_authorityWithoutLinks() {
+    var change = change(0);
+
+    var actual = handler.handle(List.of(change));
+
+    assertThat(actual).isEmpty();
+    verify(linkingService, never()).getLinksByAuthorityId(any(UUID.class), anyLong(), anyInt());
+    verify(authorityService).batchDeleteByIds(List.of(change.getAuthorityId()));
+  }
+
+  @Test
+  void handle_negative_sendingFailed() {
+    var change = change(1);
+    var link = TestDataUtils.Link.of(0, 1);
+    when(linkingService.getLinksByAuthorityId(change.getAuthorityId(), 0L, 2))
+      .thenReturn(List.of(entity(link, UUID.randomUUID(), 1L)));
+    when(eventProducer.sendMessages(anyList()))
+      .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("Kafka is down")));
+
+    var changes = List.of(change);
+    assertThatThrownBy(() -> handler.handle(changes)).hasMessageContaining("Kafka is down");
+
+    verify(linkingService, never()).deleteByIds(anyCollection());
+    verify(dataStatService).fail(eq(change.getAuthorityDataStatId()), anyString());
+    verify(authorityService, never()).batchDeleteByIds(anyCollection());
   }
 
   @Test
@@ -113,8 +170,21 @@ class DeleteAuthorityChangeHandlerTest {
     assertThat(actual).isEmpty();
   }
 
-  private ChangeTarget changeTarget(UUID instanceId, TestDataUtils.Link link) {
-    return new ChangeTarget().field(link.tag()).links(
-      Collections.singletonList(new ChangeTargetLink().instanceId(instanceId)));
+  private AuthorityChangeHolder change(int numberOfLinks) {
+    var change = new AuthorityChangeHolder(new AuthorityDomainEvent(UUID.randomUUID()), emptyMap(), emptyMap(),
+      numberOfLinks);
+    change.setAuthorityDataStatId(UUID.randomUUID());
+    return change;
+  }
+
+  private InstanceAuthorityLink entity(TestDataUtils.Link link, UUID instanceId, long id) {
+    var entity = link.toEntity(instanceId);
+    entity.setId(id);
+    return entity;
+  }
+
+  private ChangeTarget changeTarget(String tag, UUID instanceId, long linkId) {
+    return new ChangeTarget().field(tag).links(
+      Collections.singletonList(new ChangeTargetLink().linkId(linkId).instanceId(instanceId)));
   }
 }
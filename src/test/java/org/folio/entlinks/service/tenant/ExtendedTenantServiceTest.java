@@ -6,6 +6,10 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.folio.entlinks.config.properties.AuthorityArchiveProperties;
+import org.folio.entlinks.integration.CachedSettingsService;
+import org.folio.entlinks.service.authority.AuthorityArchiveService;
+import org.folio.entlinks.service.consortium.ConsortiumTopologyCache;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.service.PrepareSystemUserService;
 import org.folio.spring.testing.type.UnitTest;
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @UnitTest
@@ -29,6 +34,14 @@ class ExtendedTenantServiceTest {
   private KafkaAdminService kafkaAdminService;
   @Mock
   private PrepareSystemUserService prepareSystemUserService;
+  @Mock
+  private ConsortiumTopologyCache consortiumTopologyCache;
+  @Mock
+  private AuthorityArchiveService authorityArchiveService;
+  @Spy
+  private AuthorityArchiveProperties authorityArchiveProperties = new AuthorityArchiveProperties();
+  @Mock
+  private CachedSettingsService cachedSettingsService;
 
   @Test
   void initializeTenant_positive() {
@@ -42,6 +55,9 @@ class ExtendedTenantServiceTest {
     verify(prepareSystemUserService).setupSystemUser();
     verify(kafkaAdminService).createTopics(TENANT_ID);
     verify(kafkaAdminService).restartEventListeners();
+    verify(consortiumTopologyCache).invalidate(TENANT_ID);
+    verify(cachedSettingsService).invalidate(TENANT_ID);
+    verify(authorityArchiveService).createPartitions(authorityArchiveProperties.getPartitionsAhead());
   }
 
   @Test
@@ -49,6 +65,8 @@ class ExtendedTenantServiceTest {
     when(context.getTenantId()).thenReturn(TENANT_ID);
     tenantService.afterTenantDeletion(tenantAttributes());
     verify(kafkaAdminService).deleteTopics(anyString());
+    verify(consortiumTopologyCache).invalidate(TENANT_ID);
+    verify(cachedSettingsService).invalidate(TENANT_ID);
   }
 
   private TenantAttributes tenantAttributes() {
@@ -259,6 +259,12 @@ public class IntegrationTestBase {
     return tryPost(uri, body, headers, args).andExpect(status().is2xxSuccessful());
   }
 
+  @SneakyThrows
+  protected static <T> T doGetAndReturn(String uri, Class<T> responseClass, Object... args) {
+    var content = doGet(uri, args).andReturn().getResponse().getContentAsString();
+    return objectMapper.readValue(content, responseClass);
+  }
+
   @SneakyThrows
   protected static <T> T doPostAndReturn(String uri, Object body, Class<T> responseClass, Object... args) {
     var content = doPost(uri, body, defaultHeaders(), args).andReturn().getResponse().getContentAsString();
@@ -38,6 +38,8 @@ public class TestConstants {
 
   private static final String INSTANCE_LINKS_ENDPOINT_PATH = "/links/instances/{id}";
   private static final String AUTHORITY_LINKS_COUNT_ENDPOINT_PATH = "/links/authorities/bulk/count";
+  private static final String INSTANCES_LINKS_BULK_ENDPOINT_PATH = "/links/instances/bulk";
+  private static final String AUTHORITY_LINKS_COUNT_RECONCILE_ENDPOINT_PATH = "/links/authorities/count/reconcile";
   private static final String LINKS_SUGGESTIONS_ENDPOINT = "/links-suggestions/marc";
   private static final String LINKS_STATS_INSTANCE_ENDPOINT_PATH = "/links/stats/instance";
   private static final String LINKS_STATS_INSTANCE_ENDPOINT_PARAMS = "?status=%s&fromDate=%s&toDate=%s";
@@ -94,6 +96,14 @@ public class TestConstants {
     return AUTHORITY_LINKS_COUNT_ENDPOINT_PATH;
   }
 
+  public static String linksInstancesBulkEndpoint() {
+    return INSTANCES_LINKS_BULK_ENDPOINT_PATH;
+  }
+
+  public static String authoritiesLinksCountReconcileEndpoint() {
+    return AUTHORITY_LINKS_COUNT_RECONCILE_ENDPOINT_PATH;
+  }
+
   public static String linksStatsInstanceEndpoint() {
     return LINKS_STATS_INSTANCE_ENDPOINT_PATH;
   }
@@ -141,6 +151,10 @@ public class TestConstants {
     return AUTHORITY_STORAGE_EXPIRE_ENDPOINT;
   }
 
+  public static String authorityExpireJobEndpoint(UUID jobId) {
+    return AUTHORITY_STORAGE_EXPIRE_ENDPOINT + "/jobs/" + jobId;
+  }
+
   public static String authorityReindexEndpoint() {
     return AUTHORITY_STORAGE_REINDEX_ENDPOINT;
   }